@@ -0,0 +1,170 @@
+package bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal JMH-style harness: warmup and measurement iterations of fixed wall
+ * time, reporting throughput and allocated bytes per operation.
+ *
+ * Allocation comes from the per-thread allocation counter of the HotSpot
+ * ThreadMXBean, the same source JMH's -prof gc uses, summed over every live
+ * thread so work handed to a pool is counted. A thread that ends during an
+ * iteration takes its count with it.
+ *
+ * Usage: java -cp out:bench-out bench.BenchRunner [regex] [-wi N] [-i N] [-t millis]
+ */
+public final class BenchRunner {
+
+    /**
+     * One benchmark operation. The returned value is consumed so the JIT cannot drop the work.
+     */
+    public interface Op {
+        Object run();
+    }
+
+    /**
+     * Builds the state of a benchmark and returns the operation to time.
+     */
+    public interface Setup {
+        Op create();
+    }
+
+    /**
+     * A named benchmark.
+     */
+    public static final class Case {
+        final String name;
+        final Setup setup;
+
+        public Case(String name, Setup setup) {
+            this.name = name;
+            this.setup = setup;
+        }
+    }
+
+    private static volatile Object sink;
+
+    private final int warmupIterations;
+    private final int iterations;
+    private final long iterationNanos;
+    private final com.sun.management.ThreadMXBean threads;
+
+    public BenchRunner(int warmupIterations, int iterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.iterations = iterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+        this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Run one benchmark and print a result line.
+     */
+    public void run(Case bench) {
+        Op op = bench.setup.create();
+        for (int i = 0; i < warmupIterations; i++) {
+            iteration(op);
+        }
+
+        double[] nsPerOp = new double[iterations];
+        double bytesPerOp = 0;
+        for (int i = 0; i < iterations; i++) {
+            double[] result = iteration(op);
+            nsPerOp[i] = result[0];
+            bytesPerOp += result[1] / iterations;
+        }
+
+        double mean = 0;
+        for (double v : nsPerOp) mean += v / iterations;
+        double variance = 0;
+        for (double v : nsPerOp) variance += (v - mean) * (v - mean) / Math.max(1, iterations - 1);
+
+        System.out.printf("%-36s %14.1f %10.1f %12.1f %14.1f%n",
+                bench.name, mean, Math.sqrt(variance), 1e9 / mean, bytesPerOp);
+    }
+
+    /**
+     * Call op until the iteration time is used up.
+     *
+     * @return {ns/op, bytes/op}
+     */
+    private double[] iteration(Op op) {
+        long ops = 0;
+        long batch = 1;
+        Map<Long, Long> bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (long k = 0; k < batch; k++) {
+                sink = op.run();
+            }
+            ops += batch;
+            if (batch < (1 << 16)) batch <<= 1;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < iterationNanos);
+        long bytes = 0;
+        for (Map.Entry<Long, Long> e : allocatedBytes().entrySet()) {
+            // A thread started during the iteration allocated all of its bytes in it
+            bytes += e.getValue() - bytesBefore.getOrDefault(e.getKey(), 0L);
+        }
+        return new double[]{(double) elapsed / ops, (double) bytes / ops};
+    }
+
+    /**
+     * Bytes allocated so far by each live thread, by thread id.
+     */
+    private Map<Long, Long> allocatedBytes() {
+        long[] ids = threads.getAllThreadIds();
+        long[] bytes = threads.getThreadAllocatedBytes(ids);
+        Map<Long, Long> byThread = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            if (bytes[i] >= 0) byThread.put(ids[i], bytes[i]); // -1: the thread has ended
+        }
+        return byThread;
+    }
+
+    /**
+     * Every benchmark in the suite.
+     */
+    public static List<Case> allCases() {
+        List<Case> cases = new ArrayList<>();
+        cases.addAll(CombatBench.cases());
+        cases.addAll(MapQueryBench.cases());
+        cases.addAll(MonsterAIBench.cases());
+        cases.addAll(SpawnBench.cases());
+        cases.addAll(LoaderBench.cases());
+        cases.addAll(HeroBench.cases());
+        cases.addAll(SnapshotBench.cases());
+        cases.addAll(SearchBench.cases());
+        return cases;
+    }
+
+    public static void main(String[] args) {
+        Pattern filter = Pattern.compile(".*");
+        int warmup = 3;
+        int measure = 5;
+        long millis = 500;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-wi" -> warmup = Integer.parseInt(args[++i]);
+                case "-i" -> measure = Integer.parseInt(args[++i]);
+                case "-t" -> millis = Long.parseLong(args[++i]);
+                default -> filter = Pattern.compile(args[i]);
+            }
+        }
+
+        BenchRunner runner = new BenchRunner(warmup, measure, millis);
+        System.out.printf("# Warmup: %d x %d ms, Measurement: %d x %d ms%n", warmup, millis, measure, millis);
+        System.out.printf("%-36s %14s %10s %12s %14s%n", "Benchmark", "ns/op", "error", "ops/s", "B/op");
+        for (Case bench : allCases()) {
+            if (filter.matcher(bench.name).find()) {
+                runner.run(bench);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Equivalence checks for the fast paths: each runs an optimized routine and
+ * the plain object code it stands in for on the same inputs, and fails if
+ * they disagree. Run them after changing the combat formulas, the battle
+ * loop or match snapshots.
+ *
+ * Usage: java -cp out:bench-out bench.CheckRunner [regex]
+ * Exits with status 1 if any selected check fails.
+ */
+public final class CheckRunner {
+
+    /**
+     * One check. Returns a one-line summary of what agreed; throws if something did not.
+     */
+    public interface Check {
+        String run() throws Exception;
+    }
+
+    /**
+     * A named check.
+     */
+    public static final class Case {
+        final String name;
+        final Check check;
+
+        public Case(String name, Check check) {
+            this.name = name;
+            this.check = check;
+        }
+    }
+
+    private CheckRunner() {
+    }
+
+    /**
+     * Fail the running check with the given message unless condition holds.
+     */
+    static void expect(boolean condition, String message) {
+        if (!condition) throw new IllegalStateException(message);
+    }
+
+    /**
+     * Every check in the suite.
+     */
+    public static List<Case> allCases() {
+        List<Case> cases = new ArrayList<>();
+        cases.addAll(CombatChecks.cases());
+        cases.addAll(ReplayChecks.cases());
+        cases.addAll(ValorChecks.cases());
+        return cases;
+    }
+
+    public static void main(String[] args) {
+        Pattern filter = Pattern.compile(args.length > 0 ? args[0] : ".*");
+        int failed = 0;
+        for (Case c : allCases()) {
+            if (!filter.matcher(c.name).find()) continue;
+            long start = System.nanoTime();
+            String result;
+            try {
+                result = "ok      " + c.check.run();
+            } catch (Exception | AssertionError e) {
+                result = "FAILED  " + e;
+                failed++;
+            }
+            System.out.printf("%-28s %s (%.0f ms)%n", c.name, result, (System.nanoTime() - start) / 1e6);
+        }
+        if (failed > 0) {
+            System.out.println(failed + " check(s) failed");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package bench;
+
+import java.util.List;
+
+import character.hero.Hero;
+import character.monster.Monster;
+import game.CombatEvaluator;
+import game.CombatKernel;
+import item.Spell;
+import util.Dice;
+
+/**
+ * Hero.attack, Hero.castSpell and Monster.takeDamage in a loop against one target,
+ * the same formulas over 4096 exchanges per call through CombatKernel, and the
+ * exact outcome of a two-on-two classic battle, solved and cached.
+ */
+final class CombatBench {
+    private static final int BATCH = 4096;
+
+    private CombatBench() {
+    }
+
+    static List<BenchRunner.Case> cases() {
+        return List.of(
+                new BenchRunner.Case("combat.heroAttack", () -> {
+                    Hero hero = Fixtures.hero(0);
+                    Monster target = Fixtures.monster(0);
+                    Dice dice = new Dice(Fixtures.SEED);
+                    return () -> {
+                        hero.attack(target, dice);
+                        if (!target.isAlive()) target.resetHP();
+                        return target;
+                    };
+                }),
+                new BenchRunner.Case("combat.castSpell", () -> {
+                    Hero hero = Fixtures.hero(2);
+                    Spell spell = hero.getInventory().getSpells().get(0);
+                    Monster template = Fixtures.monster(1);
+                    Monster target = Fixtures.monster(1);
+                    Dice dice = new Dice(Fixtures.SEED);
+                    return () -> {
+                        // Spells weaken the target and cost mana; undo both so every cast is alike
+                        hero.setMana(hero.getMaxMana());
+                        target.setDefense(template.getDefense());
+                        target.setDodgeChance(template.getDodgeChance());
+                        target.setBaseDamage(template.getBaseDamage());
+                        hero.castSpell(spell, target, dice);
+                        if (!target.isAlive()) target.resetHP();
+                        return target;
+                    };
+                }),
+                new BenchRunner.Case("combat.monsterTakeDamage", () -> {
+                    Monster target = Fixtures.monster(2);
+                    return () -> {
+                        target.takeDamage(700);
+                        if (!target.isAlive()) target.resetHP();
+                        return target;
+                    };
+                }),
+                new BenchRunner.Case("combat.kernel.heroAttacks.4096", () -> {
+                    Batch b = new Batch();
+                    return () -> {
+                        System.arraycopy(b.maxHP, 0, b.hp, 0, BATCH);
+                        CombatKernel.heroAttacks(BATCH, b.strength, b.weaponDamage, b.rolls, b.dodge, b.defense, b.hp);
+                        return b.hp;
+                    };
+                }),
+                new BenchRunner.Case("combat.kernel.castSpells.4096", () -> {
+                    Batch b = new Batch();
+                    return () -> {
+                        // Undo the previous call's hits, mana and debuffs so every call is alike
+                        System.arraycopy(b.maxHP, 0, b.hp, 0, BATCH);
+                        System.arraycopy(b.maxMana, 0, b.mana, 0, BATCH);
+                        System.arraycopy(b.baseDefense, 0, b.defense, 0, BATCH);
+                        System.arraycopy(b.baseDamage, 0, b.damage, 0, BATCH);
+                        System.arraycopy(b.baseDodge, 0, b.dodge, 0, BATCH);
+                        CombatKernel.castSpells(BATCH, b.spellDamage, b.manaCost, b.element, b.dexterity, b.mana,
+                                b.rolls, b.dodge, b.defense, b.damage, b.hp);
+                        return b.hp;
+                    };
+                }),
+                new BenchRunner.Case("combat.evaluate", () -> {
+                    List<Hero> heroes = Fixtures.duelHeroes();
+                    List<Monster> monsters = Fixtures.duelMonsters();
+                    CombatEvaluator evaluator = new CombatEvaluator();
+                    return () -> {
+                        evaluator.clearCache();
+                        return evaluator.evaluate(heroes, monsters);
+                    };
+                }),
+                new BenchRunner.Case("combat.evaluate.cached", () -> {
+                    List<Hero> heroes = Fixtures.duelHeroes();
+                    List<Monster> monsters = Fixtures.duelMonsters();
+                    CombatEvaluator evaluator = new CombatEvaluator();
+                    return () -> evaluator.evaluate(heroes, monsters);
+                })
+        );
+    }
+
+    /**
+     * BATCH hero-monster pairs from the fixtures, flattened into arrays, with rolls from the shared seed.
+     */
+    private static final class Batch {
+        final int[] strength = new int[BATCH];
+        final int[] weaponDamage = new int[BATCH];
+        final int[] dexterity = new int[BATCH];
+        final int[] maxMana = new int[BATCH];
+        final int[] mana = new int[BATCH];
+        final int[] spellDamage = new int[BATCH];
+        final int[] manaCost = new int[BATCH];
+        final int[] element = new int[BATCH];
+        final int[] maxHP = new int[BATCH];
+        final int[] hp = new int[BATCH];
+        final int[] baseDefense = new int[BATCH];
+        final int[] defense = new int[BATCH];
+        final int[] baseDamage = new int[BATCH];
+        final int[] damage = new int[BATCH];
+        final double[] baseDodge = new double[BATCH];
+        final double[] dodge = new double[BATCH];
+        final double[] rolls = new double[BATCH];
+
+        Batch() {
+            for (int i = 0; i < BATCH; i++) {
+                Hero hero = Fixtures.hero(i);
+                Spell spell = hero.getInventory().getSpells().get(0);
+                Monster monster = Fixtures.monster(i);
+                strength[i] = hero.getStrength();
+                weaponDamage[i] = hero.getEquippedWeapon().getDamage();
+                dexterity[i] = hero.getDexterity();
+                maxMana[i] = hero.getMana();
+                spellDamage[i] = spell.getBaseDamage();
+                manaCost[i] = spell.getManaCost();
+                element[i] = CombatKernel.element(spell);
+                maxHP[i] = monster.getMaxHP();
+                baseDefense[i] = monster.getDefense();
+                baseDamage[i] = monster.getDamage();
+                baseDodge[i] = monster.getDodgeChance();
+            }
+            System.arraycopy(baseDodge, 0, dodge, 0, BATCH);
+            System.arraycopy(baseDefense, 0, defense, 0, BATCH);
+            CombatKernel.roll(new Dice(Fixtures.SEED), rolls, BATCH);
+        }
+    }
+}
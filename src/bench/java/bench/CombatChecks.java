@@ -0,0 +1,205 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import character.hero.Hero;
+import character.hero.Stat;
+import character.hero.StatModifier;
+import character.hero.Warrior;
+import character.monster.Monster;
+import character.monster.MonsterCatalog;
+import event.EventBus;
+import game.BattleManager;
+import game.CombatEvaluator;
+import game.CombatKernel;
+import item.Spell;
+import util.Dice;
+import util.GameIO;
+
+/**
+ * CombatEvaluator against the classic battle it models, and CombatKernel
+ * against the Hero and Monster methods whose formulas it copies.
+ */
+final class CombatChecks {
+    private static final int FIGHTS = 200_000;
+    private static final double SIGMAS = 4.5;
+    private static final int PAIRS = 3000;
+
+    private CombatChecks() {
+    }
+
+    static List<CheckRunner.Case> cases() {
+        return List.of(
+                new CheckRunner.Case("combat.evaluate", CombatChecks::evaluatorMatchesBattles),
+                new CheckRunner.Case("combat.kernel", CombatChecks::kernelMatchesObjects)
+        );
+    }
+
+    /**
+     * The exact win probability of the duel fixtures must fall within a few
+     * standard errors of the share won in FIGHTS real BattleManager fights,
+     * played with every hero attacking the first monster standing.
+     */
+    private static String evaluatorMatchesBattles() {
+        List<Hero> heroes = Fixtures.duelHeroes();
+        List<Monster> monsters = Fixtures.duelMonsters();
+        CombatEvaluator.Result exact = new CombatEvaluator().evaluate(heroes, monsters);
+        CheckRunner.expect(exact.getUnresolvedProbability() < 1e-6,
+                "fight left unresolved: " + exact);
+
+        Dice dice = new Dice(Fixtures.SEED);
+        int wins = 0;
+        for (int n = 0; n < FIGHTS; n++) {
+            List<Hero> party = new ArrayList<>(heroes.size());
+            for (Hero hero : heroes) {
+                Hero copy = hero.duplicate();
+                copy.setEvents(EventBus.NONE);
+                party.add(copy);
+            }
+            List<Monster> wave = new ArrayList<>(monsters.size());
+            for (Monster monster : monsters) {
+                Monster copy = monster.duplicate();
+                copy.setEvents(EventBus.NONE);
+                wave.add(copy);
+            }
+            if (new BattleManager(ALWAYS_FIRST, dice, party, wave).fight()) wins++;
+        }
+
+        double p = exact.getWinProbability();
+        double sampled = (double) wins / FIGHTS;
+        double tolerance = SIGMAS * Math.sqrt(p * (1 - p) / FIGHTS);
+        CheckRunner.expect(Math.abs(sampled - p) <= tolerance, String.format(
+                "exact win %.5f, sampled %.5f over %d fights (tolerance %.5f)", p, sampled, FIGHTS, tolerance));
+        return String.format("exact win %.5f, sampled %.5f over %d fights", p, sampled, FIGHTS);
+    }
+
+    /**
+     * PAIRS random hero-monster pairs exchange a weapon attack, a spell and a
+     * monster attack, once through the objects and once through the kernel
+     * with rolls from an equal Dice. Every HP, mana and monster stat must end
+     * up identical.
+     */
+    private static String kernelMatchesObjects() {
+        Random random = new Random(Fixtures.SEED);
+        List<Monster> catalog = MonsterCatalog.getDefault().getAll();
+        Hero[] heroes = new Hero[PAIRS];
+        Monster[] monsters = new Monster[PAIRS];
+        Spell[] spells = new Spell[PAIRS];
+        int[] strength = new int[PAIRS];
+        int[] weaponDamage = new int[PAIRS];
+        int[] dexterity = new int[PAIRS];
+        int[] mana = new int[PAIRS];
+        int[] agility = new int[PAIRS];
+        int[] armor = new int[PAIRS];
+        int[] heroHP = new int[PAIRS];
+        int[] spellDamage = new int[PAIRS];
+        int[] manaCost = new int[PAIRS];
+        int[] element = new int[PAIRS];
+        int[] monsterHP = new int[PAIRS];
+        int[] defense = new int[PAIRS];
+        int[] damage = new int[PAIRS];
+        double[] dodge = new double[PAIRS];
+        double[] rolls = new double[PAIRS];
+
+        for (int i = 0; i < PAIRS; i++) {
+            Hero hero = new Warrior("Warrior" + i, random.nextInt(600), random.nextInt(900),
+                    random.nextInt(400), random.nextInt(900), 100, 7);
+            hero.setEvents(EventBus.NONE);
+            hero.addModifier(StatModifier.add(Stat.AGILITY, -random.nextInt(900)));
+            Monster monster = catalog.get(random.nextInt(catalog.size())).copy();
+            monster.setEvents(EventBus.NONE);
+            monster.setDefense(random.nextInt(300));
+            List<Spell> owned = hero.getInventory().getSpells();
+            Spell spell = owned.get(random.nextInt(owned.size()));
+            heroes[i] = hero;
+            monsters[i] = monster;
+            spells[i] = spell;
+
+            strength[i] = hero.getStrength();
+            weaponDamage[i] = hero.getEquippedWeapon().getDamage();
+            dexterity[i] = hero.getDexterity();
+            mana[i] = hero.getMana();
+            agility[i] = hero.getAgility();
+            armor[i] = hero.getEquippedArmor().getDamageReduction();
+            heroHP[i] = hero.getHP();
+            spellDamage[i] = spell.getBaseDamage();
+            manaCost[i] = spell.getManaCost();
+            element[i] = CombatKernel.element(spell);
+            monsterHP[i] = monster.getCurrentHP();
+            defense[i] = monster.getDefense();
+            damage[i] = monster.getDamage();
+            dodge[i] = monster.getDodgeChance();
+        }
+
+        // Every kernel slot uses its roll; skip the object code's roll wherever it draws none
+        Dice objects = new Dice(Fixtures.SEED);
+        Dice kernel = new Dice(Fixtures.SEED);
+        for (int i = 0; i < PAIRS; i++) {
+            heroes[i].attack(monsters[i], objects);
+        }
+        CombatKernel.roll(kernel, rolls, PAIRS);
+        CombatKernel.heroAttacks(PAIRS, strength, weaponDamage, rolls, dodge, defense, monsterHP);
+
+        for (int i = 0; i < PAIRS; i++) {
+            if (heroes[i].getMana() >= spells[i].getManaCost()) {
+                heroes[i].castSpell(spells[i], monsters[i], objects);
+            } else {
+                objects.nextDouble();
+            }
+        }
+        CombatKernel.roll(kernel, rolls, PAIRS);
+        CombatKernel.castSpells(PAIRS, spellDamage, manaCost, element, dexterity, mana,
+                rolls, dodge, defense, damage, monsterHP);
+
+        for (int i = 0; i < PAIRS; i++) {
+            if (monsters[i].isAlive()) monsters[i].attack(heroes[i], objects);
+            else objects.nextDouble();
+        }
+        CombatKernel.roll(kernel, rolls, PAIRS);
+        CombatKernel.monsterAttacks(PAIRS, monsterHP, damage, rolls, agility, armor, heroHP);
+
+        int defeated = 0;
+        int hit = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            Hero hero = heroes[i];
+            Monster monster = monsters[i];
+            CheckRunner.expect(monsterHP[i] == monster.getCurrentHP() && defense[i] == monster.getDefense()
+                            && damage[i] == monster.getDamage() && dodge[i] == monster.getDodgeChance()
+                            && mana[i] == hero.getMana() && heroHP[i] == hero.getHP(),
+                    "pair " + i + " differs: kernel hp " + monsterHP[i] + " def " + defense[i]
+                            + " dmg " + damage[i] + " dodge " + dodge[i] + " mana " + mana[i]
+                            + " heroHP " + heroHP[i] + ", objects hp " + monster.getCurrentHP()
+                            + " def " + monster.getDefense() + " dmg " + monster.getDamage()
+                            + " dodge " + monster.getDodgeChance() + " mana " + hero.getMana()
+                            + " heroHP " + hero.getHP());
+            if (!monster.isAlive()) defeated++;
+            if (hero.getHP() < hero.getMaxHP()) hit++;
+        }
+        return PAIRS + " pairs identical (" + defeated + " monsters defeated, " + hit + " heroes hit)";
+    }
+
+    // Answers every prompt with 1: attack with the weapon, at the first monster listed
+    private static final GameIO ALWAYS_FIRST = new GameIO() {
+        @Override
+        public String readLine() {
+            return "1";
+        }
+
+        @Override
+        public void print(String text) {
+            // discarded
+        }
+
+        @Override
+        public void println(String text) {
+            // discarded
+        }
+
+        @Override
+        public boolean isSilent() {
+            return true;
+        }
+    };
+}
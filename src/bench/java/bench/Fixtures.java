@@ -0,0 +1,101 @@
+package bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import character.hero.Hero;
+import character.hero.Paladin;
+import character.hero.Sorcerer;
+import character.hero.Stat;
+import character.hero.StatModifier;
+import character.hero.Warrior;
+import character.monster.Monster;
+import character.monster.MonsterCatalog;
+import event.EventBus;
+import util.ConsoleIO;
+import util.Dice;
+import util.GameIO;
+import valor.ValorEngine;
+import valor.ValorMap;
+import valor.ValorMapSpec;
+
+/**
+ * Shared benchmark state: silent heroes, monsters and matches with fixed seeds.
+ */
+final class Fixtures {
+    static final long SEED = 42L;
+
+    // A real console whose bytes go nowhere, so output is formatted and encoded but not shown
+    static final GameIO NULL_CONSOLE = new ConsoleIO(null, new PrintStream(OutputStream.nullOutputStream()));
+
+    private Fixtures() {
+    }
+
+    static Hero hero(int kind) {
+        Hero hero;
+        switch (kind % 3) {
+            case 0 -> hero = new Warrior("Gaerdal_Ironhand", 100, 700, 500, 600, 1354, 7);
+            case 1 -> hero = new Paladin("Parzival", 300, 750, 650, 700, 2500, 7);
+            default -> hero = new Sorcerer("Rillifane_Rallathil", 1300, 750, 450, 500, 2500, 9);
+        }
+        hero.setEvents(EventBus.NONE);
+        return hero;
+    }
+
+    static List<Hero> heroes(int count) {
+        List<Hero> heroes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            heroes.add(hero(i));
+        }
+        return heroes;
+    }
+
+    static Monster monster(int index) {
+        List<Monster> all = MonsterCatalog.getDefault().getAll();
+        Monster monster = all.get(index % all.size()).copy();
+        monster.setEvents(EventBus.NONE);
+        return monster;
+    }
+
+    /**
+     * Two heroes for a classic battle that either side can win: starter gear
+     * makes heroes dodge everything, so their agility is pulled down.
+     */
+    static List<Hero> duelHeroes() {
+        List<Hero> heroes = heroes(2);
+        for (Hero hero : heroes) {
+            hero.addModifier(StatModifier.add(Stat.AGILITY, 200 - hero.getAgility()));
+        }
+        return heroes;
+    }
+
+    /**
+     * The two monsters the {@link #duelHeroes()} fight, toughened to match them.
+     */
+    static List<Monster> duelMonsters() {
+        List<Monster> monsters = List.of(monster(0), monster(5));
+        for (Monster monster : monsters) {
+            monster.setDefense(50);
+            monster.setBaseDamage(1040);
+        }
+        return monsters;
+    }
+
+    /**
+     * A silent match on the given map with one hero per lane and the first wave spawned.
+     */
+    static ValorEngine match(ValorMapSpec spec) {
+        return match(spec, new ArrayList<>());
+    }
+
+    /**
+     * Same, keeping the match's monsters in the given empty list (e.g. a MonsterStore).
+     */
+    static ValorEngine match(ValorMapSpec spec, List<Monster> monsters) {
+        Dice dice = new Dice(SEED);
+        return new ValorEngine(GameIO.SILENT, dice, new ValorMap(spec, dice), heroes(spec.getLaneCount()),
+                EventBus.NONE, monsters);
+    }
+}
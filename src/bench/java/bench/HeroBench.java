@@ -0,0 +1,18 @@
+package bench;
+
+import java.util.List;
+
+/**
+ * Hero construction, including the starter equipment every hero receives.
+ */
+final class HeroBench {
+    private HeroBench() {
+    }
+
+    static List<BenchRunner.Case> cases() {
+        return List.of(
+                new BenchRunner.Case("hero.newWarrior", () -> () -> Fixtures.hero(0)),
+                new BenchRunner.Case("hero.newSorcerer", () -> () -> Fixtures.hero(2))
+        );
+    }
+}
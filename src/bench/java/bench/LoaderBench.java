@@ -0,0 +1,36 @@
+package bench;
+
+import java.util.List;
+
+import character.monster.MonsterCatalog;
+import game.MarketCatalog;
+import util.FileLoader;
+
+/**
+ * Data file loading. Run once with -Dlegends.snapshot=false to time the text
+ * parser instead of the binary catalog snapshot.
+ */
+final class LoaderBench {
+    private static final String DATA_DIR = "src/data";
+
+    private LoaderBench() {
+    }
+
+    static List<BenchRunner.Case> cases() {
+        return List.of(
+                new BenchRunner.Case("loader.loadFile.Dragons", () ->
+                        () -> FileLoader.loadFile(DATA_DIR + "/Dragons.txt")),
+                new BenchRunner.Case("loader.stream.Weaponry", () -> {
+                    int[] sum = {0};
+                    return () -> {
+                        FileLoader.stream(DATA_DIR + "/Weaponry.txt", row -> sum[0] += row.intValue(3));
+                        return sum;
+                    };
+                }),
+                new BenchRunner.Case("loader.monsterCatalog", () ->
+                        () -> new MonsterCatalog(DATA_DIR)),
+                new BenchRunner.Case("loader.marketCatalog", () ->
+                        () -> new MarketCatalog(DATA_DIR))
+        );
+    }
+}
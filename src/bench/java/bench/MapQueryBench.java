@@ -0,0 +1,70 @@
+package bench;
+
+import java.util.List;
+
+import valor.ValorEngine;
+import valor.ValorMap;
+import valor.ValorMapRenderer;
+import valor.ValorMapSpec;
+
+/**
+ * ValorMap entity lookups over every cell of the standard map, and a full render.
+ */
+final class MapQueryBench {
+    private MapQueryBench() {
+    }
+
+    static List<BenchRunner.Case> cases() {
+        return List.of(
+                new BenchRunner.Case("map.getHeroAt", () -> {
+                    ValorEngine engine = Fixtures.match(ValorMapSpec.standard());
+                    ValorMap map = engine.getMap();
+                    int[] cell = {0};
+                    return () -> {
+                        int c = cell[0]++ & 63;
+                        return map.getHeroAt(c >> 3, c & 7, engine.getHeroes());
+                    };
+                }),
+                new BenchRunner.Case("map.getMonsterAt", () -> {
+                    ValorEngine engine = Fixtures.match(ValorMapSpec.standard());
+                    ValorMap map = engine.getMap();
+                    int[] cell = {0};
+                    return () -> {
+                        int c = cell[0]++ & 63;
+                        return map.getMonsterAt(c >> 3, c & 7, engine.getMonsters());
+                    };
+                }),
+                new BenchRunner.Case("map.display", () -> {
+                    ValorEngine engine = Fixtures.match(ValorMapSpec.standard());
+                    ValorMap map = engine.getMap();
+                    return () -> {
+                        map.display(Fixtures.NULL_CONSOLE, engine.getHeroes(), engine.getMonsters());
+                        return map;
+                    };
+                }),
+                new BenchRunner.Case("map.pathing.nextMonsterStep", () -> {
+                    ValorMap map = Fixtures.match(ValorMapSpec.standard()).getMap();
+                    int[] cell = {0};
+                    return () -> {
+                        int c = cell[0]++ & 63;
+                        return map.getPathing().nextMonsterStep(c >> 3, c & 7);
+                    };
+                }),
+                new BenchRunner.Case("map.pathing.rebuildLane.256", () -> {
+                    ValorMap map = Fixtures.match(new ValorMapSpec(256, 16, 2, 1)).getMap();
+                    return () -> {
+                        map.getPathing().invalidate(100, 0);
+                        return map.getPathing().nextMonsterStep(100, 0);
+                    };
+                }),
+                new BenchRunner.Case("map.render.diff", () -> {
+                    ValorEngine engine = Fixtures.match(ValorMapSpec.standard());
+                    ValorMapRenderer renderer = new ValorMapRenderer(engine.getMap(), true);
+                    return () -> {
+                        renderer.render(Fixtures.NULL_CONSOLE);
+                        return renderer;
+                    };
+                })
+        );
+    }
+}
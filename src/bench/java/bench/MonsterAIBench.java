@@ -0,0 +1,68 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import character.monster.Monster;
+import character.monster.MonsterStore;
+import valor.MonsterTurnPlanner;
+import valor.ValorEngine;
+import valor.ValorMap;
+import valor.ValorMapSpec;
+import valor.ValorMonsterAI;
+
+/**
+ * One monsters' turn with a large wave spread over a tall 16-lane map.
+ * Monsters are put back on their starting cells after each turn (included in the time).
+ */
+final class MonsterAIBench {
+    private static final ValorMapSpec SPEC = new ValorMapSpec(256, 16, 2, 1);
+    private static final int WAVES = 30;
+
+    private MonsterAIBench() {
+    }
+
+    static List<BenchRunner.Case> cases() {
+        return List.of(
+                processMonsters("ai.processMonsters.480", ArrayList::new, false),
+                processMonsters("ai.processMonsters.480.dense", MonsterStore::new, false),
+                processMonsters("ai.processMonsters.480.planned", ArrayList::new, true)
+        );
+    }
+
+    private static BenchRunner.Case processMonsters(String name, Supplier<List<Monster>> store, boolean planned) {
+        return new BenchRunner.Case(name, () -> {
+            ValorEngine engine = Fixtures.match(SPEC, store.get());
+            for (int i = 1; i < WAVES; i++) {
+                engine.spawnNewMonsters();
+            }
+            ValorMap map = engine.getMap();
+            List<Monster> monsters = engine.getMonsters();
+
+            // Spread each lane's monsters down the upper half, away from the heroes
+            int lanes = SPEC.getLaneCount();
+            int[] rows = new int[monsters.size()];
+            int[] cols = new int[monsters.size()];
+            for (int i = 0; i < monsters.size(); i++) {
+                rows[i] = 1 + (i / lanes) * 4;
+                cols[i] = SPEC.getLaneRightColumn(i % lanes);
+                monsters.get(i).setPosition(rows[i], cols[i]);
+            }
+
+            MonsterTurnPlanner planner = planned ? new MonsterTurnPlanner(ForkJoinPool.commonPool()) : null;
+            return () -> {
+                if (planner != null) {
+                    planner.processMonsters(engine.getDice(), map, monsters, engine.getHeroes());
+                } else {
+                    ValorMonsterAI.processMonsters(engine.getDice(), map, monsters, engine.getHeroes());
+                }
+                for (int i = 0; i < rows.length; i++) {
+                    monsters.get(i).setPosition(rows[i], cols[i]);
+                }
+                return monsters;
+            };
+        });
+    }
+}
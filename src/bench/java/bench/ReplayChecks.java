@@ -0,0 +1,215 @@
+package bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import character.hero.Hero;
+import character.monster.Monster;
+import util.Dice;
+import util.GameIO;
+import util.Journal;
+import valor.ValorEngine;
+import valor.ValorGame;
+import valor.ValorReplay;
+
+/**
+ * ValorReplay seeking (checkpoint restore plus replay) against a straight
+ * replay of the same journal, and Journal loading of damaged files.
+ */
+final class ReplayChecks {
+    private static final long[] SESSIONS = {1, 2, 3};
+    private static final int SEEKS = 200;
+    private static final int CHECKPOINT_INTERVAL = 2; // scripted sessions last under a dozen rounds
+    private static final int MAX_INPUT_LINES = 20_000;
+
+    private ReplayChecks() {
+    }
+
+    static List<CheckRunner.Case> cases() {
+        return List.of(
+                new CheckRunner.Case("replay.seek", ReplayChecks::seeksMatchStraightReplay),
+                new CheckRunner.Case("replay.corruptJournal", ReplayChecks::corruptRecordsAreRejected)
+        );
+    }
+
+    /**
+     * For each scripted session, whole and cut off mid-session, a replay played
+     * forward one round at a time records the match state after every round.
+     * A second replay then jumps to SEEKS random rounds, backwards and
+     * forwards, and must land on exactly the same state each time.
+     */
+    private static String seeksMatchStraightReplay() {
+        int journals = 0;
+        int rounds = 0;
+        for (long seed : SESSIONS) {
+            Journal whole = record(seed);
+            for (Journal journal : List.of(whole, truncate(whole, whole.getLineCount() * 2 / 3))) {
+                rounds += checkSeeks(journal, seed);
+                journals++;
+            }
+        }
+        return journals * SEEKS + " seeks over " + journals + " journals (" + rounds + " rounds) matched";
+    }
+
+    /**
+     * A journal whose last record is cut short loads without it, but a length
+     * prefix that runs past five bytes or decodes negative must fail the load
+     * with an IOException rather than blow up inside String.
+     */
+    private static String corruptRecordsAreRejected() throws IOException {
+        Journal journal = new Journal(Journal.Mode.VALOR, Fixtures.SEED);
+        journal.append("W");
+        journal.append("1");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        journal.writeTo(out);
+        byte[] file = out.toByteArray();
+
+        Journal cut = Journal.readFrom(new ByteArrayInputStream(withTail(file, 0x85, 0x80)));
+        CheckRunner.expect(cut.getLineCount() == 2, "truncated record not dropped: " + cut);
+
+        int[][] tails = {
+                {0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01, 0x41}, // six-byte prefix
+                {0xFF, 0xFF, 0xFF, 0xFF, 0x0F, 0x41}        // five bytes, negative length
+        };
+        for (int[] tail : tails) {
+            try {
+                Journal.readFrom(new ByteArrayInputStream(withTail(file, tail)));
+                throw new IllegalStateException("loaded a journal ending in " + Arrays.toString(tail));
+            } catch (IOException e) {
+                CheckRunner.expect(e.getMessage().startsWith("Corrupt"), "unexpected failure: " + e);
+            }
+        }
+        return "truncated record dropped, " + tails.length + " corrupt prefixes rejected";
+    }
+
+    private static byte[] withTail(byte[] file, int... tail) {
+        byte[] bytes = Arrays.copyOf(file, file.length + tail.length);
+        for (int i = 0; i < tail.length; i++) {
+            bytes[file.length + i] = (byte) tail[i];
+        }
+        return bytes;
+    }
+
+    private static int checkSeeks(Journal journal, long seed) {
+        ValorReplay straight = new ValorReplay(journal, Integer.MAX_VALUE, GameIO.SILENT);
+        List<String> states = new ArrayList<>();
+        states.add(state(straight.getEngine()));
+        while (!straight.isFinished()) {
+            straight.seek(straight.getRound() + 1);
+            states.add(state(straight.getEngine()));
+        }
+        String name = "session " + seed + " (" + journal.getLineCount() + " lines)";
+        CheckRunner.expect(states.size() > 2 * CHECKPOINT_INTERVAL,
+                name + " ended after round " + straight.getRound() + ", too short to check seeks");
+
+        ValorReplay seeking = new ValorReplay(journal, CHECKPOINT_INTERVAL, GameIO.SILENT);
+        Random random = new Random(seed);
+        for (int i = 0; i < SEEKS; i++) {
+            int round = random.nextInt(states.size());
+            seeking.seek(round);
+            CheckRunner.expect(state(seeking.getEngine()).equals(states.get(round)),
+                    name + ": seek to round " + round + " gave\n  "
+                            + state(seeking.getEngine()) + "\nstraight replay has\n  " + states.get(round));
+        }
+        return states.size() - 1;
+    }
+
+    /**
+     * Play a session with a scripted player and keep its journal.
+     */
+    private static Journal record(long seed) {
+        Dice dice = new Dice(seed);
+        Journal journal = new Journal(Journal.Mode.VALOR, dice.getState());
+        try {
+            new ValorGame(journal.recording(new ScriptedPlayer(seed)), dice).start();
+        } catch (IllegalStateException e) {
+            // the player ran out of input: the journal still holds everything played
+        }
+        return journal;
+    }
+
+    /**
+     * The first lines of a journal, as if the session had been abandoned there.
+     */
+    private static Journal truncate(Journal journal, int lines) {
+        Journal cut = new Journal(journal.getMode(), journal.getSeed());
+        GameIO input = journal.player(GameIO.SILENT);
+        for (int i = 0; i < lines; i++) {
+            cut.append(input.readLine());
+        }
+        return cut;
+    }
+
+    /**
+     * Everything a replay restores: round, outcome, dice, and every hero's and monster's state.
+     */
+    private static String state(ValorEngine engine) {
+        StringBuilder b = new StringBuilder();
+        b.append("round ").append(engine.getCurrentRound()).append(' ').append(engine.getOutcome())
+                .append(" dice ").append(Long.toHexString(engine.getDice().getState()))
+                .append(" key ").append(Long.toHexString(engine.positionKey()));
+        for (Hero h : engine.getHeroes()) {
+            b.append(" | ").append(h.getName()).append('@').append(h.getRow()).append(',').append(h.getCol())
+                    .append(" L").append(h.getLevel()).append(" hp ").append(h.getHP())
+                    .append(" mp ").append(h.getMana()).append(" $").append(h.getMoney())
+                    .append(" xp ").append(h.getExperience()).append(" str ").append(h.getStrength())
+                    .append(" agi ").append(h.getAgility()).append(" dex ").append(h.getDexterity())
+                    .append(" w ").append(h.getEquippedWeapon()).append(" a ").append(h.getEquippedArmor());
+        }
+        for (Monster m : engine.getMonsters()) {
+            b.append(" | ").append(m.getName()).append('@').append(m.getRow()).append(',').append(m.getCol())
+                    .append(" hp ").append(m.getCurrentHP()).append(" def ").append(m.getDefense())
+                    .append(" dmg ").append(m.getDamage()).append(" dodge ").append(m.getDodgeChance());
+        }
+        return b.toString();
+    }
+
+    /**
+     * Answers prompts from the text just shown: mostly moves forward and
+     * attacks, sometimes teleports or recalls, and picks the first option
+     * elsewhere. Gives up after MAX_INPUT_LINES lines.
+     */
+    private static final class ScriptedPlayer implements GameIO {
+        private final Random random;
+        private final StringBuilder shown = new StringBuilder();
+        private int lines;
+
+        ScriptedPlayer(long seed) {
+            this.random = new Random(seed);
+        }
+
+        @Override
+        public String readLine() {
+            if (++lines > MAX_INPUT_LINES) {
+                throw new IllegalStateException("Scripted player gave up after " + MAX_INPUT_LINES + " lines");
+            }
+            String prompt = shown.toString();
+            shown.setLength(0);
+            if (prompt.contains("Direction")) return random.nextInt(4) == 0 ? "A" : "W";
+            if (prompt.contains("Choice: ")) {
+                int k = random.nextInt(10);
+                return k < 4 ? "1" : k < 8 ? "2" : k < 9 ? "4" : "9";
+            }
+            if (prompt.contains("Choice (1-3)")) return "1";
+            if (prompt.contains("target") || prompt.contains("potion")) return "1";
+            if (prompt.contains("Select")) return "0";
+            if (prompt.contains("Y/N")) return "Y";
+            return "";
+        }
+
+        @Override
+        public void print(String text) {
+            shown.append(text);
+        }
+
+        @Override
+        public void println(String text) {
+            shown.append(text).append('\n');
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package bench;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import character.hero.Hero;
+import util.Dice;
+import util.TranspositionTable;
+import valor.ValorEngine;
+import valor.ValorMapSpec;
+import valor.ValorSnapshot;
+import valor.sim.MctsPolicy;
+
+/**
+ * One MCTS hero turn of 256 playouts from the opening position, on one tree,
+ * split over four root-parallel trees (compare ns/op for thread scaling) and
+ * with a transposition table; plus the table and position key on their own.
+ */
+final class SearchBench {
+    private static final int PLAYOUTS = 256;
+
+    private SearchBench() {
+    }
+
+    static List<BenchRunner.Case> cases() {
+        return List.of(
+                new BenchRunner.Case("mcts.turn.256", () -> turn(1, null)),
+                new BenchRunner.Case("mcts.turn.256.root4", () -> turn(4, new ForkJoinPool(4))),
+                new BenchRunner.Case("mcts.turn.256.tt", () -> {
+                    TranspositionTable table = new TranspositionTable(1 << 16);
+                    return turn(1, null, table);
+                }),
+                new BenchRunner.Case("tt.put", () -> {
+                    TranspositionTable table = new TranspositionTable(1 << 20);
+                    long[] key = {0};
+                    return () -> {
+                        long k = key[0] += 0x9E3779B97F4A7C15L;
+                        table.put(k, k & 0xFFFF, (int) k & 0xFF);
+                        return table;
+                    };
+                }),
+                new BenchRunner.Case("tt.get", () -> {
+                    TranspositionTable table = new TranspositionTable(1 << 20);
+                    for (long i = 1; i <= 1 << 19; i++) {
+                        table.put(i * 0x9E3779B97F4A7C15L, i, 1);
+                    }
+                    long[] key = {0};
+                    return () -> table.get((key[0]++ & ((1 << 20) - 1)) * 0x9E3779B97F4A7C15L);
+                }),
+                new BenchRunner.Case("zobrist.positionKey", () -> {
+                    ValorEngine engine = Fixtures.match(ValorMapSpec.standard());
+                    return engine::positionKey;
+                })
+        );
+    }
+
+    private static BenchRunner.Op turn(int workers, ForkJoinPool pool) {
+        return turn(workers, pool, null);
+    }
+
+    private static BenchRunner.Op turn(int workers, ForkJoinPool pool, TranspositionTable table) {
+        ValorEngine engine = Fixtures.match(ValorMapSpec.standard());
+        Hero hero = engine.getHeroes().get(0);
+        MctsPolicy policy = new MctsPolicy(new Dice(Fixtures.SEED), workers, pool, 0, PLAYOUTS, 4);
+        policy.setTranspositionTable(table);
+        ValorSnapshot start = engine.snapshot();
+        return () -> {
+            engine.restore(start);
+            policy.takeTurn(engine, hero);
+            return hero.getRow();
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package bench;
+
+import java.util.List;
+
+import valor.ValorEngine;
+import valor.ValorMapSpec;
+import valor.ValorSnapshot;
+import valor.sim.ScriptedPolicy;
+
+/**
+ * Capturing and restoring a whole match, the inner step of a search that
+ * forks the game state many times per decision.
+ */
+final class SnapshotBench {
+    private SnapshotBench() {
+    }
+
+    static List<BenchRunner.Case> cases() {
+        return List.of(
+                new BenchRunner.Case("snapshot.capture", () -> {
+                    ValorEngine engine = Fixtures.match(ValorMapSpec.standard());
+                    return engine::snapshot;
+                }),
+                new BenchRunner.Case("snapshot.restore", () -> {
+                    ValorEngine engine = Fixtures.match(ValorMapSpec.standard());
+                    ValorSnapshot start = engine.snapshot();
+                    return () -> {
+                        engine.restore(start);
+                        return engine;
+                    };
+                }),
+                new BenchRunner.Case("snapshot.playout.20", () -> {
+                    ValorEngine engine = Fixtures.match(ValorMapSpec.standard());
+                    ScriptedPolicy policy = new ScriptedPolicy();
+                    ValorSnapshot start = engine.snapshot();
+                    return () -> {
+                        engine.restore(start);
+                        return engine.run(policy, 20);
+                    };
+                })
+        );
+    }
+}
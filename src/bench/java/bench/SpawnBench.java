@@ -0,0 +1,36 @@
+package bench;
+
+import java.util.List;
+
+import character.monster.Monster;
+import valor.ValorEngine;
+import valor.ValorMapSpec;
+
+/**
+ * Spawning a monster wave (level-filtered template pick, copy and placement).
+ * The wave is removed again after each spawn (included in the time).
+ */
+final class SpawnBench {
+    private SpawnBench() {
+    }
+
+    static List<BenchRunner.Case> cases() {
+        return List.of(
+                new BenchRunner.Case("spawn.wave.3lanes", () -> wave(ValorMapSpec.standard())),
+                new BenchRunner.Case("spawn.wave.32lanes", () -> wave(new ValorMapSpec(64, 32, 2, 1)))
+        );
+    }
+
+    private static BenchRunner.Op wave(ValorMapSpec spec) {
+        ValorEngine engine = Fixtures.match(spec);
+        List<Monster> monsters = engine.getMonsters();
+        return () -> {
+            engine.spawnNewMonsters();
+            for (Monster m : monsters) {
+                engine.getMap().releaseMonster(m);
+            }
+            monsters.clear();
+            return engine;
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package bench;
+
+import java.util.List;
+
+import character.hero.Hero;
+import valor.ValorEngine;
+import valor.ValorMap;
+import valor.ValorMapSpec;
+import valor.cells.KoulouCell;
+
+/**
+ * Legends of Valor rules that the modifier stack and the engine must keep.
+ */
+final class ValorChecks {
+    private static final int DEATHS = 3;
+
+    private ValorChecks() {
+    }
+
+    static List<CheckRunner.Case> cases() {
+        return List.of(
+                new CheckRunner.Case("valor.respawnDropsBuff", ValorChecks::respawnDropsTerrainBuff)
+        );
+    }
+
+    /**
+     * A hero who falls on a Koulou cell must respawn at the nexus with the
+     * strength buff gone, however many times it happens.
+     */
+    private static String respawnDropsTerrainBuff() {
+        ValorEngine engine = Fixtures.match(ValorMapSpec.standard());
+        ValorMap map = engine.getMap();
+        Hero hero = engine.getHeroes().get(0);
+        int nexusRow = hero.getRow();
+        int nexusCol = hero.getCol();
+        int base = hero.getStrength();
+        int[] koulou = findKoulou(map, hero);
+
+        for (int death = 1; death <= DEATHS; death++) {
+            map.removeTerrainBuff(hero, hero.getRow(), hero.getCol());
+            hero.setPosition(koulou[0], koulou[1]);
+            map.applyTerrainBuff(hero);
+            CheckRunner.expect(hero.getStrength() > base,
+                    "no Koulou buff at " + koulou[0] + "," + koulou[1] + ": strength " + hero.getStrength());
+
+            hero.setHP(0);
+            engine.beginRound();
+            engine.heroPhase((e, h) -> { });
+            engine.finishRound();
+            CheckRunner.expect(hero.isAlive() && hero.getRow() == nexusRow && hero.getCol() == nexusCol,
+                    "hero did not respawn at the nexus after death " + death);
+            CheckRunner.expect(hero.getStrength() == base,
+                    "strength " + hero.getStrength() + " after respawn " + death + ", base " + base);
+        }
+        return DEATHS + " deaths on Koulou, strength back to " + base + " each time";
+    }
+
+    /**
+     * A Koulou cell in the hero's lane, between the nexus rows.
+     */
+    private static int[] findKoulou(ValorMap map, Hero hero) {
+        ValorMapSpec spec = map.getSpec();
+        int lane = hero.getLaneIndex();
+        for (int row = spec.getMonsterNexusRow() + 1; row < spec.getHeroNexusRow(); row++) {
+            for (int col = spec.getLaneLeftColumn(lane); col <= spec.getLaneRightColumn(lane); col++) {
+                if (map.getCell(row, col) instanceof KoulouCell) return new int[]{row, col};
+            }
+        }
+        throw new IllegalStateException("no Koulou cell in lane " + (hero.getLaneIndex() + 1));
+    }
+}
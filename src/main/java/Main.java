@@ -1,14 +1,46 @@
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Scanner;
 
+import event.EventLog;
+import util.ConsoleIO;
+import util.Dice;
+import util.GameIO;
+import util.Journal;
+
 /**
  * Main entry point for the Legends games.
  * Allows player to choose between:
  * 1) Legends: Monsters & Heroes (classic RPG)
  * 2) Legends of Valor (MOBA-style)
+ *
+ * Usage: java -cp out Main [--record journalFile] [--telemetry logDir]
+ *        java -cp out Main --replay journalFile [round]
+ * --record journals the session (seed and every input line) as it is played;
+ * --telemetry appends the session's events to the binary {@link EventLog} in logDir;
+ * --replay re-runs a journal headlessly, stopping at the given Valor round if any.
  */
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 2 && args[0].equals("--replay")) {
+            replay(Journal.load(Path.of(args[1])), args.length > 2 ? Integer.parseInt(args[2]) : -1);
+            return;
+        }
+        Path record = null;
+        Path telemetry = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--record" -> record = Path.of(args[i + 1]);
+                case "--telemetry" -> telemetry = Path.of(args[i + 1]);
+                default -> System.out.println("Ignoring unknown option " + args[i]);
+            }
+        }
+        EventLog log = telemetry == null ? null : new EventLog(telemetry);
+
         Scanner scanner = new Scanner(System.in);
+        GameIO io = new ConsoleIO(scanner);
+        Dice dice = new Dice();
+        Journal journal = null;
 
         System.out.println("╔════════════════════════════════════╗");
         System.out.println("║   WELCOME TO LEGENDS GAMES         ║");
@@ -26,12 +58,24 @@ public class Main {
         switch (input) {
             case "1":
                 System.out.println("\nStarting Legends: Monsters & Heroes...\n");
-                new game.Game().start();
+                if (record != null) {
+                    journal = startJournal(Journal.Mode.CLASSIC, dice, record);
+                    io = journal.recording(io);
+                }
+                game.Game game = new game.Game(io, dice);
+                if (log != null) log.attach(game.getEvents(), Long.hashCode(dice.getState()));
+                game.start();
                 break;
 
             case "2":
                 System.out.println("\nStarting Legends of Valor...\n");
-                new valor.ValorGame().start();
+                if (record != null) {
+                    journal = startJournal(Journal.Mode.VALOR, dice, record);
+                    io = journal.recording(io);
+                }
+                valor.ValorGame valorGame = new valor.ValorGame(io, dice);
+                if (log != null) log.attach(valorGame.getEvents(), Long.hashCode(dice.getState()));
+                valorGame.start();
                 break;
 
             case "Q":
@@ -43,6 +87,52 @@ public class Main {
                 break;
         }
 
+        if (journal != null) {
+            journal.close();
+            System.out.println("Session journal: " + journal);
+        }
+        if (log != null) {
+            try {
+                log.close();
+            } catch (IOException e) {
+                System.out.println("Telemetry stopped early: " + e.getCause());
+            }
+            System.out.println("Telemetry: " + log.getWritten() + " events logged, " + log.getDropped() + " dropped");
+        }
         scanner.close();
     }
+
+    private static Journal startJournal(Journal.Mode mode, Dice dice, Path file) throws IOException {
+        Journal journal = new Journal(mode, dice.getState());
+        journal.streamTo(file);
+        return journal;
+    }
+
+    /**
+     * Re-run a journal with no output and report where it ended.
+     */
+    private static void replay(Journal journal, int round) {
+        long start = System.nanoTime();
+        String result;
+        if (journal.getMode() == Journal.Mode.VALOR) {
+            valor.ValorReplay replay = new valor.ValorReplay(journal);
+            if (round >= 0) {
+                replay.seek(round);
+            } else {
+                replay.playToEnd();
+            }
+            result = "round " + replay.getRound() + ", " + (replay.isJournalExhausted()
+                    ? "journal ended" : replay.getEngine().getOutcome().toString());
+        } else {
+            Journal.Player input = journal.player(GameIO.SILENT);
+            try {
+                new game.Game(input, new Dice(journal.getSeed())).start();
+                result = "session finished";
+            } catch (IllegalStateException e) {
+                if (!input.isExhausted()) throw e;
+                result = "journal ended";
+            }
+        }
+        System.out.printf("Replayed %s: %s in %.1f ms%n", journal, result, (System.nanoTime() - start) / 1e6);
+    }
 }
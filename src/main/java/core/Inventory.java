@@ -1,42 +1,257 @@
 package core;
 
 import item.*;
+import util.GameIO;
 
 import java.util.*;
 
 /**
  * Inventory class manages a hero's owned items: weapons, armor, potions, and spells.
  * It supports adding, retrieving, and listing items.
+ *
+ * Items are immutable and shared, so the inventory stores each distinct item
+ * once with a count. Adding or using an item changes a count instead of
+ * allocating or shifting list entries.
+ *
+ * Snapshots are shared while the inventory is unchanged: a search that
+ * clones a match many times copies each inventory only after it changes.
  */
 public class Inventory {
-    private final List<Weapon> weapons = new ArrayList<>();
-    private final List<Armor> armors = new ArrayList<>();
-    private final List<Potion> potions = new ArrayList<>();
-    private final List<Spell> spells = new ArrayList<>();
+    private final Stacks<Weapon> weapons = new Stacks<>();
+    private final Stacks<Armor> armors = new Stacks<>();
+    private final Stacks<Potion> potions = new Stacks<>();
+    private final Stacks<Spell> spells = new Stacks<>();
+    private Snapshot snapshot; // last snapshot taken, until the next change
 
     public void addItem(Item item) {
-        if (item instanceof Weapon) weapons.add((Weapon) item);
-        else if (item instanceof Armor) armors.add((Armor) item);
-        else if (item instanceof Potion) potions.add((Potion) item);
-        else if (item instanceof Spell) spells.add((Spell) item);
+        addItem(item, 1);
     }
 
-    public List<Weapon> getWeapons() { return weapons; }
-    public List<Armor> getArmors() { return armors; }
-    public List<Potion> getPotions() { return potions; }
-    public List<Spell> getSpells() { return spells; }
+    /**
+     * Add quantity copies of an item.
+     */
+    public void addItem(Item item, int quantity) {
+        snapshot = null;
+        if (item instanceof Weapon) weapons.add((Weapon) item, quantity);
+        else if (item instanceof Armor) armors.add((Armor) item, quantity);
+        else if (item instanceof Potion) potions.add((Potion) item, quantity);
+        else if (item instanceof Spell) spells.add((Spell) item, quantity);
+    }
+
+    /**
+     * Remove one copy of an item.
+     *
+     * @return false if the item was not in the inventory
+     */
+    public boolean removeItem(Item item) {
+        snapshot = null;
+        if (item instanceof Weapon) return weapons.remove(item);
+        if (item instanceof Armor) return armors.remove(item);
+        if (item instanceof Potion) return potions.remove(item);
+        if (item instanceof Spell) return spells.remove(item);
+        return false;
+    }
+
+    /**
+     * How many copies of an item the inventory holds.
+     */
+    public int getCount(Item item) {
+        if (item instanceof Weapon) return weapons.count(item);
+        if (item instanceof Armor) return armors.count(item);
+        if (item instanceof Potion) return potions.count(item);
+        if (item instanceof Spell) return spells.count(item);
+        return 0;
+    }
+
+    public boolean contains(Item item) {
+        return getCount(item) > 0;
+    }
+
+    // Read-only views with one entry per copy, in the order items were first added
+    public List<Weapon> getWeapons() { return weapons.view; }
+    public List<Armor> getArmors() { return armors.view; }
+    public List<Potion> getPotions() { return potions.view; }
+    public List<Spell> getSpells() { return spells.view; }
+
+    /**
+     * Immutable copy of the current contents.
+     */
+    public Snapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = new Snapshot(weapons.copy(), armors.copy(), potions.copy(), spells.copy());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Replace the contents with a snapshot taken earlier (from this or another inventory).
+     */
+    public void restore(Snapshot state) {
+        weapons.restore(state.weapons);
+        armors.restore(state.armors);
+        potions.restore(state.potions);
+        spells.restore(state.spells);
+        snapshot = state;
+    }
+
+    public void printInventory(GameIO io) {
+        io.println("Weapons: " + (weapons.isEmpty() ? "None" : ""));
+        weapons.print(io);
+
+        io.println("Armors: " + (armors.isEmpty() ? "None" : ""));
+        armors.print(io);
+
+        io.println("Potions: " + (potions.isEmpty() ? "None" : ""));
+        potions.print(io);
+
+        io.println("Spells: " + (spells.isEmpty() ? "None" : ""));
+        spells.print(io);
+    }
+
+    /**
+     * Contents of an inventory at one moment; see {@link #snapshot()}.
+     */
+    public static final class Snapshot {
+        private final Frozen weapons;
+        private final Frozen armors;
+        private final Frozen potions;
+        private final Frozen spells;
+
+        private Snapshot(Frozen weapons, Frozen armors, Frozen potions, Frozen spells) {
+            this.weapons = weapons;
+            this.armors = armors;
+            this.potions = potions;
+            this.spells = spells;
+        }
+    }
+
+    /**
+     * One category's stacks, trimmed to size.
+     */
+    private static final class Frozen {
+        final Item[] items;
+        final int[] counts;
+        final int total;
+
+        Frozen(Item[] items, int[] counts, int total) {
+            this.items = items;
+            this.counts = counts;
+            this.total = total;
+        }
+    }
+
+    /**
+     * Distinct items of one category with their counts, in parallel arrays.
+     */
+    private static final class Stacks<T extends Item> {
+        private Item[] items = new Item[4];
+        private int[] counts = new int[4];
+        private int size;  // distinct items
+        private int total; // copies
+        final List<T> view = new View();
+
+        void add(T item, int quantity) {
+            if (quantity <= 0) return;
+            int i = find(item);
+            if (i < 0) {
+                if (size == items.length) {
+                    items = Arrays.copyOf(items, size * 2);
+                    counts = Arrays.copyOf(counts, size * 2);
+                }
+                i = size++;
+                items[i] = item;
+            }
+            counts[i] += quantity;
+            total += quantity;
+        }
+
+        boolean remove(Item item) {
+            int i = find(item);
+            if (i < 0) return false;
+            total--;
+            if (--counts[i] == 0) {
+                System.arraycopy(items, i + 1, items, i, size - i - 1);
+                System.arraycopy(counts, i + 1, counts, i, size - i - 1);
+                items[--size] = null;
+            }
+            return true;
+        }
+
+        Frozen copy() {
+            return new Frozen(Arrays.copyOf(items, size), Arrays.copyOf(counts, size), total);
+        }
+
+        void restore(Frozen state) {
+            int n = state.items.length;
+            if (items.length < n) {
+                items = new Item[n];
+                counts = new int[n];
+            }
+            Arrays.fill(items, n, items.length, null);
+            System.arraycopy(state.items, 0, items, 0, n);
+            System.arraycopy(state.counts, 0, counts, 0, n);
+            size = n;
+            total = state.total;
+        }
+
+        int count(Item item) {
+            int i = find(item);
+            return i < 0 ? 0 : counts[i];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void print(GameIO io) {
+            for (int i = 0; i < size; i++) {
+                io.println("- " + items[i] + (counts[i] > 1 ? " x" + counts[i] : ""));
+            }
+        }
+
+        private int find(Object item) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == item) return i;
+            }
+            return -1;
+        }
 
-    public void printInventory() {
-        System.out.println("Weapons: " + (weapons.isEmpty() ? "None" : ""));
-        weapons.forEach(w -> System.out.println("- " + w));
+        /**
+         * The stacks expanded to one list entry per copy.
+         */
+        private final class View extends AbstractList<T> {
+            @Override
+            @SuppressWarnings("unchecked")
+            public T get(int index) {
+                if (index < 0 || index >= total) {
+                    throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + total);
+                }
+                int i = 0;
+                while (index >= counts[i]) {
+                    index -= counts[i++];
+                }
+                return (T) items[i];
+            }
 
-        System.out.println("Armors: " + (armors.isEmpty() ? "None" : ""));
-        armors.forEach(a -> System.out.println("- " + a));
+            @Override
+            public int size() {
+                return total;
+            }
 
-        System.out.println("Potions: " + (potions.isEmpty() ? "None" : ""));
-        potions.forEach(p -> System.out.println("- " + p));
+            @Override
+            public boolean contains(Object o) {
+                return find(o) >= 0;
+            }
 
-        System.out.println("Spells: " + (spells.isEmpty() ? "None" : ""));
-        spells.forEach(s -> System.out.println("- " + s));
+            @Override
+            public int indexOf(Object o) {
+                int offset = 0;
+                for (int i = 0; i < size; i++) {
+                    if (items[i] == o) return offset;
+                    offset += counts[i];
+                }
+                return -1;
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package character;
+
+import character.hero.Hero;
+import character.monster.Monster;
+
+/**
+ * Receives position, life and HP changes of heroes and monsters placed on a board,
+ * so the board can keep its lookup structures current without rescanning.
+ */
+public interface BoardListener {
+
+    /**
+     * Hero moved from (oldRow, oldCol) to its current position.
+     */
+    void heroMoved(Hero hero, int oldRow, int oldCol);
+
+    /**
+     * Hero fainted or came back to life.
+     */
+    void heroLifeChanged(Hero hero);
+
+    /**
+     * Hero's HP changed from oldHP (after heroLifeChanged, if it fainted or revived).
+     */
+    void heroHealthChanged(Hero hero, int oldHP);
+
+    /**
+     * Monster moved from (oldRow, oldCol) to its current position.
+     */
+    void monsterMoved(Monster monster, int oldRow, int oldCol);
+
+    /**
+     * Monster was defeated or restored.
+     */
+    void monsterLifeChanged(Monster monster);
+
+    /**
+     * Monster's HP changed from oldHP (after monsterLifeChanged, if it was defeated or restored).
+     */
+    void monsterHealthChanged(Monster monster, int oldHP);
+}
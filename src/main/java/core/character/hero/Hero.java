@@ -1,14 +1,40 @@
 package character.hero;
 
+import character.BoardListener;
 import core.Inventory;
 import item.*;
 import character.monster.Monster;
+import event.EventBus;
+import event.EventType;
+import util.Dice;
+
+import java.util.Arrays;
+import java.util.Set;
 
 /**
  * Abstract class representing a Hero character in the game.
  * Heroes start with powerful starter equipment!
  */
-public abstract class Hero {
+public abstract class Hero implements Cloneable {
+    private static final StatModifier LEVEL_UP_STRENGTH = StatModifier.multiply(Stat.STRENGTH, 1.05);
+    private static final StatModifier LEVEL_UP_DEXTERITY = StatModifier.multiply(Stat.DEXTERITY, 1.05);
+    private static final StatModifier LEVEL_UP_AGILITY = StatModifier.multiply(Stat.AGILITY, 1.05);
+
+    // Starter equipment templates, shared by every hero (items are immutable)
+    private static final Weapon WARRIOR_WEAPON = new Weapon("Legendary Greatsword", 0, 1, 2500, 2);
+    private static final Weapon PALADIN_WEAPON = new Weapon("Holy Longsword", 0, 1, 2200, 1);
+    private static final Weapon SORCERER_WEAPON = new Weapon("Arcane Staff", 0, 1, 2000, 1);
+    private static final Armor WARRIOR_ARMOR = new Armor("Titanium Heavy Armor", 0, 1, 800);
+    private static final Armor PALADIN_ARMOR = new Armor("Divine Plate Armor", 0, 1, 700);
+    private static final Armor SORCERER_ARMOR = new Armor("Enchanted Mage Robe", 0, 1, 600);
+    private static final Potion HEALTH_POTION = new Potion("Super Healing Potion", 0, 1, 300, Set.of("Health"));
+    private static final Potion MANA_POTION = new Potion("Super Mana Potion", 0, 1, 300, Set.of("Mana"));
+    private static final Potion STRENGTH_POTION = new Potion("Greater Strength Potion", 0, 1, 200, Set.of("Strength"));
+    private static final Potion AGILITY_POTION = new Potion("Greater Agility Potion", 0, 1, 200, Set.of("Agility"));
+    private static final FireSpell FIRE_SPELL = new FireSpell("Mega Fireball", 0, 1, 1200, 80);
+    private static final IceSpell ICE_SPELL = new IceSpell("Frozen Nova", 0, 1, 1100, 75);
+    private static final LightningSpell LIGHTNING_SPELL = new LightningSpell("Chain Lightning", 0, 1, 1150, 70);
+
     protected String name;
     protected String heroClass;
     protected int level;
@@ -16,9 +42,14 @@ public abstract class Hero {
     protected int currentHP;
     protected int maxMana;
     protected int currentMana;
+    // Effective stats, cached from baseStats and the modifier stack; never written directly
     protected int strength;
     protected int dexterity;
     protected int agility;
+    private double[] baseStats = new double[Stat.values().length];
+    private StatModifier[] modifiers = new StatModifier[4];
+    private boolean[] permanent = new boolean[4];
+    private int modifierCount;
     protected int money;
     protected int experience;
 
@@ -26,10 +57,14 @@ public abstract class Hero {
     protected Armor equippedArmor;
     protected Inventory inventory;
 
+    // Where this hero's combat and status events go
+    protected EventBus events = EventBus.STDOUT;
+
     // Valor mode fields
     protected int row;           // Current row position on map
     protected int col;           // Current column position on map
     protected int laneIndex;     // Original lane (0=Top, 1=Mid, 2=Bot) - NEVER changes, even when teleporting
+    protected BoardListener board; // Board tracking this hero's position, if any
 
     public Hero(String name, int mana, int strength, int agility, int dexterity, int money, int experience) {
         this.name = name;
@@ -40,9 +75,10 @@ public abstract class Hero {
         this.currentHP = maxHP;
         this.maxMana = mana * 3;
         this.currentMana = maxMana;
-        this.strength = strength * 2;
-        this.agility = agility * 2;
-        this.dexterity = dexterity * 2;
+        this.baseStats[Stat.STRENGTH.ordinal()] = strength * 2;
+        this.baseStats[Stat.AGILITY.ordinal()] = agility * 2;
+        this.baseStats[Stat.DEXTERITY.ordinal()] = dexterity * 2;
+        recomputeStats();
         this.money = money * 3;
         this.experience = experience;
         this.inventory = new Inventory();
@@ -60,8 +96,6 @@ public abstract class Hero {
         giveStarterArmor();
         giveStarterPotions();
         giveStarterSpells();
-
-        System.out.println("[EQUIPMENT] " + name + " received starter equipment!");
     }
 
     /**
@@ -71,17 +105,16 @@ public abstract class Hero {
         Weapon weapon = null;
 
         if (this instanceof Warrior) {
-            weapon = new Weapon("Legendary Greatsword", 0, 1, 2500, 2);
+            weapon = WARRIOR_WEAPON;
         } else if (this instanceof Paladin) {
-            weapon = new Weapon("Holy Longsword", 0, 1, 2200, 1);
+            weapon = PALADIN_WEAPON;
         } else if (this instanceof Sorcerer) {
-            weapon = new Weapon("Arcane Staff", 0, 1, 2000, 1);
+            weapon = SORCERER_WEAPON;
         }
 
         if (weapon != null) {
             inventory.addItem(weapon);
-            equipWeapon(weapon);
-            System.out.println("  -> Equipped: " + weapon.getName());
+            this.equippedWeapon = weapon;
         }
     }
 
@@ -92,17 +125,16 @@ public abstract class Hero {
         Armor armor = null;
 
         if (this instanceof Warrior) {
-            armor = new Armor("Titanium Heavy Armor", 0, 1, 800);
+            armor = WARRIOR_ARMOR;
         } else if (this instanceof Paladin) {
-            armor = new Armor("Divine Plate Armor", 0, 1, 700);
+            armor = PALADIN_ARMOR;
         } else if (this instanceof Sorcerer) {
-            armor = new Armor("Enchanted Mage Robe", 0, 1, 600);
+            armor = SORCERER_ARMOR;
         }
 
         if (armor != null) {
             inventory.addItem(armor);
-            equipArmor(armor);
-            System.out.println("  -> Equipped: " + armor.getName());
+            this.equippedArmor = armor;
         }
     }
 
@@ -110,35 +142,10 @@ public abstract class Hero {
      * Give starter potions (multiple types, large quantity)
      */
     private void giveStarterPotions() {
-        for (int i = 0; i < 10; i++) {
-            java.util.Set<String> healthAttr = new java.util.HashSet<>();
-            healthAttr.add("Health");
-            Potion healthPotion = new Potion("Super Healing Potion", 0, 1, 300, healthAttr);
-            inventory.addItem(healthPotion);
-        }
-
-        for (int i = 0; i < 10; i++) {
-            java.util.Set<String> manaAttr = new java.util.HashSet<>();
-            manaAttr.add("Mana");
-            Potion manaPotion = new Potion("Super Mana Potion", 0, 1, 300, manaAttr);
-            inventory.addItem(manaPotion);
-        }
-
-        for (int i = 0; i < 5; i++) {
-            java.util.Set<String> strAttr = new java.util.HashSet<>();
-            strAttr.add("Strength");
-            Potion strPotion = new Potion("Greater Strength Potion", 0, 1, 200, strAttr);
-            inventory.addItem(strPotion);
-        }
-
-        for (int i = 0; i < 5; i++) {
-            java.util.Set<String> agiAttr = new java.util.HashSet<>();
-            agiAttr.add("Agility");
-            Potion agiPotion = new Potion("Greater Agility Potion", 0, 1, 200, agiAttr);
-            inventory.addItem(agiPotion);
-        }
-
-        System.out.println("  -> Received: 10x Super Healing, 10x Super Mana, 5x Greater Strength, 5x Greater Agility Potions");
+        inventory.addItem(HEALTH_POTION, 10);
+        inventory.addItem(MANA_POTION, 10);
+        inventory.addItem(STRENGTH_POTION, 5);
+        inventory.addItem(AGILITY_POTION, 5);
     }
 
     /**
@@ -147,22 +154,9 @@ public abstract class Hero {
     private void giveStarterSpells() {
         int spellCount = (this instanceof Sorcerer) ? 10 : 7;
 
-        for (int i = 0; i < spellCount; i++) {
-            FireSpell fireSpell = new FireSpell("Mega Fireball", 0, 1, 1200, 80);
-            inventory.addItem(fireSpell);
-        }
-
-        for (int i = 0; i < spellCount; i++) {
-            IceSpell iceSpell = new IceSpell("Frozen Nova", 0, 1, 1100, 75);
-            inventory.addItem(iceSpell);
-        }
-
-        for (int i = 0; i < spellCount; i++) {
-            LightningSpell lightningSpell = new LightningSpell("Chain Lightning", 0, 1, 1150, 70);
-            inventory.addItem(lightningSpell);
-        }
-
-        System.out.println("  -> Received: " + spellCount + "x Mega Fire, Ice, and Lightning Spells");
+        inventory.addItem(FIRE_SPELL, spellCount);
+        inventory.addItem(ICE_SPELL, spellCount);
+        inventory.addItem(LIGHTNING_SPELL, spellCount);
     }
 
     private int calculateLevel(int exp) {
@@ -178,47 +172,47 @@ public abstract class Hero {
     public void levelUp() {
         level++;
 
-        strength = (int) (strength * 1.05);
-        dexterity = (int) (dexterity * 1.05);
-        agility = (int) (agility * 1.05);
+        applyPermanentModifier(LEVEL_UP_STRENGTH);
+        applyPermanentModifier(LEVEL_UP_DEXTERITY);
+        applyPermanentModifier(LEVEL_UP_AGILITY);
 
         maxHP = level * 300;
-        currentHP = maxHP;
+        setCurrentHP(maxHP);
 
         maxMana = (int) (maxMana * 1.1);
         currentMana = maxMana;
 
-        System.out.println(name + " leveled up to level " + level + "!");
+        events.publish(EventType.LEVEL_UP, this, level);
     }
 
     public boolean isAlive() {
         return currentHP > 0;
     }
 
-    public void attack(Monster monster) {
+    public void attack(Monster monster, Dice dice) {
         if (equippedWeapon == null) {
-            System.out.println(name + " has no weapon equipped!");
+            events.publish(EventType.NO_WEAPON, this);
             return;
         }
 
-        if (Math.random() < monster.getDodgeChance() * 0.01) {
-            System.out.println(monster.getName() + " dodged the attack!");
+        if (dice.nextDouble() < monster.getDodgeChance() * 0.01) {
+            events.publish(EventType.DODGE, monster);
             return;
         }
 
         int damage = (int) ((strength + equippedWeapon.getDamage()) * 0.05);
         monster.takeDamage(damage);
-        System.out.println(name + " dealt " + damage + " damage to " + monster.getName());
+        events.publish(EventType.ATTACK, this, monster, damage);
     }
 
-    public void castSpell(Spell spell, Monster monster) {
+    public void castSpell(Spell spell, Monster monster, Dice dice) {
         if (currentMana < spell.getManaCost()) {
-            System.out.println(name + " doesn't have enough mana!");
+            events.publish(EventType.NO_MANA, this);
             return;
         }
 
-        if (Math.random() < monster.getDodgeChance() * 0.01) {
-            System.out.println(monster.getName() + " dodged the spell!");
+        if (dice.nextDouble() < monster.getDodgeChance() * 0.01) {
+            events.publish(EventType.DODGE, monster, spell, 0);
             return;
         }
 
@@ -229,10 +223,9 @@ public abstract class Hero {
 
         currentMana -= spell.getManaCost();
 
-        inventory.getSpells().remove(spell);
+        inventory.removeItem(spell);
 
-        System.out.println(name + " cast " + spell.getName() + " dealing " + damage + " damage!");
-        System.out.println("[INFO] " + spell.getName() + " consumed (single-use item)");
+        events.publish(EventType.SPELL_CAST, this, spell, damage);
     }
 
     public void usePotion(Potion potion) {
@@ -240,60 +233,60 @@ public abstract class Hero {
             switch (attr.toLowerCase()) {
                 case "health":
                 case "hp":
-                    currentHP = Math.min(maxHP, currentHP + potion.getEffectAmount());
-                    System.out.println(name + " restored " + potion.getEffectAmount() + " HP");
+                    setCurrentHP(Math.min(maxHP, currentHP + potion.getEffectAmount()));
+                    events.publish(EventType.RESTORE, this, "HP", potion.getEffectAmount());
                     break;
                 case "mana":
                 case "mp":
                     currentMana = Math.min(maxMana, currentMana + potion.getEffectAmount());
-                    System.out.println(name + " restored " + potion.getEffectAmount() + " Mana");
+                    events.publish(EventType.RESTORE, this, "Mana", potion.getEffectAmount());
                     break;
                 case "strength":
-                    strength += potion.getEffectAmount();
-                    System.out.println(name + " gained " + potion.getEffectAmount() + " Strength");
+                    applyPermanentModifier(StatModifier.add(Stat.STRENGTH, potion.getEffectAmount()));
+                    events.publish(EventType.STAT_GAIN, this, "Strength", potion.getEffectAmount());
                     break;
                 case "dexterity":
-                    dexterity += potion.getEffectAmount();
-                    System.out.println(name + " gained " + potion.getEffectAmount() + " Dexterity");
+                    applyPermanentModifier(StatModifier.add(Stat.DEXTERITY, potion.getEffectAmount()));
+                    events.publish(EventType.STAT_GAIN, this, "Dexterity", potion.getEffectAmount());
                     break;
                 case "agility":
-                    agility += potion.getEffectAmount();
-                    System.out.println(name + " gained " + potion.getEffectAmount() + " Agility");
+                    applyPermanentModifier(StatModifier.add(Stat.AGILITY, potion.getEffectAmount()));
+                    events.publish(EventType.STAT_GAIN, this, "Agility", potion.getEffectAmount());
                     break;
             }
         }
-        inventory.getPotions().remove(potion);
+        inventory.removeItem(potion);
     }
 
     public void regen() {
         if (isAlive()) {
-            currentHP = Math.min(maxHP, (int) (currentHP * 1.1));
+            setCurrentHP(Math.min(maxHP, (int) (currentHP * 1.1)));
             currentMana = Math.min(maxMana, (int) (currentMana * 1.1));
         }
     }
 
-    public void takeDamage(int damage) {
+    public void takeDamage(int damage, Dice dice) {
         double dodgeChance = agility * 0.002;
-        if (Math.random() < dodgeChance) {
-            System.out.println(name + " dodged the attack!");
+        if (dice.nextDouble() < dodgeChance) {
+            events.publish(EventType.DODGE, this);
             return;
         }
 
         int reduction = equippedArmor != null ? equippedArmor.getDamageReduction() : 0;
         int actualDamage = Math.max(0, damage - reduction);
-        currentHP = Math.max(0, currentHP - actualDamage);
+        setCurrentHP(Math.max(0, currentHP - actualDamage));
 
-        System.out.println(name + " took " + actualDamage + " damage! HP: " + currentHP);
+        events.publish(EventType.DAMAGE_TAKEN, this, actualDamage, currentHP);
 
         if (currentHP == 0) {
-            System.out.println(name + " has fainted!");
+            events.publish(EventType.DEATH, this);
         }
     }
 
     public void revive() {
-        currentHP = maxHP / 2;
+        setCurrentHP(maxHP / 2);
         currentMana = maxMana / 2;
-        System.out.println(name + " has been revived!");
+        events.publish(EventType.REVIVE, this);
     }
 
     public void reviveAtHalfHP() {
@@ -311,7 +304,7 @@ public abstract class Hero {
 
     public void gainGold(int amount) {
         money += amount;
-        System.out.println(name + " gained " + amount + " gold!");
+        events.publish(EventType.GOLD, this, amount);
     }
 
     public boolean canBuy(Item item) {
@@ -320,34 +313,31 @@ public abstract class Hero {
 
     public void buyItem(Item item) {
         if (!canBuy(item)) {
-            System.out.println("Cannot buy " + item.getName());
+            events.publish(EventType.PURCHASE_DENIED, this, item, 0);
             return;
         }
 
         money -= item.getCost();
         inventory.addItem(item);
-        System.out.println(name + " bought " + item.getName() + " for " + item.getCost() + " gold");
+        events.publish(EventType.PURCHASE, this, item, item.getCost());
     }
 
     public void sellItem(Item item) {
         int sellPrice = item.getCost() / 2;
         money += sellPrice;
-        if (item instanceof Weapon) inventory.getWeapons().remove(item);
-        else if (item instanceof Armor) inventory.getArmors().remove(item);
-        else if (item instanceof Potion) inventory.getPotions().remove(item);
-        else if (item instanceof Spell) inventory.getSpells().remove(item);
+        inventory.removeItem(item);
 
-        System.out.println(name + " sold " + item.getName() + " for " + sellPrice + " gold");
+        events.publish(EventType.SALE, this, item, sellPrice);
     }
 
     public void equipWeapon(Weapon weapon) {
         this.equippedWeapon = weapon;
-        System.out.println(name + " equipped " + weapon.getName());
+        events.publish(EventType.EQUIP, this, weapon, 0);
     }
 
     public void equipArmor(Armor armor) {
         this.equippedArmor = armor;
-        System.out.println(name + " equipped " + armor.getName());
+        events.publish(EventType.EQUIP, this, armor, 0);
     }
 
     // Getters
@@ -366,9 +356,15 @@ public abstract class Hero {
     public Inventory getInventory() { return inventory; }
     public Weapon getEquippedWeapon() { return equippedWeapon; }
     public Armor getEquippedArmor() { return equippedArmor; }
+    public EventBus getEvents() { return events; }
+
+    /**
+     * Redirect this hero's messages (e.g. to a silent sink for simulations).
+     */
+    public void setEvents(EventBus events) { this.events = events; }
 
     // Setters for respawn (Valor mode)
-    public void setHP(int hp) { this.currentHP = Math.min(hp, maxHP); }
+    public void setHP(int hp) { setCurrentHP(Math.min(hp, maxHP)); }
     public void setMana(int mana) { this.currentMana = Math.min(mana, maxMana); }
 
     // Valor mode methods
@@ -376,28 +372,175 @@ public abstract class Hero {
     public int getCol() { return col; }
     public int getLaneIndex() { return laneIndex; }
     public void setPosition(int row, int col) {
+        int oldRow = this.row;
+        int oldCol = this.col;
         this.row = row;
         this.col = col;
+        if (board != null) board.heroMoved(this, oldRow, oldCol);
     }
     public void setLaneIndex(int index) { this.laneIndex = index; }
 
-    public void applyTemporaryStrengthBuff(double multiplier) {
-        strength = (int) (strength * multiplier);
+    /**
+     * Attach this hero to a board that tracks its position (null to detach).
+     */
+    public void setBoard(BoardListener board) { this.board = board; }
+    public BoardListener getBoard() { return board; }
+
+    /**
+     * Single write path for HP so the board hears about faints, revivals and HP changes.
+     */
+    private void setCurrentHP(int hp) {
+        int oldHP = currentHP;
+        currentHP = hp;
+        if (board == null || oldHP == hp) return;
+        if ((oldHP > 0) != (hp > 0)) board.heroLifeChanged(this);
+        board.heroHealthChanged(this, oldHP);
     }
-    public void removeTemporaryStrengthBuff(double multiplier) {
-        strength = (int) (strength / multiplier);
+
+    // === Snapshots ===
+
+    /**
+     * An independent copy of this hero as it is now, attached to no board.
+     * Used to give a search its own copy of a match.
+     */
+    public Hero duplicate() {
+        Hero copy;
+        try {
+            copy = (Hero) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+        copy.baseStats = baseStats.clone();
+        copy.modifiers = modifiers.clone();
+        copy.permanent = permanent.clone();
+        copy.inventory = new Inventory();
+        copy.inventory.restore(inventory.snapshot());
+        copy.board = null;
+        return copy;
     }
-    public void applyTemporaryDexterityBuff(double multiplier) {
-        dexterity = (int) (dexterity * multiplier);
+
+    /**
+     * Capture this hero's current state (stats, modifiers, equipment, inventory, position).
+     */
+    public HeroState snapshot() {
+        return new HeroState(this, baseStats.clone(),
+                Arrays.copyOf(modifiers, modifierCount), Arrays.copyOf(permanent, modifierCount));
     }
-    public void removeTemporaryDexterityBuff(double multiplier) {
-        dexterity = (int) (dexterity / multiplier);
+
+    /**
+     * Put this hero back into a state taken from it earlier. The board hears
+     * about the move first and then about any change of life.
+     */
+    public void restore(HeroState state) {
+        level = state.level;
+        experience = state.experience;
+        money = state.money;
+        maxHP = state.maxHP;
+        maxMana = state.maxMana;
+        currentMana = state.currentMana;
+        System.arraycopy(state.baseStats, 0, baseStats, 0, baseStats.length);
+        modifierCount = state.modifiers.length;
+        if (modifiers.length < modifierCount) {
+            modifiers = new StatModifier[modifierCount];
+            permanent = new boolean[modifierCount];
+        }
+        Arrays.fill(modifiers, null);
+        System.arraycopy(state.modifiers, 0, modifiers, 0, modifierCount);
+        System.arraycopy(state.permanent, 0, permanent, 0, modifierCount);
+        recomputeStats();
+        equippedWeapon = state.equippedWeapon;
+        equippedArmor = state.equippedArmor;
+        inventory.restore(state.inventory);
+        laneIndex = state.laneIndex;
+        setPosition(state.row, state.col);
+        setCurrentHP(state.currentHP);
     }
-    public void applyTemporaryAgilityBuff(double multiplier) {
-        agility = (int) (agility * multiplier);
+
+    // === Stat modifiers ===
+
+    /**
+     * Push a temporary modifier (e.g. a terrain buff); undo it with removeModifier.
+     */
+    public void addModifier(StatModifier modifier) {
+        push(modifier, false);
+        recompute(modifier.getStat());
     }
-    public void removeTemporaryAgilityBuff(double multiplier) {
-        agility = (int) (agility / multiplier);
+
+    /**
+     * Pop the most recent copy of a temporary modifier.
+     *
+     * @return false if the modifier was not active
+     */
+    public boolean removeModifier(StatModifier modifier) {
+        for (int i = modifierCount - 1; i >= 0; i--) {
+            if (modifiers[i] == modifier && !permanent[i]) {
+                System.arraycopy(modifiers, i + 1, modifiers, i, modifierCount - i - 1);
+                System.arraycopy(permanent, i + 1, permanent, i, modifierCount - i - 1);
+                modifiers[--modifierCount] = null;
+                foldPermanentModifiers();
+                recompute(modifier.getStat());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Apply a lasting modifier (potions, level-ups). It takes effect after every
+     * modifier already active, exactly as if the stat had been changed now.
+     */
+    protected void applyPermanentModifier(StatModifier modifier) {
+        push(modifier, true);
+        foldPermanentModifiers();
+        recompute(modifier.getStat());
+    }
+
+    private void push(StatModifier modifier, boolean isPermanent) {
+        if (modifierCount == modifiers.length) {
+            modifiers = Arrays.copyOf(modifiers, modifierCount * 2);
+            permanent = Arrays.copyOf(permanent, modifierCount * 2);
+        }
+        modifiers[modifierCount] = modifier;
+        permanent[modifierCount] = isPermanent;
+        modifierCount++;
+    }
+
+    /**
+     * Merge permanent modifiers at the bottom of the stack into the base stats,
+     * so the stack only ever holds what sits above a temporary modifier.
+     */
+    private void foldPermanentModifiers() {
+        int folded = 0;
+        while (folded < modifierCount && permanent[folded]) {
+            StatModifier m = modifiers[folded];
+            baseStats[m.getStat().ordinal()] = m.apply(baseStats[m.getStat().ordinal()]);
+            folded++;
+        }
+        if (folded == 0) return;
+        System.arraycopy(modifiers, folded, modifiers, 0, modifierCount - folded);
+        System.arraycopy(permanent, folded, permanent, 0, modifierCount - folded);
+        for (int i = modifierCount - folded; i < modifierCount; i++) {
+            modifiers[i] = null;
+        }
+        modifierCount -= folded;
+    }
+
+    private void recomputeStats() {
+        for (Stat stat : Stat.values()) {
+            recompute(stat);
+        }
+    }
+
+    private void recompute(Stat stat) {
+        double value = baseStats[stat.ordinal()];
+        for (int i = 0; i < modifierCount; i++) {
+            if (modifiers[i].getStat() == stat) value = modifiers[i].apply(value);
+        }
+        switch (stat) {
+            case STRENGTH -> strength = (int) value;
+            case DEXTERITY -> dexterity = (int) value;
+            case AGILITY -> agility = (int) value;
+        }
     }
 
     @Override
@@ -19,17 +19,16 @@ public class HeroFactory {
      * @return list of Hero objects
      */
     public static List<Hero> loadHeroes(String filePath, String heroType) {
-        List<String[]> data = FileLoader.loadFile(filePath);
         List<Hero> heroes = new ArrayList<>();
 
-        for (String[] line : data) {
-            String name = line[0];
-            int mana = Integer.parseInt(line[1]);
-            int strength = Integer.parseInt(line[2]);
-            int agility = Integer.parseInt(line[3]);
-            int dexterity = Integer.parseInt(line[4]);
-            int money = Integer.parseInt(line[5]);
-            int experience = Integer.parseInt(line[6]);
+        FileLoader.stream(filePath, line -> {
+            String name = line.text(0);
+            int mana = line.intValue(1);
+            int strength = line.intValue(2);
+            int agility = line.intValue(3);
+            int dexterity = line.intValue(4);
+            int money = line.intValue(5);
+            int experience = line.intValue(6);
 
             Hero hero;
             switch (heroType.toLowerCase()) {
@@ -40,7 +39,7 @@ public class HeroFactory {
             }
 
             heroes.add(hero);
-        }
+        });
 
         return heroes;
     }
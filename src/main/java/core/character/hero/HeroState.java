@@ -0,0 +1,57 @@
+package character.hero;
+
+import core.Inventory;
+import item.Armor;
+import item.Weapon;
+
+/**
+ * Immutable copy of everything about a hero that changes during play,
+ * taken by {@link Hero#snapshot()} and written back by {@link Hero#restore}.
+ * Items are immutable, so equipment and inventory entries are shared, not copied.
+ */
+public final class HeroState {
+    final int level;
+    final int experience;
+    final int money;
+    final int maxHP;
+    final int currentHP;
+    final int maxMana;
+    final int currentMana;
+    final double[] baseStats;
+    final StatModifier[] modifiers;
+    final boolean[] permanent;
+    final Weapon equippedWeapon;
+    final Armor equippedArmor;
+    final Inventory.Snapshot inventory;
+    final int row;
+    final int col;
+    final int laneIndex;
+
+    HeroState(Hero hero, double[] baseStats, StatModifier[] modifiers, boolean[] permanent) {
+        this.level = hero.level;
+        this.experience = hero.experience;
+        this.money = hero.money;
+        this.maxHP = hero.maxHP;
+        this.currentHP = hero.currentHP;
+        this.maxMana = hero.maxMana;
+        this.currentMana = hero.currentMana;
+        this.baseStats = baseStats;
+        this.modifiers = modifiers;
+        this.permanent = permanent;
+        this.equippedWeapon = hero.equippedWeapon;
+        this.equippedArmor = hero.equippedArmor;
+        this.inventory = hero.inventory.snapshot();
+        this.row = hero.row;
+        this.col = hero.col;
+        this.laneIndex = hero.laneIndex;
+    }
+
+    public int getLevel() { return level; }
+    public int getHP() { return currentHP; }
+    public int getMaxHP() { return maxHP; }
+    public int getMana() { return currentMana; }
+    public int getMoney() { return money; }
+    public int getRow() { return row; }
+    public int getCol() { return col; }
+    public boolean isAlive() { return currentHP > 0; }
+}
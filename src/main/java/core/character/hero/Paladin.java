@@ -6,6 +6,9 @@ package character.hero;
  */
 public class Paladin extends Hero {
 
+    private static final StatModifier LEVEL_UP_STRENGTH = StatModifier.multiply(Stat.STRENGTH, 1.1);
+    private static final StatModifier LEVEL_UP_DEXTERITY = StatModifier.multiply(Stat.DEXTERITY, 1.1);
+
     /**
      * Constructs a Paladin with the specified attributes.
      *
@@ -28,8 +31,8 @@ public class Paladin extends Hero {
     @Override
     public void levelUp() {
         super.levelUp();
-        this.strength *= 1.1;
-        this.dexterity *= 1.1;
+        applyPermanentModifier(LEVEL_UP_STRENGTH);
+        applyPermanentModifier(LEVEL_UP_DEXTERITY);
     }
 
     @Override
@@ -6,6 +6,9 @@ package character.hero;
  */
 public class Sorcerer extends Hero {
 
+    private static final StatModifier LEVEL_UP_DEXTERITY = StatModifier.multiply(Stat.DEXTERITY, 1.1);
+    private static final StatModifier LEVEL_UP_AGILITY = StatModifier.multiply(Stat.AGILITY, 1.1);
+
     /**
      * Constructs a Sorcerer with the specified attributes.
      *
@@ -28,8 +31,8 @@ public class Sorcerer extends Hero {
     @Override
     public void levelUp() {
         super.levelUp();
-        this.dexterity *= 1.1;
-        this.agility *= 1.1;
+        applyPermanentModifier(LEVEL_UP_DEXTERITY);
+        applyPermanentModifier(LEVEL_UP_AGILITY);
     }
 
     @Override
@@ -0,0 +1,8 @@
+package character.hero;
+
+/**
+ * Hero attributes that modifiers can change.
+ */
+public enum Stat {
+    STRENGTH, DEXTERITY, AGILITY
+}
@@ -0,0 +1,54 @@
+package character.hero;
+
+/**
+ * An immutable change to one hero stat: value * multiplier + bonus.
+ * Terrain buffs, potions and level-ups are all modifiers, so a hero's
+ * effective stats are always recomputed from exact base values instead of
+ * being multiplied and divided in place.
+ */
+public final class StatModifier {
+    private final Stat stat;
+    private final double multiplier;
+    private final int bonus;
+
+    private StatModifier(Stat stat, double multiplier, int bonus) {
+        this.stat = stat;
+        this.multiplier = multiplier;
+        this.bonus = bonus;
+    }
+
+    /**
+     * Scale a stat, e.g. multiply(DEXTERITY, 1.1) for +10%.
+     */
+    public static StatModifier multiply(Stat stat, double multiplier) {
+        return new StatModifier(stat, multiplier, 0);
+    }
+
+    /**
+     * Add a flat amount to a stat.
+     */
+    public static StatModifier add(Stat stat, int bonus) {
+        return new StatModifier(stat, 1.0, bonus);
+    }
+
+    public Stat getStat() {
+        return stat;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public int getBonus() {
+        return bonus;
+    }
+
+    double apply(double value) {
+        return value * multiplier + bonus;
+    }
+
+    @Override
+    public String toString() {
+        return stat + (bonus != 0 ? " +" + bonus : " x" + multiplier);
+    }
+}
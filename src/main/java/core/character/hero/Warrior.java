@@ -7,6 +7,9 @@ package character.hero;
  */
 public class Warrior extends Hero {
 
+    private static final StatModifier LEVEL_UP_STRENGTH = StatModifier.multiply(Stat.STRENGTH, 1.1);
+    private static final StatModifier LEVEL_UP_AGILITY = StatModifier.multiply(Stat.AGILITY, 1.1);
+
     /**
      * Constructs a Warrior with the specified attributes.
      *
@@ -29,8 +32,8 @@ public class Warrior extends Hero {
     @Override
     public void levelUp() {
         super.levelUp();
-        this.strength *= 1.1;
-        this.agility *= 1.1;
+        applyPermanentModifier(LEVEL_UP_STRENGTH);
+        applyPermanentModifier(LEVEL_UP_AGILITY);
     }
 
     @Override
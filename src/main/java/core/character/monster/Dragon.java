@@ -12,8 +12,17 @@ public class Dragon extends Monster {
         this.baseDamage = (int) (this.baseDamage * 1.1);
     }
 
+    protected Dragon(Dragon template) {
+        super(template);
+    }
+
+    @Override
+    public Dragon copy() {
+        return new Dragon(this);
+    }
+
     @Override
     public String toString() {
         return "[Dragon] " + super.toString();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -12,8 +12,17 @@ public class Exoskeleton extends Monster {
         this.defense = (int) (this.defense * 1.1);
     }
 
+    protected Exoskeleton(Exoskeleton template) {
+        super(template);
+    }
+
+    @Override
+    public Exoskeleton copy() {
+        return new Exoskeleton(this);
+    }
+
     @Override
     public String toString() {
         return "[Exoskeleton] " + super.toString();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
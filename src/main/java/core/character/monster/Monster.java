@@ -1,6 +1,10 @@
 package character.monster;
 
+import character.BoardListener;
 import character.hero.Hero;
+import event.EventBus;
+import event.EventType;
+import util.Dice;
 
 /**
  * Monster is the superclass for all monsters in the RPG.
@@ -19,6 +23,15 @@ public class Monster {
     // Valor mode position
     protected int row;
     protected int col;
+    protected BoardListener board; // Board tracking this monster's position, if any
+
+    // While in a MonsterStore, the mutable stats live in the store's arrays at slot
+    // and the fields above are stale; they are written back when the monster leaves
+    MonsterStore store;
+    int slot;
+
+    // Where this monster's combat events go
+    protected EventBus events = EventBus.STDOUT;
 
     public Monster(String name, int level, int baseDamage, int defense, double dodgeChance) {
         this.name = name;
@@ -30,28 +43,51 @@ public class Monster {
         this.currentHP = maxHP;
     }
 
+    /**
+     * Copy constructor: a fresh, full-HP monster with the same (already adjusted) stats.
+     * Subclass bonuses are not applied again.
+     */
+    protected Monster(Monster template) {
+        this.name = template.name;
+        this.level = template.getLevel();
+        this.baseDamage = template.getBaseDamage();
+        this.defense = template.getDefense();
+        this.dodgeChance = template.getDodgeChance();
+        this.maxHP = template.maxHP;
+        this.currentHP = maxHP;
+    }
+
+    /**
+     * Create a new monster from this one, used to spawn instances from catalog templates.
+     */
+    public Monster copy() {
+        return new Monster(this);
+    }
+
     /**
      * Monster attacks a hero.
      */
-    public void attack(Hero hero) {
+    public void attack(Hero hero, Dice dice) {
         if (!isAlive()) {
-            System.out.println(name + " is dead and cannot attack!");
+            events.publish(EventType.CANNOT_ATTACK, this);
             return;
         }
 
-        hero.takeDamage(baseDamage);
-        System.out.println(name + " attacks " + hero.getName() + " for " + baseDamage + " damage!");
+        int damage = getBaseDamage();
+        hero.takeDamage(damage, dice);
+        events.publish(EventType.ATTACK, this, hero, damage);
     }
 
     /**
      * Take damage from hero attack or spell, reduced by defense.
      */
     public void takeDamage(int damage) {
-        int effectiveDamage = Math.max(0, damage - defense);
-        currentHP = Math.max(0, currentHP - effectiveDamage);
+        int effectiveDamage = Math.max(0, damage - getDefense());
+        int hp = Math.max(0, getCurrentHP() - effectiveDamage);
+        setCurrentHP(hp);
 
-        if (currentHP == 0) {
-            System.out.println(name + " has been defeated!");
+        if (hp == 0) {
+            events.publish(EventType.DEATH, this);
         }
     }
 
@@ -59,14 +95,26 @@ public class Monster {
      * Check if monster is alive.
      */
     public boolean isAlive() {
-        return currentHP > 0;
+        return getCurrentHP() > 0;
     }
 
     /**
      * Reset HP to maximum (for new battles).
      */
     public void resetHP() {
-        this.currentHP = maxHP;
+        setCurrentHP(maxHP);
+    }
+
+    /**
+     * Single write path for HP so the board hears about defeats and HP changes.
+     */
+    private void setCurrentHP(int hp) {
+        int oldHP = getCurrentHP();
+        if (store == null) currentHP = hp;
+        else store.hp[slot] = hp;
+        if (board == null || oldHP == hp) return;
+        if ((oldHP > 0) != (hp > 0)) board.monsterLifeChanged(this);
+        board.monsterHealthChanged(this, oldHP);
     }
 
     // Getters
@@ -75,27 +123,27 @@ public class Monster {
     }
 
     public int getLevel() {
-        return level;
+        return store == null ? level : store.level[slot];
     }
 
     public int getBaseDamage() {
-        return baseDamage;
+        return store == null ? baseDamage : store.damage[slot];
     }
 
     public int getDamage() {
-        return baseDamage;
+        return getBaseDamage();
     }
 
     public int getDefense() {
-        return defense;
+        return store == null ? defense : store.defense[slot];
     }
 
     public double getDodgeChance() {
-        return dodgeChance;
+        return store == null ? dodgeChance : store.dodge[slot];
     }
 
     public int getCurrentHP() {
-        return currentHP;
+        return store == null ? currentHP : store.hp[slot];
     }
 
     public int getMaxHP() {
@@ -104,35 +152,111 @@ public class Monster {
 
     // Setters (needed for spell effects)
     public void setBaseDamage(int damage) {
-        this.baseDamage = damage;
+        if (store == null) this.baseDamage = damage;
+        else store.damage[slot] = damage;
     }
 
     public void setDamage(int damage) {
-        this.baseDamage = damage;
+        setBaseDamage(damage);
     }
 
     public void setDefense(int defense) {
-        this.defense = defense;
+        if (store == null) this.defense = defense;
+        else store.defense[slot] = defense;
     }
 
     public void setDodgeChance(double dodgeChance) {
-        this.dodgeChance = dodgeChance;
+        if (store == null) this.dodgeChance = dodgeChance;
+        else store.dodge[slot] = dodgeChance;
+    }
+
+    public EventBus getEvents() {
+        return events;
+    }
+
+    public void setEvents(EventBus events) {
+        this.events = events;
     }
 
     // Valor mode position methods
-    public int getRow() { return row; }
-    public int getCol() { return col; }
+    public int getRow() { return store == null ? row : store.row[slot]; }
+    public int getCol() { return store == null ? col : store.col[slot]; }
     public void setPosition(int row, int col) {
-        this.row = row;
-        this.col = col;
+        int oldRow = getRow();
+        int oldCol = getCol();
+        if (store == null) {
+            this.row = row;
+            this.col = col;
+        } else {
+            store.row[slot] = row;
+            store.col[slot] = col;
+        }
+        if (board != null) board.monsterMoved(this, oldRow, oldCol);
+    }
+
+    /**
+     * An independent copy of this monster as it is now (unlike {@link #copy()},
+     * which spawns a fresh one), attached to no board or store.
+     */
+    public Monster duplicate() {
+        Monster m = copy();
+        m.currentHP = getCurrentHP();
+        m.row = getRow();
+        m.col = getCol();
+        m.events = events;
+        return m;
+    }
+
+    /**
+     * Capture this monster's current stats and position.
+     */
+    public MonsterState snapshot() {
+        return new MonsterState(this);
+    }
+
+    /**
+     * Put this monster back into a state taken from it earlier.
+     */
+    public void restore(MonsterState state) {
+        if (state.monster != this) {
+            throw new IllegalArgumentException("State belongs to " + state.monster.getName() + ", not " + name);
+        }
+        if (store == null) {
+            level = state.level;
+        } else {
+            store.level[slot] = state.level;
+        }
+        setBaseDamage(state.baseDamage);
+        setDefense(state.defense);
+        setDodgeChance(state.dodgeChance);
+        setPosition(state.row, state.col);
+        setCurrentHP(state.currentHP);
+    }
+
+    /**
+     * The store holding this monster's stats, or null if it keeps them itself.
+     */
+    public MonsterStore getStore() {
+        return store;
+    }
+
+    /**
+     * Attach this monster to a board that tracks its position (null to detach).
+     */
+    public void setBoard(BoardListener board) {
+        this.board = board;
+    }
+
+    public BoardListener getBoard() {
+        return board;
     }
 
     @Override
     public String toString() {
-        return name + " [Level " + level + "] " +
-                "HP: " + currentHP + "/" + maxHP +
-                " | DMG: " + baseDamage +
-                " | DEF: " + defense +
-                " | Dodge: " + dodgeChance + "%";
+        return name + " [Level " + getLevel() + "] " +
+                "HP: " + getCurrentHP() + "/" + maxHP +
+                " | DMG: " + getBaseDamage() +
+                " | DEF: " + getDefense() +
+                " | Dodge: " + getDodgeChance() + "%";
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package character.monster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import factory.MonsterFactory;
+import util.Dice;
+
+/**
+ * Monster templates loaded once per process and sorted by level.
+ * Templates are never handed out for play: spawn code picks one and calls
+ * {@link Monster#copy()}. Level filters are binary-searched ranges over the
+ * sorted list instead of a scan of every monster file.
+ */
+public final class MonsterCatalog {
+    private static final String DEFAULT_DATA_DIR = "src/data";
+
+    private static MonsterCatalog shared;
+
+    private final List<Monster> templates; // sorted by level, file order within a level
+
+    public MonsterCatalog(String dataDir) {
+        List<Monster> all = new ArrayList<>();
+        all.addAll(MonsterFactory.loadMonsters(dataDir + "/Dragons.txt", "Dragon"));
+        all.addAll(MonsterFactory.loadMonsters(dataDir + "/Spirits.txt", "Spirit"));
+        all.addAll(MonsterFactory.loadMonsters(dataDir + "/Exoskeletons.txt", "Exoskeleton"));
+        all.sort(Comparator.comparingInt(Monster::getLevel));
+        this.templates = Collections.unmodifiableList(all);
+    }
+
+    /**
+     * The process-wide catalog, loaded from src/data on first use.
+     */
+    public static synchronized MonsterCatalog getDefault() {
+        if (shared == null) {
+            shared = new MonsterCatalog(DEFAULT_DATA_DIR);
+        }
+        return shared;
+    }
+
+    /**
+     * All templates, sorted by level. Read-only: copy before use.
+     */
+    public List<Monster> getAll() {
+        return templates;
+    }
+
+    /**
+     * Templates with minLevel <= level <= maxLevel. Read-only: copy before use.
+     */
+    public List<Monster> getBetween(int minLevel, int maxLevel) {
+        if (minLevel > maxLevel) return Collections.emptyList();
+        return templates.subList(firstAtLeast(minLevel), firstAtLeast(maxLevel + 1));
+    }
+
+    /**
+     * A new monster copied from a random template in the list.
+     */
+    public static Monster spawn(List<Monster> pool, Dice dice) {
+        return pool.get(dice.nextInt(pool.size())).copy();
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    /**
+     * Index of the first template whose level is >= level.
+     */
+    private int firstAtLeast(int level) {
+        int lo = 0;
+        int hi = templates.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (templates.get(mid).getLevel() < level) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -19,15 +19,14 @@ public class MonsterFactory {
      * @return list of Monster objects
      */
     public static List<Monster> loadMonsters(String filePath, String monsterType) {
-        List<String[]> data = FileLoader.loadFile(filePath);
         List<Monster> monsters = new ArrayList<>();
 
-        for (String[] line : data) {
-            String name = line[0];
-            int level = Integer.parseInt(line[1]);
-            int damage = Integer.parseInt(line[2]);
-            int defense = Integer.parseInt(line[3]);
-            int dodge = Integer.parseInt(line[4]);
+        FileLoader.stream(filePath, line -> {
+            String name = line.text(0);
+            int level = line.intValue(1);
+            int damage = line.intValue(2);
+            int defense = line.intValue(3);
+            double dodge = line.doubleValue(4);
 
             Monster monster;
             switch (monsterType.toLowerCase()) {
@@ -38,7 +37,7 @@ public class MonsterFactory {
             }
 
             monsters.add(monster);
-        }
+        });
 
         return monsters;
     }
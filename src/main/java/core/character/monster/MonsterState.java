@@ -0,0 +1,35 @@
+package character.monster;
+
+/**
+ * Immutable copy of a monster's mutable stats and position, taken by
+ * {@link Monster#snapshot()} and written back by {@link Monster#restore}.
+ * It remembers which monster it came from, so a match snapshot can put the
+ * same monsters back on the board.
+ */
+public final class MonsterState {
+    final Monster monster;
+    final int currentHP;
+    final int row;
+    final int col;
+    final int baseDamage;
+    final int defense;
+    final int level;
+    final double dodgeChance;
+
+    MonsterState(Monster monster) {
+        this.monster = monster;
+        this.currentHP = monster.getCurrentHP();
+        this.row = monster.getRow();
+        this.col = monster.getCol();
+        this.baseDamage = monster.getBaseDamage();
+        this.defense = monster.getDefense();
+        this.level = monster.getLevel();
+        this.dodgeChance = monster.getDodgeChance();
+    }
+
+    public Monster getMonster() { return monster; }
+    public int getHP() { return currentHP; }
+    public int getRow() { return row; }
+    public int getCol() { return col; }
+    public boolean isAlive() { return currentHP > 0; }
+}
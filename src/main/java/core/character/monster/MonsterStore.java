@@ -0,0 +1,210 @@
+package character.monster;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * Dense monster list for very large waves: the mutable stats of every monster
+ * (hp, position, damage, defense, dodge, level) live in parallel primitive
+ * arrays, so a pass over all monsters reads a few contiguous arrays instead of
+ * chasing one object per monster.
+ *
+ * The Monster objects stay valid handles: a monster added here reads and writes
+ * its slot, and gets its values back when it is removed. Removal moves the last
+ * monster into the freed slot, so it is O(1) but does not keep list order.
+ */
+public class MonsterStore extends AbstractList<Monster> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Monster[] handles;
+    int[] hp;
+    int[] row;
+    int[] col;
+    int[] damage;
+    int[] defense;
+    int[] level;
+    double[] dodge;
+    private int size;
+
+    public MonsterStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public MonsterStore(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    /**
+     * Move a monster's stats into the store. A monster can be in one store at a time.
+     */
+    @Override
+    public boolean add(Monster m) {
+        if (m.store != null) {
+            throw new IllegalArgumentException(m.getName() + " is already in a MonsterStore");
+        }
+        if (size == handles.length) {
+            allocate(size * 2);
+        }
+        int i = size++;
+        handles[i] = m;
+        hp[i] = m.currentHP;
+        row[i] = m.row;
+        col[i] = m.col;
+        damage[i] = m.baseDamage;
+        defense[i] = m.defense;
+        level[i] = m.level;
+        dodge[i] = m.dodgeChance;
+        m.store = this;
+        m.slot = i;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Monster get(int index) {
+        Objects.checkIndex(index, size);
+        return handles[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Monster m && m.store == this ? m.slot : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Remove by swapping the last monster into this slot.
+     */
+    @Override
+    public Monster remove(int index) {
+        Objects.checkIndex(index, size);
+        Monster removed = handles[index];
+        swapRemove(index);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) return false;
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Remove every matching monster in one pass, compacting by swap-remove.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Monster> filter) {
+        int before = size;
+        int i = 0;
+        while (i < size) {
+            if (filter.test(handles[i])) {
+                swapRemove(i); // re-test slot i, which now holds the former last monster
+            } else {
+                i++;
+            }
+        }
+        if (size == before) return false;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            detach(i);
+            handles[i] = null;
+        }
+        size = 0;
+        modCount++;
+    }
+
+    // Slot accessors for tight loops; slot is a list index in [0, size)
+
+    public int getHP(int slot) {
+        return hp[slot];
+    }
+
+    public int getRow(int slot) {
+        return row[slot];
+    }
+
+    public int getCol(int slot) {
+        return col[slot];
+    }
+
+    private void swapRemove(int index) {
+        detach(index);
+        int last = --size;
+        if (index != last) {
+            Monster moved = handles[last];
+            handles[index] = moved;
+            hp[index] = hp[last];
+            row[index] = row[last];
+            col[index] = col[last];
+            damage[index] = damage[last];
+            defense[index] = defense[last];
+            level[index] = level[last];
+            dodge[index] = dodge[last];
+            moved.slot = index;
+        }
+        handles[last] = null;
+    }
+
+    /**
+     * Hand a monster its stats back so it keeps working outside the store.
+     */
+    private void detach(int i) {
+        Monster m = handles[i];
+        m.currentHP = hp[i];
+        m.row = row[i];
+        m.col = col[i];
+        m.baseDamage = damage[i];
+        m.defense = defense[i];
+        m.level = level[i];
+        m.dodgeChance = dodge[i];
+        m.store = null;
+        m.slot = 0;
+    }
+
+    private void allocate(int capacity) {
+        if (handles == null) {
+            handles = new Monster[capacity];
+            hp = new int[capacity];
+            row = new int[capacity];
+            col = new int[capacity];
+            damage = new int[capacity];
+            defense = new int[capacity];
+            level = new int[capacity];
+            dodge = new double[capacity];
+            return;
+        }
+        handles = Arrays.copyOf(handles, capacity);
+        hp = Arrays.copyOf(hp, capacity);
+        row = Arrays.copyOf(row, capacity);
+        col = Arrays.copyOf(col, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        defense = Arrays.copyOf(defense, capacity);
+        level = Arrays.copyOf(level, capacity);
+        dodge = Arrays.copyOf(dodge, capacity);
+    }
+}
@@ -12,8 +12,17 @@ public class Spirit extends Monster {
         this.dodgeChance = this.dodgeChance * 1.1;
     }
 
+    protected Spirit(Spirit template) {
+        super(template);
+    }
+
+    @Override
+    public Spirit copy() {
+        return new Spirit(this);
+    }
+
     @Override
     public String toString() {
         return "[Spirit] " + super.toString();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
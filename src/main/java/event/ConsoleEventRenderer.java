@@ -0,0 +1,85 @@
+package event;
+
+import character.hero.Hero;
+import character.monster.Monster;
+import item.Item;
+import util.GameIO;
+
+/**
+ * Turns events back into the game's console messages.
+ */
+public class ConsoleEventRenderer implements EventListener {
+    private final GameIO io;
+
+    public ConsoleEventRenderer(GameIO io) {
+        this.io = io;
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        String subject = nameOf(event.getSubject());
+        String target = nameOf(event.getTarget());
+        int amount = event.getAmount();
+        int extra = event.getExtra();
+        boolean byHero = event.getSubject() instanceof Hero;
+
+        switch (event.getType()) {
+            case LEVEL_UP -> io.println(subject + " leveled up to level " + amount + "!");
+            case NO_WEAPON -> io.println(subject + " has no weapon equipped!");
+            case NO_MANA -> io.println(subject + " doesn't have enough mana!");
+            case DODGE -> io.println(subject + (event.getTarget() == null
+                    ? " dodged the attack!" : " dodged the spell!"));
+            case ATTACK -> io.println(byHero
+                    ? subject + " dealt " + amount + " damage to " + target
+                    : subject + " attacks " + target + " for " + amount + " damage!");
+            case CANNOT_ATTACK -> io.println(subject + " is dead and cannot attack!");
+            case SPELL_CAST -> {
+                io.println(subject + " cast " + target + " dealing " + amount + " damage!");
+                io.println("[INFO] " + target + " consumed (single-use item)");
+            }
+            case DAMAGE_TAKEN -> io.println(subject + " took " + amount + " damage! HP: " + extra);
+            case DEATH -> io.println(subject + (byHero ? " has fainted!" : " has been defeated!"));
+            case REVIVE -> io.println(subject + " has been revived!");
+            case RESTORE -> io.println(subject + " restored " + amount + " " + target);
+            case STAT_GAIN -> io.println(subject + " gained " + amount + " " + target);
+            case GOLD -> io.println(subject + " gained " + amount + " gold!");
+            case PURCHASE_DENIED -> io.println("Cannot buy " + target);
+            case PURCHASE -> io.println(subject + " bought " + target + " for " + amount + " gold");
+            case SALE -> io.println(subject + " sold " + target + " for " + amount + " gold");
+            case EQUIP -> io.println(subject + " equipped " + target);
+            case DEBUFF -> io.println(subject + "'s " + target + " reduced!");
+            case MOVE -> io.println((byHero ? "[SUCCESS] " : "") + subject
+                    + " moved to (" + amount + "," + extra + ")");
+            case VICTORY -> io.println("[VICTORY] " + subject + " defeated!");
+            case FALLEN -> io.println("[DEFEAT] " + subject + " has fallen!");
+            case TURN_SKIPPED -> io.println("\n[SKIP] " + subject + " is fallen (will respawn next round)");
+            case ROUND_END -> io.println("\n═══════════════ END OF ROUND " + amount + " ═══════════════");
+            case REGEN -> io.println("[REGEN] " + subject + ": +" + amount + " HP, +" + extra + " Mana");
+            case RESPAWN -> io.println("[RESPAWN] " + subject + " has respawned at Nexus (Lane " + amount + ")!");
+            case REWARD -> {
+                io.println("  • " + subject + " (Level " + levelOf(event.getSubject()) + ")");
+                io.println("    All heroes gain: " + amount + " gold, " + extra + " exp");
+            }
+            case ROUND_COMPLETE -> io.println("\n[INFO] Round " + amount + " complete.");
+            case SPAWN -> io.println("  [Lane " + amount + "] " + subject
+                    + " (Level " + levelOf(event.getSubject()) + ")");
+            case OBSTACLE_REMOVED -> io.println("[SUCCESS] Obstacle removed at (" + amount + "," + extra + ")");
+            case MONSTER_TURN -> io.println("\n=== MONSTERS' TURN ===");
+            case REWARDS -> io.println("\n[REWARDS] Monsters defeated this round:");
+            case WAVE -> io.println("\n[SPAWN] New wave of monsters has appeared!");
+        }
+    }
+
+    private static String nameOf(Object o) {
+        if (o instanceof Hero h) return h.getName();
+        if (o instanceof Monster m) return m.getName();
+        if (o instanceof Item i) return i.getName();
+        return String.valueOf(o);
+    }
+
+    private static int levelOf(Object o) {
+        if (o instanceof Hero h) return h.getLevel();
+        if (o instanceof Monster m) return m.getLevel();
+        return 0;
+    }
+}
@@ -0,0 +1,218 @@
+package event;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import util.ConsoleIO;
+
+/**
+ * Publishes typed game events into a preallocated ring buffer.
+ *
+ * Listeners run synchronously on the publishing thread, so a console renderer
+ * keeps its output in step with the rest of the game. Readers consume the ring
+ * from any thread at their own pace; a reader that falls more than a ring's
+ * length behind skips the overwritten events and counts them as dropped.
+ *
+ * Slots are claimed with one atomic increment and written in place, so a publish
+ * never blocks or allocates. With no listeners and no readers it returns at once,
+ * which lets headless simulations run the rules without building any message.
+ */
+public final class EventBus {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final EventListener[] NO_LISTENERS = new EventListener[0];
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            NEXT = MethodHandles.lookup().findVarHandle(EventBus.class, "next", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Discards every event and cannot be subscribed to.
+     */
+    public static final EventBus NONE = new EventBus(1, false);
+
+    /**
+     * Renders events to standard output; the default for heroes and monsters
+     * that are not part of a match with its own bus.
+     */
+    public static final EventBus STDOUT = new EventBus();
+
+    static {
+        STDOUT.subscribe(new ConsoleEventRenderer(ConsoleIO.STDOUT));
+    }
+
+    private final GameEvent[] ring;
+    private final int mask;
+    private final boolean open;
+    private volatile EventListener[] listeners = NO_LISTENERS;
+    private volatile int readers;
+    @SuppressWarnings("unused") // accessed through NEXT
+    private volatile long next;
+
+    public EventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity ring size, rounded up to a power of two
+     */
+    public EventBus(int capacity) {
+        this(capacity, true);
+    }
+
+    private EventBus(int capacity, boolean open) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+        this.ring = new GameEvent[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new GameEvent();
+        }
+        this.mask = size - 1;
+        this.open = open;
+    }
+
+    /**
+     * Whether anything consumes events, so callers can skip work done only for them.
+     */
+    public boolean isActive() {
+        return listeners.length != 0 || readers != 0;
+    }
+
+    public void publish(EventType type, Object subject) {
+        publish(type, subject, null, 0, 0);
+    }
+
+    public void publish(EventType type, Object subject, int amount) {
+        publish(type, subject, null, amount, 0);
+    }
+
+    public void publish(EventType type, Object subject, int amount, int extra) {
+        publish(type, subject, null, amount, extra);
+    }
+
+    public void publish(EventType type, Object subject, Object target, int amount) {
+        publish(type, subject, target, amount, 0);
+    }
+
+    /**
+     * Publish one event; see {@link EventType} for what each field means.
+     */
+    public void publish(EventType type, Object subject, Object target, int amount, int extra) {
+        EventListener[] current = listeners;
+        if (current.length == 0 && readers == 0) return;
+
+        long seq = (long) NEXT.getAndAdd(this, 1L);
+        GameEvent slot = ring[(int) (seq & mask)];
+        slot.write(seq, type, subject, target, amount, extra);
+        for (EventListener listener : current) {
+            listener.onEvent(slot);
+        }
+    }
+
+    public synchronized void subscribe(EventListener listener) {
+        checkOpen();
+        EventListener[] current = listeners;
+        EventListener[] updated = new EventListener[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, current.length);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    public synchronized void unsubscribe(EventListener listener) {
+        EventListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                EventListener[] updated = new EventListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Start reading the ring from the next event published.
+     * Close the reader when done, or the bus keeps recording for it.
+     */
+    public synchronized Reader reader() {
+        checkOpen();
+        readers++;
+        return new Reader((long) NEXT.getVolatile(this));
+    }
+
+    private void checkOpen() {
+        if (!open) {
+            throw new UnsupportedOperationException("EventBus.NONE cannot be subscribed to");
+        }
+    }
+
+    /**
+     * A cursor over the ring for one consumer thread. Not thread-safe itself.
+     */
+    public final class Reader implements AutoCloseable {
+        private final GameEvent copy = new GameEvent();
+        private long position;
+        private long dropped;
+        private boolean closed;
+
+        private Reader(long start) {
+            this.position = start;
+        }
+
+        /**
+         * Hand up to max published events to the sink, in order.
+         *
+         * @return how many events were delivered
+         */
+        public int poll(EventListener sink, int max) {
+            int delivered = 0;
+            while (delivered < max) {
+                long claimed = (long) NEXT.getVolatile(EventBus.this);
+                if (claimed - position > ring.length) {
+                    long oldest = claimed - ring.length;
+                    dropped += oldest - position;
+                    position = oldest;
+                }
+                if (position >= claimed) break;
+
+                GameEvent slot = ring[(int) (position & mask)];
+                long published = slot.publishedSequence();
+                if (published < position) break; // still being written
+                if (published > position || !copy.copyFrom(slot, position)) {
+                    dropped++; // overwritten by a later lap
+                    position++;
+                    continue;
+                }
+                position++;
+                sink.onEvent(copy);
+                delivered++;
+            }
+            return delivered;
+        }
+
+        /**
+         * Events skipped because the ring wrapped before they were read.
+         */
+        public long getDropped() {
+            return dropped;
+        }
+
+        @Override
+        public void close() {
+            synchronized (EventBus.this) {
+                if (!closed) {
+                    closed = true;
+                    readers--;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package event;
+
+/**
+ * Receives events synchronously, on the thread that published them.
+ * The event is a reused ring slot: read it during the call, never keep it.
+ */
+public interface EventListener {
+
+    void onEvent(GameEvent event);
+}
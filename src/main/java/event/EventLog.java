@@ -0,0 +1,407 @@
+package event;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import character.hero.Hero;
+import character.monster.Monster;
+import item.Item;
+
+/**
+ * Append-only telemetry log of game events in fixed 64-byte binary records,
+ * spread over memory-mapped segment files of a fixed size.
+ *
+ * Matches attach their {@link EventBus}; a background thread reads every
+ * attached bus through its own {@link EventBus.Reader} and copies events into
+ * the current segment in batches, so publishing stays a ring write and the game
+ * thread never waits on the disk. If the writer falls a whole ring behind a
+ * bus, the overwritten events are skipped and counted in {@link #getDropped()}.
+ * If the writer fails (e.g. the disk is full), it detaches every bus, keeps
+ * the error for {@link #getFailure()} and {@link #close()}, and logs nothing more.
+ *
+ * Segments are named events-NNNNNN.log and numbered on from the last one in the
+ * directory, so runs append. A segment starts with a 64-byte header (magic,
+ * version, record size, segment number, record count); the count is updated
+ * after each batch, so a reader never sees a half-written record.
+ *
+ * Record layout (little-endian): sequence (8), time in ms (8), session (4),
+ * event type ordinal (1), subject kind (1), target kind (1), unused (1),
+ * amount (4), extra (4), subject name (16), target name (16). Names are UTF-8,
+ * zero padded and cut at 16 bytes. {@link EventType} ordinals are stored, so
+ * new types must be added at the end of the enum.
+ */
+public final class EventLog implements AutoCloseable {
+    public static final int RECORD_BYTES = 64;
+    public static final int DEFAULT_SEGMENT_BYTES = 8 << 20;
+
+    private static final int MAGIC = 0x45564C47; // "EVLG"
+    private static final int VERSION = 1;
+    private static final int COUNT_OFFSET = 16;
+    private static final int NAME_BYTES = 16;
+    private static final int BATCH = 256; // Events per bus per pass
+    private static final long IDLE_NANOS = 1_000_000;
+
+    /**
+     * What an event's subject or target was.
+     */
+    public enum Kind { NONE, HERO, MONSTER, ITEM, TEXT }
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final List<Source> sources = new CopyOnWriteArrayList<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+    private volatile boolean stopped; // the writer has released every reader
+    private volatile Throwable failure;
+
+    // Owned by the writer thread
+    private int segmentIndex;
+    private MappedByteBuffer segment;
+    private int segmentRecords;
+    private final byte[] nameBytes = new byte[NAME_BYTES];
+    private volatile long written;
+    private volatile long dropped;
+
+    public EventLog(Path dir) throws IOException {
+        this(dir, DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * @param segmentBytes size of each segment file, header included
+     */
+    public EventLog(Path dir, int segmentBytes) throws IOException {
+        if (segmentBytes < 2 * RECORD_BYTES) {
+            throw new IllegalArgumentException("Segment too small: " + segmentBytes);
+        }
+        this.dir = dir;
+        this.segmentBytes = segmentBytes / RECORD_BYTES * RECORD_BYTES;
+        Files.createDirectories(dir);
+        List<Path> existing = segments(dir);
+        this.segmentIndex = existing.isEmpty() ? 0 : indexOf(existing.get(existing.size() - 1)) + 1;
+        openSegment();
+
+        this.writer = new Thread(this::writeLoop, "event-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Start logging the bus's events under the given session number (e.g. a
+     * match id). Only events published from now on are logged.
+     *
+     * @throws IllegalStateException if the log is closed or its writer failed
+     */
+    public void attach(EventBus bus, int session) {
+        Source source = new Source(bus, bus.reader(), session);
+        sources.add(source);
+        if (stopped) {
+            // The writer may have finished before seeing the new source
+            sources.remove(source);
+            source.reader.close();
+            throw new IllegalStateException("Event log is closed", failure);
+        }
+    }
+
+    /**
+     * Stop logging the bus once the writer has caught up with it.
+     */
+    public void detach(EventBus bus) {
+        for (Source source : sources) {
+            if (source.bus == bus) source.detached = true;
+        }
+    }
+
+    /**
+     * Records written so far (approximate while the writer runs).
+     */
+    public long getWritten() {
+        return written;
+    }
+
+    /**
+     * Events lost because the writer fell a ring behind a bus.
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * The error that stopped the writer, or null while it is healthy.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Log every event still in the attached buses, flush the segments and stop.
+     *
+     * @throws IOException if the writer failed; records after the failure were not logged
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw new IOException("Event log writer failed after " + written + " records", failure);
+        }
+    }
+
+    private void writeLoop() {
+        try {
+            drainUntilClosed();
+            segment.force();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        } finally {
+            stopped = true;
+            for (Source source : sources) {
+                dropped += source.reader.getDropped();
+                source.reader.close();
+            }
+            sources.clear();
+        }
+    }
+
+    private void drainUntilClosed() {
+        RecordWriter sink = new RecordWriter();
+        while (true) {
+            boolean stopping = !running;
+            int delivered = 0;
+            for (Source source : sources) {
+                sink.session = source.session;
+                boolean detached = source.detached;
+                int n;
+                do {
+                    n = source.reader.poll(sink, BATCH);
+                    delivered += n;
+                } while (n == BATCH);
+                if (detached) {
+                    dropped += source.reader.getDropped();
+                    source.reader.close();
+                    sources.remove(source);
+                }
+            }
+            if (delivered > 0) {
+                segment.putInt(COUNT_OFFSET, segmentRecords);
+            }
+            if (stopping) break;
+            if (delivered == 0) LockSupport.parkNanos(IDLE_NANOS);
+        }
+    }
+
+    private void write(GameEvent event, int session) {
+        if ((segmentRecords + 2) * RECORD_BYTES > segmentBytes) {
+            // No force: the pages are already the file's, and survive the process dying
+            segment.putInt(COUNT_OFFSET, segmentRecords);
+            segmentIndex++;
+            openSegment();
+        }
+        int at = (segmentRecords + 1) * RECORD_BYTES;
+        Object subject = event.getSubject();
+        Object target = event.getTarget();
+        segment.putLong(at, event.getSequence());
+        segment.putLong(at + 8, System.currentTimeMillis());
+        segment.putInt(at + 16, session);
+        segment.put(at + 20, (byte) event.getType().ordinal());
+        segment.put(at + 21, (byte) kindOf(subject).ordinal());
+        segment.put(at + 22, (byte) kindOf(target).ordinal());
+        segment.putInt(at + 24, event.getAmount());
+        segment.putInt(at + 28, event.getExtra());
+        putName(at + 32, subject);
+        putName(at + 48, target);
+        segmentRecords++;
+        written++;
+    }
+
+    private void putName(int at, Object o) {
+        String name = nameOf(o);
+        int length = name == null ? 0 : name.length();
+        int i = 0;
+        // ASCII names (all of the game's) go straight in; anything else is encoded
+        for (; i < NAME_BYTES && i < length; i++) {
+            char c = name.charAt(i);
+            if (c >= 0x80) break;
+            nameBytes[i] = (byte) c;
+        }
+        if (i < NAME_BYTES && i < length) {
+            byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+            i = Math.min(NAME_BYTES, utf8.length);
+            System.arraycopy(utf8, 0, nameBytes, 0, i);
+        }
+        Arrays.fill(nameBytes, i, NAME_BYTES, (byte) 0);
+        segment.put(at, nameBytes);
+    }
+
+    private void openSegment() {
+        Path file = dir.resolve(String.format("events-%06d.log", segmentIndex));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create event log segment " + file, e);
+        }
+        segment.order(ByteOrder.LITTLE_ENDIAN);
+        segment.putInt(0, MAGIC);
+        segment.putInt(4, VERSION);
+        segment.putInt(8, RECORD_BYTES);
+        segment.putInt(12, segmentIndex);
+        segment.putInt(COUNT_OFFSET, 0);
+        segmentRecords = 0;
+    }
+
+    private static Kind kindOf(Object o) {
+        if (o == null) return Kind.NONE;
+        if (o instanceof Hero) return Kind.HERO;
+        if (o instanceof Monster) return Kind.MONSTER;
+        if (o instanceof Item) return Kind.ITEM;
+        return Kind.TEXT;
+    }
+
+    private static String nameOf(Object o) {
+        if (o == null) return null;
+        if (o instanceof Hero) return ((Hero) o).getName();
+        if (o instanceof Monster) return ((Monster) o).getName();
+        if (o instanceof Item) return ((Item) o).getName();
+        return o.toString();
+    }
+
+    /**
+     * Read every record in the directory's segments, oldest first. The record
+     * passed to the sink is reused: read it during the call, never keep it.
+     */
+    public static void scan(Path dir, Consumer<Record> sink) throws IOException {
+        Record record = new Record();
+        for (Path file : segments(dir)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                if (buffer.capacity() < RECORD_BYTES
+                        || buffer.getInt(0) != MAGIC || buffer.getInt(8) != RECORD_BYTES) {
+                    throw new IOException("Not an event log segment: " + file);
+                }
+                int count = buffer.getInt(COUNT_OFFSET);
+                for (int i = 1; i <= count; i++) {
+                    record.at(buffer, i * RECORD_BYTES);
+                    sink.accept(record);
+                }
+            }
+        }
+    }
+
+    private static List<Path> segments(Path dir) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(dir)) return files;
+        try (Stream<Path> list = Files.list(dir)) {
+            list.filter(p -> p.getFileName().toString().matches("events-\\d{6}\\.log"))
+                    .sorted()
+                    .forEach(files::add);
+        }
+        return files;
+    }
+
+    private static int indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Integer.parseInt(name.substring(7, 13));
+    }
+
+    /**
+     * Summarise a log directory: record count per event type.
+     * Usage: java -cp out event.EventLog dir
+     */
+    public static void main(String[] args) throws IOException {
+        Map<EventType, Long> counts = new EnumMap<>(EventType.class);
+        long[] total = {0};
+        scan(Path.of(args.length > 0 ? args[0] : "telemetry"), r -> {
+            counts.merge(r.getType(), 1L, Long::sum);
+            total[0]++;
+        });
+        System.out.println(total[0] + " events");
+        counts.forEach((type, n) -> System.out.printf("%-16s %d%n", type, n));
+    }
+
+    /**
+     * One record read back by {@link #scan}.
+     */
+    public static final class Record {
+        private ByteBuffer buffer;
+        private int at;
+
+        private Record() {
+        }
+
+        void at(ByteBuffer buffer, int at) {
+            this.buffer = buffer;
+            this.at = at;
+        }
+
+        public long getSequence() { return buffer.getLong(at); }
+        public long getTimeMillis() { return buffer.getLong(at + 8); }
+        public int getSession() { return buffer.getInt(at + 16); }
+        public EventType getType() { return EventType.values()[buffer.get(at + 20)]; }
+        public Kind getSubjectKind() { return Kind.values()[buffer.get(at + 21)]; }
+        public Kind getTargetKind() { return Kind.values()[buffer.get(at + 22)]; }
+        public int getAmount() { return buffer.getInt(at + 24); }
+        public int getExtra() { return buffer.getInt(at + 28); }
+        public String getSubject() { return name(at + 32); }
+        public String getTarget() { return name(at + 48); }
+
+        private String name(int offset) {
+            int n = 0;
+            while (n < NAME_BYTES && buffer.get(offset + n) != 0) n++;
+            if (n == 0) return null;
+            byte[] bytes = new byte[n];
+            buffer.get(offset, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String toString() {
+            return "#" + getSequence() + " [" + getSession() + "] " + getType() + " " + getSubject()
+                    + " -> " + getTarget() + " (" + getAmount() + ", " + getExtra() + ")";
+        }
+    }
+
+    private final class RecordWriter implements EventListener {
+        int session;
+
+        @Override
+        public void onEvent(GameEvent event) {
+            write(event, session);
+        }
+    }
+
+    private static final class Source {
+        final EventBus bus;
+        final EventBus.Reader reader;
+        final int session;
+        volatile boolean detached;
+
+        Source(EventBus bus, EventBus.Reader reader, int session) {
+            this.bus = bus;
+            this.reader = reader;
+            this.session = session;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package event;
+
+/**
+ * Kinds of things that happen during play. Each type documents which
+ * {@link GameEvent} fields it fills; unused fields are null or zero.
+ */
+public enum EventType {
+    /** subject: hero, amount: new level */
+    LEVEL_UP,
+    /** subject: hero trying to attack without a weapon */
+    NO_WEAPON,
+    /** subject: hero trying to cast without enough mana */
+    NO_MANA,
+    /** subject: who dodged, target: the spell when a spell was dodged */
+    DODGE,
+    /** subject: attacker (hero or monster), target: defender, amount: damage */
+    ATTACK,
+    /** subject: dead monster asked to attack */
+    CANNOT_ATTACK,
+    /** subject: hero, target: spell, amount: damage */
+    SPELL_CAST,
+    /** subject: hero, amount: damage after armor, extra: HP left */
+    DAMAGE_TAKEN,
+    /** subject: hero that fainted or monster that was defeated */
+    DEATH,
+    /** subject: hero */
+    REVIVE,
+    /** subject: hero, target: "HP" or "Mana", amount: points restored */
+    RESTORE,
+    /** subject: hero, target: stat name, amount: points gained */
+    STAT_GAIN,
+    /** subject: hero, amount: gold gained */
+    GOLD,
+    /** subject: hero, target: item */
+    PURCHASE_DENIED,
+    /** subject: hero, target: item, amount: price paid */
+    PURCHASE,
+    /** subject: hero, target: item, amount: price received */
+    SALE,
+    /** subject: hero, target: weapon or armor */
+    EQUIP,
+    /** subject: monster, target: name of the weakened stat */
+    DEBUFF,
+    /** subject: hero or monster, amount: new row, extra: new column */
+    MOVE,
+    /** subject: monster killed by a hero action */
+    VICTORY,
+    /** subject: hero killed by a monster */
+    FALLEN,
+    /** subject: fallen hero whose turn is skipped */
+    TURN_SKIPPED,
+    /** amount: round number */
+    ROUND_END,
+    /** subject: hero, amount: HP gained, extra: mana gained */
+    REGEN,
+    /** subject: hero, amount: lane number (1-based) */
+    RESPAWN,
+    /** subject: defeated monster, amount: gold per hero, extra: exp per hero */
+    REWARD,
+    /** amount: round number */
+    ROUND_COMPLETE,
+    /** subject: new monster, amount: lane number (1-based) */
+    SPAWN,
+    /** amount: row, extra: column of the cleared cell */
+    OBSTACLE_REMOVED,
+    /** start of the monsters' turn */
+    MONSTER_TURN,
+    /** amount: number of monsters defeated this round; their REWARD events follow */
+    REWARDS,
+    /** amount: round number; the new monsters' SPAWN events follow */
+    WAVE
+}
@@ -0,0 +1,93 @@
+package event;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * One slot of an {@link EventBus} ring. Slots are allocated once and
+ * overwritten in place, so publishing allocates nothing.
+ * Subject and target are live game objects (heroes, monsters, items) or
+ * string constants; the numbers are copied at publish time.
+ */
+public final class GameEvent {
+    private static final VarHandle SEQUENCE;
+
+    static {
+        try {
+            SEQUENCE = MethodHandles.lookup().findVarHandle(GameEvent.class, "sequence", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Sequence number of the event in this slot, -1 while it is being written
+    private long sequence = -1;
+    private EventType type;
+    private Object subject;
+    private Object target;
+    private int amount;
+    private int extra;
+
+    GameEvent() {
+    }
+
+    void write(long seq, EventType type, Object subject, Object target, int amount, int extra) {
+        SEQUENCE.setOpaque(this, -1L);
+        VarHandle.storeStoreFence();
+        this.type = type;
+        this.subject = subject;
+        this.target = target;
+        this.amount = amount;
+        this.extra = extra;
+        SEQUENCE.setRelease(this, seq);
+    }
+
+    long publishedSequence() {
+        return (long) SEQUENCE.getAcquire(this);
+    }
+
+    /**
+     * Copy a slot for a reader on another thread.
+     *
+     * @return false if the writer overwrote the slot while it was being copied
+     */
+    boolean copyFrom(GameEvent slot, long seq) {
+        type = slot.type;
+        subject = slot.subject;
+        target = slot.target;
+        amount = slot.amount;
+        extra = slot.extra;
+        VarHandle.loadLoadFence();
+        sequence = seq;
+        return (long) SEQUENCE.getOpaque(slot) == seq;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    public Object getSubject() {
+        return subject;
+    }
+
+    public Object getTarget() {
+        return target;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public int getExtra() {
+        return extra;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + sequence + " " + type + " " + subject + " -> " + target + " (" + amount + ", " + extra + ")";
+    }
+}
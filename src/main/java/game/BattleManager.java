@@ -5,8 +5,10 @@ import character.monster.Monster;
 import item.Spell;
 import item.Potion;
 
+import util.Dice;
+import util.GameIO;
+
 import java.util.List;
-import java.util.Scanner;
 
 /**
  * Manages the battle between heroes and monsters.
@@ -15,13 +17,15 @@ import java.util.Scanner;
 public class BattleManager {
     private List<Hero> heroes;
     private List<Monster> monsters;
-    private Scanner scanner;
+    private GameIO io;
+    private Dice dice;
     private boolean playerQuit;
 
-    public BattleManager(Scanner scanner, List<Hero> heroes, List<Monster> monsters) {
+    public BattleManager(GameIO io, Dice dice, List<Hero> heroes, List<Monster> monsters) {
         this.heroes = heroes;
         this.monsters = monsters;
-        this.scanner = scanner;
+        this.io = io;
+        this.dice = dice;
         this.playerQuit = false;
     }
 
@@ -29,9 +33,9 @@ public class BattleManager {
         int round = 1;
 
         while (hasAliveHeroes() && hasAliveMonsters()) {
-            System.out.println("\n========================================");
-            System.out.println("  ROUND " + round);
-            System.out.println("========================================");
+            io.println("\n========================================");
+            io.println("  ROUND " + round);
+            io.println("========================================");
             displayBattleStatus();
 
             heroTurn();
@@ -63,31 +67,31 @@ public class BattleManager {
     }
 
     private void displayBattleStatus() {
-        System.out.println("\n--- YOUR HEROES ---");
+        io.println("\n--- YOUR HEROES ---");
         for (int i = 0; i < heroes.size(); i++) {
             Hero h = heroes.get(i);
             String status = h.isAlive() ? "ALIVE" : "FAINTED";
-            System.out.println((i + 1) + ") " + h.getName() + " [" + status + "]");
+            io.println((i + 1) + ") " + h.getName() + " [" + status + "]");
             if (h.isAlive()) {
                 String hpBar = createBar(h.getHP(), h.getMaxHP(), 20, "=", "-");
                 String manaBar = createBar(h.getMana(), h.getMaxMana(), 20, "=", "-");
-                System.out.println("   HP:   [" + hpBar + "] " + h.getHP() + "/" + h.getMaxHP());
-                System.out.println("   Mana: [" + manaBar + "] " + h.getMana() + "/" + h.getMaxMana());
+                io.println("   HP:   [" + hpBar + "] " + h.getHP() + "/" + h.getMaxHP());
+                io.println("   Mana: [" + manaBar + "] " + h.getMana() + "/" + h.getMaxMana());
             }
         }
 
-        System.out.println("\n--- ENEMIES ---");
+        io.println("\n--- ENEMIES ---");
         for (int i = 0; i < monsters.size(); i++) {
             Monster m = monsters.get(i);
             String status = m.isAlive() ? "ALIVE" : "DEFEATED";
-            System.out.println((i + 1) + ") " + m.getName() + " [" + status + "]");
+            io.println((i + 1) + ") " + m.getName() + " [" + status + "]");
             if (m.isAlive()) {
                 String hpBar = createBar(m.getCurrentHP(), m.getMaxHP(), 20, "=", "-");
-                System.out.println("   HP:  [" + hpBar + "] " + m.getCurrentHP() + "/" + m.getMaxHP() +
+                io.println("   HP:  [" + hpBar + "] " + m.getCurrentHP() + "/" + m.getMaxHP() +
                         " | DMG: " + m.getBaseDamage() + " | DEF: " + m.getDefense());
             }
         }
-        System.out.println();
+        io.println();
     }
 
     private String createBar(int current, int max, int length, String filled, String empty) {
@@ -99,11 +103,14 @@ public class BattleManager {
 
     private void heroTurn() {
         for (Hero hero : heroes) {
+            if (!hasAliveMonsters()) {
+                return;
+            }
             if (!hero.isAlive()) {
                 continue;
             }
 
-            System.out.println("\n*** " + hero.getName() + "'s turn ***");
+            io.println("\n*** " + hero.getName() + "'s turn ***");
             processHeroAction(hero);
 
             if (playerQuit) {
@@ -114,15 +121,15 @@ public class BattleManager {
 
     private void processHeroAction(Hero hero) {
         while (true) {
-            System.out.println("\nChoose action:");
-            System.out.println("1) Attack with weapon");
-            System.out.println("2) Cast spell");
-            System.out.println("3) Use potion");
-            System.out.println("4) View stats (doesn't use turn)");
-            System.out.println("Q) Quit game");
-            System.out.print("Choice: ");
+            io.println("\nChoose action:");
+            io.println("1) Attack with weapon");
+            io.println("2) Cast spell");
+            io.println("3) Use potion");
+            io.println("4) View stats (doesn't use turn)");
+            io.println("Q) Quit game");
+            io.print("Choice: ");
 
-            String choice = scanner.nextLine().trim().toUpperCase();
+            String choice = io.readLine().trim().toUpperCase();
 
             if (choice.equals("Q")) {
                 if (confirmQuit()) {
@@ -146,22 +153,22 @@ public class BattleManager {
                     displayBattleStatus();
                     break;
                 default:
-                    System.out.println("[ERROR] Invalid choice!");
+                    io.println("[ERROR] Invalid choice!");
                     break;
             }
         }
     }
 
     private boolean confirmQuit() {
-        System.out.println("\n[WARNING] Quit during battle?");
-        System.out.print("Enter 'Y' to quit or 'N' to continue: ");
-        String response = scanner.nextLine().trim().toUpperCase();
+        io.println("\n[WARNING] Quit during battle?");
+        io.print("Enter 'Y' to quit or 'N' to continue: ");
+        String response = io.readLine().trim().toUpperCase();
         return response.equals("Y") || response.equals("YES");
     }
 
     private boolean heroAttack(Hero hero) {
         if (hero.getEquippedWeapon() == null) {
-            System.out.println("[ERROR] No weapon equipped!");
+            io.println("[ERROR] No weapon equipped!");
             return false;
         }
 
@@ -170,10 +177,10 @@ public class BattleManager {
             return false;
         }
 
-        hero.attack(target);
+        hero.attack(target, dice);
 
         if (!target.isAlive()) {
-            System.out.println("[VICTORY] " + target.getName() + " has been defeated!");
+            io.println("[VICTORY] " + target.getName() + " has been defeated!");
         }
 
         return true;
@@ -183,11 +190,11 @@ public class BattleManager {
         List<Spell> spells = hero.getInventory().getSpells();
 
         if (spells.isEmpty()) {
-            System.out.println("[ERROR] No spells in inventory!");
+            io.println("[ERROR] No spells in inventory!");
             return false;
         }
 
-        System.out.println("\nAvailable spells (" + spells.size() + " total):");
+        io.println("\nAvailable spells (" + spells.size() + " total):");
 
         // 统计每种法术的数量
         java.util.Map<String, Integer> spellCounts = new java.util.HashMap<>();
@@ -202,20 +209,20 @@ public class BattleManager {
         for (Spell s : spells) {
             if (!displayed.contains(s.getName())) {
                 int count = spellCounts.get(s.getName());
-                System.out.println((index++) + ") " + s.getName() +
+                io.println((index++) + ") " + s.getName() +
                         " (Damage: " + s.getBaseDamage() +
                         ", Mana: " + s.getManaCost() +
                         ") x" + count);
                 displayed.add(s.getName());
             }
         }
-        System.out.print("Select spell (or 0 to cancel): ");
+        io.print("Select spell (or 0 to cancel): ");
 
         try {
-            int choice = Integer.parseInt(scanner.nextLine().trim());
+            int choice = Integer.parseInt(io.readLine().trim());
             if (choice == 0) return false;
             if (choice < 1 || choice > displayed.size()) {
-                System.out.println("[ERROR] Invalid choice!");
+                io.println("[ERROR] Invalid choice!");
                 return false;
             }
 
@@ -230,12 +237,12 @@ public class BattleManager {
             }
 
             if (spell == null) {
-                System.out.println("[ERROR] Spell not found!");
+                io.println("[ERROR] Spell not found!");
                 return false;
             }
 
             if (hero.getMana() < spell.getManaCost()) {
-                System.out.println("[ERROR] Not enough mana! (Need: " + spell.getManaCost() +
+                io.println("[ERROR] Not enough mana! (Need: " + spell.getManaCost() +
                         ", Have: " + hero.getMana() + ")");
                 return false;
             }
@@ -245,16 +252,16 @@ public class BattleManager {
                 return false;
             }
 
-            hero.castSpell(spell, target);
+            hero.castSpell(spell, target, dice);
 
             if (!target.isAlive()) {
-                System.out.println("[VICTORY] " + target.getName() + " has been defeated!");
+                io.println("[VICTORY] " + target.getName() + " has been defeated!");
             }
 
             return true;
 
         } catch (NumberFormatException e) {
-            System.out.println("[ERROR] Invalid input!");
+            io.println("[ERROR] Invalid input!");
             return false;
         }
     }
@@ -263,24 +270,24 @@ public class BattleManager {
         List<Potion> potions = hero.getInventory().getPotions();
 
         if (potions.isEmpty()) {
-            System.out.println("[ERROR] No potions in inventory!");
+            io.println("[ERROR] No potions in inventory!");
             return false;
         }
 
-        System.out.println("\nAvailable potions:");
+        io.println("\nAvailable potions:");
         for (int i = 0; i < potions.size(); i++) {
             Potion p = potions.get(i);
-            System.out.println((i + 1) + ") " + p.getName() +
+            io.println((i + 1) + ") " + p.getName() +
                     " (Effect: +" + p.getEffectAmount() +
                     " to " + p.getAffectedAttributes() + ")");
         }
-        System.out.print("Select potion (or 0 to cancel): ");
+        io.print("Select potion (or 0 to cancel): ");
 
         try {
-            int choice = Integer.parseInt(scanner.nextLine().trim());
+            int choice = Integer.parseInt(io.readLine().trim());
             if (choice == 0) return false;
             if (choice < 1 || choice > potions.size()) {
-                System.out.println("[ERROR] Invalid choice!");
+                io.println("[ERROR] Invalid choice!");
                 return false;
             }
 
@@ -290,7 +297,7 @@ public class BattleManager {
             return true;
 
         } catch (NumberFormatException e) {
-            System.out.println("[ERROR] Invalid input!");
+            io.println("[ERROR] Invalid input!");
             return false;
         }
     }
@@ -304,29 +311,29 @@ public class BattleManager {
             return null;
         }
 
-        System.out.println("\nSelect target:");
+        io.println("\nSelect target:");
         for (int i = 0; i < aliveMonsters.size(); i++) {
             Monster m = aliveMonsters.get(i);
-            System.out.println((i + 1) + ") " + m.getName() +
+            io.println((i + 1) + ") " + m.getName() +
                     " (HP: " + m.getCurrentHP() + "/" + m.getMaxHP() + ")");
         }
-        System.out.print("Target (or 0 to cancel): ");
+        io.print("Target (or 0 to cancel): ");
 
         try {
-            int choice = Integer.parseInt(scanner.nextLine().trim());
+            int choice = Integer.parseInt(io.readLine().trim());
             if (choice == 0) return null;
             if (choice >= 1 && choice <= aliveMonsters.size()) {
                 return aliveMonsters.get(choice - 1);
             }
         } catch (NumberFormatException e) {
-            System.out.println("[ERROR] Invalid input!");
+            io.println("[ERROR] Invalid input!");
         }
 
         return null;
     }
 
     private void monsterTurn() {
-        System.out.println("\n=== MONSTERS' TURN ===");
+        io.println("\n=== MONSTERS' TURN ===");
 
         for (Monster monster : monsters) {
             if (!monster.isAlive()) {
@@ -338,18 +345,18 @@ public class BattleManager {
                     .toList();
 
             if (!aliveHeroes.isEmpty()) {
-                Hero target = aliveHeroes.get((int) (Math.random() * aliveHeroes.size()));
-                monster.attack(target);
+                Hero target = aliveHeroes.get(dice.nextInt(aliveHeroes.size()));
+                monster.attack(target, dice);
 
                 if (!target.isAlive()) {
-                    System.out.println("[DEFEAT] " + target.getName() + " has fainted!");
+                    io.println("[DEFEAT] " + target.getName() + " has fainted!");
                 }
             }
         }
     }
 
     private void endOfRoundRegen() {
-        System.out.println("\n--- End of Round Regeneration ---");
+        io.println("\n--- End of Round Regeneration ---");
         for (Hero hero : heroes) {
             if (hero.isAlive()) {
                 int oldHP = hero.getHP();
@@ -358,7 +365,7 @@ public class BattleManager {
                 int hpGain = hero.getHP() - oldHP;
                 int manaGain = hero.getMana() - oldMana;
                 if (hpGain > 0 || manaGain > 0) {
-                    System.out.println(hero.getName() + " regenerated +" + hpGain + " HP, +" + manaGain + " Mana");
+                    io.println(hero.getName() + " regenerated +" + hpGain + " HP, +" + manaGain + " Mana");
                 }
             }
         }
@@ -371,4 +378,4 @@ public class BattleManager {
     private boolean hasAliveMonsters() {
         return monsters.stream().anyMatch(Monster::isAlive);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,429 @@
+package game;
+
+import character.hero.Hero;
+import character.monster.Monster;
+import item.Armor;
+import item.Weapon;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Exact outcome of a classic-mode battle ({@link BattleManager#fight()})
+ * without playing it: the probability distribution over everyone's HP is
+ * pushed forward one action at a time, in the order the battle takes them.
+ *
+ * Each round, every living hero swings its weapon at the first monster still
+ * standing (the monster may dodge), the party wins if no monster is left, each
+ * living monster hits a uniformly chosen living hero (the hero may dodge,
+ * armor absorbs part of the hit), the party loses if no hero is left, and the
+ * survivors regenerate. Spells and potions are player choices and are not
+ * modelled.
+ *
+ * HP states that are reached by different paths merge, so the work grows with
+ * the number of distinct HP combinations, not with the number of paths. Long
+ * fights still fan out into very many unlikely combinations, so states less
+ * likely than a cutoff are dropped at the end of each round and their
+ * probability is reported as unresolved; the answer is exact up to that mass.
+ * Results are cached by matchup (every stat the battle reads), so repeated
+ * questions about the same party and wave are answered from the cache.
+ */
+public final class CombatEvaluator {
+    public static final int DEFAULT_MAX_ROUNDS = 200;
+    public static final double DEFAULT_CUTOFF = 1e-9;
+
+    // A state packs every combatant's HP in 16 bits: heroes first, then monsters, four per word
+    private static final int MAX_COMBATANTS = 8;
+    private static final int MAX_HP = 0xFFFF;
+
+    private final int maxRounds;
+    private final double cutoff;
+    private final Map<Matchup, Result> cache = new ConcurrentHashMap<>();
+
+    public CombatEvaluator() {
+        this(DEFAULT_MAX_ROUNDS, DEFAULT_CUTOFF);
+    }
+
+    /**
+     * @param maxRounds rounds followed before the rest is reported as unresolved
+     * @param cutoff    states less likely than this are dropped (0 keeps every state)
+     */
+    public CombatEvaluator(int maxRounds, double cutoff) {
+        this.maxRounds = maxRounds;
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Outcome of the given party fighting the given monsters from their current HP.
+     */
+    public Result evaluate(List<Hero> heroes, List<Monster> monsters) {
+        Matchup matchup = new Matchup(heroes, monsters);
+        Result result = cache.get(matchup);
+        if (result == null) {
+            result = new Solver(matchup, cutoff).solve(maxRounds);
+            Result raced = cache.putIfAbsent(matchup, result);
+            if (raced != null) result = raced;
+        }
+        return result;
+    }
+
+    public int cacheSize() {
+        return cache.size();
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * Outcome probabilities of a battle. The three probabilities add up to 1.
+     */
+    public static final class Result {
+        private final double win;
+        private final double loss;
+        private final double unresolved;
+        private final double expectedRounds;
+        private final int peakStates;
+
+        Result(double win, double loss, double unresolved, double expectedRounds, int peakStates) {
+            this.win = win;
+            this.loss = loss;
+            this.unresolved = unresolved;
+            this.expectedRounds = expectedRounds;
+            this.peakStates = peakStates;
+        }
+
+        public double getWinProbability() { return win; }
+        public double getLossProbability() { return loss; }
+
+        /**
+         * Probability that the battle is still going after the round limit
+         * (e.g. nobody can hurt anybody), plus the mass of dropped unlikely states.
+         */
+        public double getUnresolvedProbability() { return unresolved; }
+
+        /**
+         * Expected rounds of the battles that ended within the round limit.
+         */
+        public double getExpectedRounds() { return expectedRounds; }
+
+        /**
+         * Most distinct HP states alive at once during the evaluation.
+         */
+        public int getPeakStates() { return peakStates; }
+
+        @Override
+        public String toString() {
+            return String.format("win %.4f | loss %.4f | unresolved %.4f | rounds %.2f",
+                    win, loss, unresolved, expectedRounds);
+        }
+    }
+
+    /**
+     * Every stat the battle reads, with per-hit damage and dodge already worked out.
+     */
+    private static final class Matchup {
+        final int heroCount;
+        final int monsterCount;
+        final int[] ints;       // per hero: hp, maxHP, hit, armor; per monster: hp, hit, defense
+        final double[] dodges;  // per hero, then per monster
+        private final int hash;
+
+        Matchup(List<Hero> heroes, List<Monster> monsters) {
+            heroCount = heroes.size();
+            monsterCount = monsters.size();
+            if (heroCount + monsterCount > MAX_COMBATANTS) {
+                throw new IllegalArgumentException("At most " + MAX_COMBATANTS + " combatants: "
+                        + heroCount + " heroes, " + monsterCount + " monsters");
+            }
+            ints = new int[heroCount * 4 + monsterCount * 3];
+            dodges = new double[heroCount + monsterCount];
+            for (int i = 0; i < heroCount; i++) {
+                Hero h = heroes.get(i);
+                Weapon weapon = h.getEquippedWeapon();
+                Armor armor = h.getEquippedArmor();
+                ints[i * 4] = checkHP(h.getHP());
+                ints[i * 4 + 1] = checkHP(h.getMaxHP());
+                ints[i * 4 + 2] = weapon == null ? -1 : (int) ((h.getStrength() + weapon.getDamage()) * 0.05);
+                ints[i * 4 + 3] = armor == null ? 0 : armor.getDamageReduction();
+                dodges[i] = clamp(h.getAgility() * 0.002);
+            }
+            int base = heroCount * 4;
+            for (int j = 0; j < monsterCount; j++) {
+                Monster m = monsters.get(j);
+                ints[base + j * 3] = checkHP(m.getCurrentHP());
+                ints[base + j * 3 + 1] = m.getBaseDamage();
+                ints[base + j * 3 + 2] = m.getDefense();
+                dodges[heroCount + j] = clamp(m.getDodgeChance() * 0.01);
+            }
+            hash = 31 * Arrays.hashCode(ints) + Arrays.hashCode(dodges);
+        }
+
+        int heroHP(int i) { return ints[i * 4]; }
+        int heroMaxHP(int i) { return ints[i * 4 + 1]; }
+        int heroHit(int i) { return ints[i * 4 + 2]; }
+        int heroArmor(int i) { return ints[i * 4 + 3]; }
+        int monsterHP(int j) { return ints[heroCount * 4 + j * 3]; }
+        int monsterHit(int j) { return ints[heroCount * 4 + j * 3 + 1]; }
+        int monsterDefense(int j) { return ints[heroCount * 4 + j * 3 + 2]; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Matchup)) return false;
+            Matchup other = (Matchup) o;
+            return heroCount == other.heroCount && Arrays.equals(ints, other.ints)
+                    && Arrays.equals(dodges, other.dodges);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static int checkHP(int hp) {
+            if (hp > MAX_HP) throw new IllegalArgumentException("HP above " + MAX_HP + ": " + hp);
+            return Math.max(0, hp);
+        }
+
+        private static double clamp(double p) {
+            return Math.max(0, Math.min(1, p));
+        }
+    }
+
+    /**
+     * Forward pass over one matchup. Combatant k's HP sits in word k / 4 of a
+     * state at bit 16 * (k % 4); heroes are 0..heroCount-1, monsters follow.
+     */
+    private static final class Solver {
+        private final Matchup m;
+        private final double cutoff;
+        private StateTable current = new StateTable();
+        private StateTable next = new StateTable();
+        private int peakStates;
+        private double dropped;
+
+        Solver(Matchup matchup, double cutoff) {
+            this.m = matchup;
+            this.cutoff = cutoff;
+        }
+
+        Result solve(int maxRounds) {
+            long[] start = new long[2];
+            for (int i = 0; i < m.heroCount; i++) start = with(start, i, m.heroHP(i));
+            for (int j = 0; j < m.monsterCount; j++) start = with(start, m.heroCount + j, m.monsterHP(j));
+            current.add(start[0], start[1], 1.0);
+
+            double win = 0;
+            double loss = 0;
+            double rounds = 0;
+            for (int round = 1; round <= maxRounds && current.size > 0; round++) {
+                for (int i = 0; i < m.heroCount; i++) {
+                    heroAttacks(i);
+                }
+                double won = absorb(false);
+                win += won;
+                rounds += won * round;
+
+                for (int j = 0; j < m.monsterCount; j++) {
+                    monsterAttacks(j);
+                }
+                double lost = absorb(true);
+                loss += lost;
+                rounds += lost * round;
+
+                regenerate();
+            }
+
+            double unresolved = current.total() + dropped;
+            double decided = win + loss;
+            return new Result(win, loss, unresolved, decided > 0 ? rounds / decided : 0, peakStates);
+        }
+
+        private void heroAttacks(int i) {
+            int hit = m.heroHit(i);
+            for (int s = 0; s < current.size; s++) {
+                long lo = current.lo[s];
+                long hi = current.hi[s];
+                double p = current.prob[s];
+                int target = firstLivingMonster(lo, hi);
+                if (hp(lo, hi, i) == 0 || hit < 0 || target < 0) {
+                    next.add(lo, hi, p);
+                    continue;
+                }
+                int k = m.heroCount + target;
+                double dodge = m.dodges[k];
+                next.add(lo, hi, p * dodge);
+                int damage = Math.max(0, hit - m.monsterDefense(target));
+                int hp = Math.max(0, hp(lo, hi, k) - damage);
+                addWith(lo, hi, k, hp, p * (1 - dodge));
+            }
+            swap();
+        }
+
+        private void monsterAttacks(int j) {
+            int k = m.heroCount + j;
+            for (int s = 0; s < current.size; s++) {
+                long lo = current.lo[s];
+                long hi = current.hi[s];
+                double p = current.prob[s];
+                int living = 0;
+                for (int i = 0; i < m.heroCount; i++) {
+                    if (hp(lo, hi, i) > 0) living++;
+                }
+                if (hp(lo, hi, k) == 0 || living == 0) {
+                    next.add(lo, hi, p);
+                    continue;
+                }
+                double perTarget = p / living;
+                for (int i = 0; i < m.heroCount; i++) {
+                    int hp = hp(lo, hi, i);
+                    if (hp == 0) continue;
+                    double dodge = m.dodges[i];
+                    next.add(lo, hi, perTarget * dodge);
+                    int damage = Math.max(0, m.monsterHit(j) - m.heroArmor(i));
+                    addWith(lo, hi, i, Math.max(0, hp - damage), perTarget * (1 - dodge));
+                }
+            }
+            swap();
+        }
+
+        /**
+         * End of round: survivors regenerate, and states below the cutoff are dropped.
+         */
+        private void regenerate() {
+            for (int s = 0; s < current.size; s++) {
+                if (current.prob[s] < cutoff) {
+                    dropped += current.prob[s];
+                    continue;
+                }
+                long[] state = {current.lo[s], current.hi[s]};
+                for (int i = 0; i < m.heroCount; i++) {
+                    int hp = hp(state[0], state[1], i);
+                    if (hp > 0) state = with(state, i, Math.min(m.heroMaxHP(i), (int) (hp * 1.1)));
+                }
+                next.add(state[0], state[1], current.prob[s]);
+            }
+            swap();
+        }
+
+        /**
+         * Remove and total the states where every monster (or every hero) is down.
+         */
+        private double absorb(boolean heroesDown) {
+            double mass = 0;
+            int from = heroesDown ? 0 : m.heroCount;
+            int to = heroesDown ? m.heroCount : m.heroCount + m.monsterCount;
+            for (int s = 0; s < current.size; s++) {
+                long lo = current.lo[s];
+                long hi = current.hi[s];
+                boolean down = true;
+                for (int k = from; k < to && down; k++) {
+                    down = hp(lo, hi, k) == 0;
+                }
+                if (down) mass += current.prob[s];
+                else next.add(lo, hi, current.prob[s]);
+            }
+            swap();
+            return mass;
+        }
+
+        private int firstLivingMonster(long lo, long hi) {
+            for (int j = 0; j < m.monsterCount; j++) {
+                if (hp(lo, hi, m.heroCount + j) > 0) return j;
+            }
+            return -1;
+        }
+
+        private void addWith(long lo, long hi, int k, int hp, double p) {
+            int shift = 16 * (k & 3);
+            long mask = (long) MAX_HP << shift;
+            if (k < 4) lo = (lo & ~mask) | (long) hp << shift;
+            else hi = (hi & ~mask) | (long) hp << shift;
+            next.add(lo, hi, p);
+        }
+
+        private void swap() {
+            peakStates = Math.max(peakStates, next.size);
+            StateTable t = current;
+            current = next;
+            next = t;
+            next.clear();
+        }
+
+        private static int hp(long lo, long hi, int k) {
+            return (int) ((k < 4 ? lo : hi) >>> (16 * (k & 3))) & MAX_HP;
+        }
+
+        private static long[] with(long[] state, int k, int hp) {
+            int shift = 16 * (k & 3);
+            long mask = (long) MAX_HP << shift;
+            state[k >> 2] = (state[k >> 2] & ~mask) | (long) hp << shift;
+            return state;
+        }
+    }
+
+    /**
+     * Probability per distinct state: open addressing over the two state
+     * words, with entries also kept densely in insertion order for iteration.
+     */
+    private static final class StateTable {
+        long[] lo = new long[64];
+        long[] hi = new long[64];
+        double[] prob = new double[64];
+        int size;
+        private int[] slots = new int[128]; // entry index + 1, 0 when empty
+
+        void add(long l, long h, double p) {
+            if (p == 0) return;
+            int mask = slots.length - 1;
+            int slot = (int) mix(l, h) & mask;
+            while (true) {
+                int e = slots[slot] - 1;
+                if (e < 0) break;
+                if (lo[e] == l && hi[e] == h) {
+                    prob[e] += p;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (size == lo.length) {
+                lo = Arrays.copyOf(lo, size * 2);
+                hi = Arrays.copyOf(hi, size * 2);
+                prob = Arrays.copyOf(prob, size * 2);
+            }
+            lo[size] = l;
+            hi[size] = h;
+            prob[size] = p;
+            slots[slot] = ++size;
+            if (size * 2 > slots.length) rehash();
+        }
+
+        double total() {
+            double sum = 0;
+            for (int e = 0; e < size; e++) sum += prob[e];
+            return sum;
+        }
+
+        void clear() {
+            Arrays.fill(slots, 0);
+            size = 0;
+        }
+
+        private void rehash() {
+            slots = new int[slots.length * 2];
+            int mask = slots.length - 1;
+            for (int e = 0; e < size; e++) {
+                int slot = (int) mix(lo[e], hi[e]) & mask;
+                while (slots[slot] != 0) slot = (slot + 1) & mask;
+                slots[slot] = e + 1;
+            }
+        }
+
+        private static long mix(long l, long h) {
+            long z = l * 0x9E3779B97F4A7C15L ^ h * 0xC2B2AE3D27D4EB4FL;
+            return z ^ (z >>> 29) ^ (z >>> 47);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package game;
+
+import item.FireSpell;
+import item.IceSpell;
+import item.Spell;
+import util.Dice;
+
+/**
+ * The combat formulas of {@code Hero.attack}, {@code Hero.castSpell},
+ * {@code Monster.attack} and {@code Monster.takeDamage}, applied to many
+ * independent exchanges at once. Exchange i pits slot i of every array against
+ * each other; arrays hold the same values the objects would (dodge chance in
+ * percent, hero agility, armor reduction, ...) and are updated in place.
+ *
+ * Each loop body is straight-line arithmetic over primitive arrays: a dodge or
+ * a missing mana pool turns into a 0/1 factor instead of a branch, and nothing
+ * is published. That is the shape C2's superword pass vectorizes, and it runs
+ * without virtual calls or event formatting either way.
+ *
+ * Randomness comes in as one roll in [0, 1) per slot (see {@link #roll}), so a
+ * batch is reproducible from its Dice. A slot whose action cannot happen (a
+ * spell without the mana, a fainted monster) still has its roll, where the
+ * object code would not draw one; filling rolls from the same Dice therefore
+ * matches a sequential object loop only when every action goes ahead.
+ */
+public final class CombatKernel {
+    public static final int FIRE = 0;       // lowers defense by 10%
+    public static final int ICE = 1;        // lowers damage by 10%
+    public static final int LIGHTNING = 2;  // lowers dodge chance by 10%
+
+    private CombatKernel() {
+    }
+
+    /**
+     * Fill rolls[0, n) with the dice's next n doubles.
+     */
+    public static void roll(Dice dice, double[] rolls, int n) {
+        for (int i = 0; i < n; i++) {
+            rolls[i] = dice.nextDouble();
+        }
+    }
+
+    /**
+     * Spell element code for {@link #castSpells}.
+     */
+    public static int element(Spell spell) {
+        if (spell instanceof FireSpell) return FIRE;
+        if (spell instanceof IceSpell) return ICE;
+        return LIGHTNING;
+    }
+
+    /**
+     * Hero i swings its weapon at monster i, as {@code Hero.attack}: the monster
+     * dodges when rolls[i] < dodge[i] * 0.01, otherwise it takes
+     * (strength + weapon damage) * 0.05 through {@link #takeDamage}. Slots are
+     * expected to have a weapon equipped.
+     */
+    public static void heroAttacks(int n, int[] strength, int[] weaponDamage, double[] rolls,
+                                   double[] dodge, int[] defense, int[] hp) {
+        for (int i = 0; i < n; i++) {
+            int landed = rolls[i] < dodge[i] * 0.01 ? 0 : 1;
+            int damage = (int) ((strength[i] + weaponDamage[i]) * 0.05);
+            hp[i] = Math.max(0, hp[i] - Math.max(0, damage - defense[i]) * landed);
+        }
+    }
+
+    /**
+     * Hero i casts a spell at monster i, as {@code Hero.castSpell}: nothing
+     * happens without the mana, the monster dodges as for a weapon, otherwise it
+     * takes baseDamage * (1 + dexterity / 10000) through {@link #takeDamage},
+     * gets the element's debuff and the hero pays the mana. Spending the spell
+     * from the inventory is left to the caller (mana dropped by the cost).
+     */
+    public static void castSpells(int n, int[] spellDamage, int[] manaCost, int[] element, int[] dexterity,
+                                  int[] mana, double[] rolls, double[] dodge, int[] defense,
+                                  int[] monsterDamage, int[] hp) {
+        for (int i = 0; i < n; i++) {
+            int castable = mana[i] >= manaCost[i] ? 1 : 0;
+            int landed = castable & (rolls[i] < dodge[i] * 0.01 ? 0 : 1);
+            int base = spellDamage[i];
+            int damage = (int) (base + (dexterity[i] / 10000.0) * base);
+            hp[i] = Math.max(0, hp[i] - Math.max(0, damage - defense[i]) * landed);
+            mana[i] -= manaCost[i] * landed;
+
+            // Debuffs as in FireSpell, IceSpell and LightningSpell, applied after the hit
+            int e = element[i];
+            defense[i] = landed == 1 && e == FIRE ? (int) (defense[i] * 0.9) : defense[i];
+            monsterDamage[i] = landed == 1 && e == ICE ? (int) (monsterDamage[i] * 0.9) : monsterDamage[i];
+            dodge[i] = landed == 1 && e == LIGHTNING ? dodge[i] * 0.9 : dodge[i];
+        }
+    }
+
+    /**
+     * Monster i hits hero i, as {@code Monster.attack} and {@code Hero.takeDamage}:
+     * a fainted monster does nothing, the hero dodges when
+     * rolls[i] < agility * 0.002, otherwise armor absorbs part of the damage.
+     */
+    public static void monsterAttacks(int n, int[] monsterHP, int[] monsterDamage, double[] rolls,
+                                      int[] agility, int[] armor, int[] heroHP) {
+        for (int i = 0; i < n; i++) {
+            int landed = monsterHP[i] > 0 && rolls[i] >= agility[i] * 0.002 ? 1 : 0;
+            heroHP[i] = Math.max(0, heroHP[i] - Math.max(0, monsterDamage[i] - armor[i]) * landed);
+        }
+    }
+
+    /**
+     * Monster i takes damage[i], reduced by its defense, as {@code Monster.takeDamage}.
+     */
+    public static void takeDamage(int n, int[] damage, int[] defense, int[] hp) {
+        for (int i = 0; i < n; i++) {
+            hp[i] = Math.max(0, hp[i] - Math.max(0, damage[i] - defense[i]));
+        }
+    }
+}
@@ -6,15 +6,17 @@ import character.hero.Warrior;
 import character.hero.Paladin;
 import character.hero.Sorcerer;
 import character.monster.Monster;
-import character.monster.Dragon;
-import character.monster.Spirit;
-import character.monster.Exoskeleton;
+import character.monster.MonsterCatalog;
+import event.ConsoleEventRenderer;
+import event.EventBus;
+import util.ConsoleIO;
+import util.Dice;
 import util.FileLoader;
+import util.GameIO;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
-import java.util.Random;
 
 /**
  * Main game controller for Legends: Monsters and Heroes.
@@ -26,18 +28,45 @@ public class Game {
 
     private GameMap gameMap;
     private List<Hero> heroes;
-    private Scanner scanner;
-    private Random random;
+    private GameIO io;
+    private Dice dice;
+    private EventBus events;
     private boolean gameOver;
     private boolean playerQuit;
 
     public Game() {
-        this.scanner = new Scanner(System.in);
-        this.random = new Random();
+        this(new Dice());
+    }
+
+    /**
+     * Create a game whose map, encounters and combat rolls all come from the given dice.
+     */
+    public Game(Dice dice) {
+        this(new ConsoleIO(new Scanner(System.in)), dice);
+    }
+
+    /**
+     * Create a game on the given I/O; the whole session is reproducible from the
+     * dice seed and the lines read from io.
+     */
+    public Game(GameIO io, Dice dice) {
+        this.io = io;
+        this.dice = dice;
+        this.events = new EventBus();
+        if (!io.isSilent()) {
+            events.subscribe(new ConsoleEventRenderer(io));
+        }
         this.gameOver = false;
         this.playerQuit = false;
     }
 
+    /**
+     * Bus the party and the monsters they meet publish to.
+     */
+    public EventBus getEvents() {
+        return events;
+    }
+
     public void start() {
         printWelcome();
         printInstructions();
@@ -47,7 +76,7 @@ public class Game {
             setupMap();
             mainGameLoop();
         } else {
-            System.out.println("Maybe next time! Goodbye!");
+            io.println("Maybe next time! Goodbye!");
             return;
         }
 
@@ -55,47 +84,47 @@ public class Game {
     }
 
     private boolean confirmStart() {
-        System.out.println("Ready to start your adventure?");
-        System.out.print("Enter 'Y' to continue or 'Q' to quit: ");
-        String input = scanner.nextLine().trim().toUpperCase();
+        io.println("Ready to start your adventure?");
+        io.print("Enter 'Y' to continue or 'Q' to quit: ");
+        String input = io.readLine().trim().toUpperCase();
         return !input.equals("Q");
     }
 
     private void printWelcome() {
-        System.out.println("========================================");
-        System.out.println("  LEGENDS: MONSTERS AND HEROES");
-        System.out.println("  An Epic RPG Adventure");
-        System.out.println("========================================");
-        System.out.println();
+        io.println("========================================");
+        io.println("  LEGENDS: MONSTERS AND HEROES");
+        io.println("  An Epic RPG Adventure");
+        io.println("========================================");
+        io.println();
     }
 
     private void printInstructions() {
-        System.out.println("=== GAME CONTROLS ===");
-        System.out.println("W/w - Move Up");
-        System.out.println("A/a - Move Left");
-        System.out.println("S/s - Move Down");
-        System.out.println("D/d - Move Right");
-        System.out.println("I/i - Show Hero Stats");
-        System.out.println("P/p - Show Map");
-        System.out.println("V/v - View Inventory");
-        System.out.println("M/m - Enter Market (when on Market cell)");
-        System.out.println("Q/q - Quit Game (Exit at any time!)");
-        System.out.println();
-        System.out.println("Map Legend:");
-        System.out.println("H1/H2/H3 - Your heroes");
-        System.out.println("C - Common cell (battles may occur)");
-        System.out.println("M - Market cell (buy/sell items)");
-        System.out.println("X - Inaccessible cell");
-        System.out.println();
-        System.out.println("*** NEW FEATURE ***");
-        System.out.println("All heroes start with powerful equipment!");
-        System.out.println("  - Strong weapons and armor");
-        System.out.println("  - Multiple healing and mana potions");
-        System.out.println("  - Powerful spells");
-        System.out.println();
-        System.out.print("Press Enter to continue...");
-        scanner.nextLine();
-        System.out.println();
+        io.println("=== GAME CONTROLS ===");
+        io.println("W/w - Move Up");
+        io.println("A/a - Move Left");
+        io.println("S/s - Move Down");
+        io.println("D/d - Move Right");
+        io.println("I/i - Show Hero Stats");
+        io.println("P/p - Show Map");
+        io.println("V/v - View Inventory");
+        io.println("M/m - Enter Market (when on Market cell)");
+        io.println("Q/q - Quit Game (Exit at any time!)");
+        io.println();
+        io.println("Map Legend:");
+        io.println("H1/H2/H3 - Your heroes");
+        io.println("C - Common cell (battles may occur)");
+        io.println("M - Market cell (buy/sell items)");
+        io.println("X - Inaccessible cell");
+        io.println();
+        io.println("*** NEW FEATURE ***");
+        io.println("All heroes start with powerful equipment!");
+        io.println("  - Strong weapons and armor");
+        io.println("  - Multiple healing and mana potions");
+        io.println("  - Powerful spells");
+        io.println();
+        io.print("Press Enter to continue...");
+        io.readLine();
+        io.println();
     }
 
     private void setupHeroes() {
@@ -105,23 +134,23 @@ public class Game {
         List<Hero> availablePaladins = loadPaladins();
         List<Hero> availableSorcerers = loadSorcerers();
 
-        System.out.println("=== HERO SELECTION ===");
-        System.out.println("Choose 1-3 heroes for your party.");
-        System.out.println("Each hero comes with starter equipment!");
-        System.out.println();
+        io.println("=== HERO SELECTION ===");
+        io.println("Choose 1-3 heroes for your party.");
+        io.println("Each hero comes with starter equipment!");
+        io.println();
 
         while (heroes.size() < 3) {
-            System.out.println("Select Hero #" + (heroes.size() + 1) + ":");
-            System.out.println("1) Choose a Warrior (High Strength & Agility)");
-            System.out.println("2) Choose a Paladin (Balanced Fighter)");
-            System.out.println("3) Choose a Sorcerer (Powerful Magic)");
+            io.println("Select Hero #" + (heroes.size() + 1) + ":");
+            io.println("1) Choose a Warrior (High Strength & Agility)");
+            io.println("2) Choose a Paladin (Balanced Fighter)");
+            io.println("3) Choose a Sorcerer (Powerful Magic)");
             if (heroes.size() > 0) {
-                System.out.println("D) Done selecting heroes");
+                io.println("D) Done selecting heroes");
             }
-            System.out.println("Q) Quit");
-            System.out.print("Choice: ");
+            io.println("Q) Quit");
+            io.print("Choice: ");
 
-            String choice = scanner.nextLine().trim().toUpperCase();
+            String choice = io.readLine().trim().toUpperCase();
 
             if (choice.equals("Q")) {
                 if (confirmQuit()) {
@@ -148,37 +177,38 @@ public class Game {
                     selected = selectHeroFromList(availableSorcerers, "Sorcerer");
                     break;
                 default:
-                    System.out.println("Invalid choice!");
+                    io.println("Invalid choice!");
                     continue;
             }
 
             if (selected != null) {
+                selected.setEvents(events);
                 heroes.add(selected);
-                System.out.println("\n[SUCCESS] " + selected.getName() + " joined your party!");
-                System.out.println();
+                io.println("\n[SUCCESS] " + selected.getName() + " joined your party!");
+                io.println();
             }
         }
 
-        System.out.println("========================================");
-        System.out.println("  YOUR PARTY IS READY!");
-        System.out.println("========================================");
+        io.println("========================================");
+        io.println("  YOUR PARTY IS READY!");
+        io.println("========================================");
         for (Hero h : heroes) {
-            System.out.println("* " + h);
+            io.println("* " + h);
         }
-        System.out.println();
+        io.println();
     }
 
     private Hero selectHeroFromList(List<Hero> heroList, String type) {
-        System.out.println("\nAvailable " + type + "s:");
+        io.println("\nAvailable " + type + "s:");
         for (int i = 0; i < heroList.size(); i++) {
-            System.out.println((i + 1) + ") " + heroList.get(i).getName() +
+            io.println((i + 1) + ") " + heroList.get(i).getName() +
                     " (STR: " + heroList.get(i).getStrength() +
                     ", DEX: " + heroList.get(i).getDexterity() +
                     ", AGI: " + heroList.get(i).getAgility() + ")");
         }
-        System.out.print("Select (1-" + heroList.size() + ") or Q to cancel: ");
+        io.print("Select (1-" + heroList.size() + ") or Q to cancel: ");
 
-        String input = scanner.nextLine().trim();
+        String input = io.readLine().trim();
 
         if (input.equalsIgnoreCase("Q")) {
             return null;
@@ -190,13 +220,13 @@ public class Game {
                 return heroList.get(choice - 1);
             }
         } catch (NumberFormatException e) {
-            System.out.println("Invalid input!");
+            io.println("Invalid input!");
         }
         return null;
     }
 
     private void setupMap() {
-        gameMap = new GameMap(MAP_SIZE, MAP_SIZE, heroes.size());
+        gameMap = new GameMap(MAP_SIZE, MAP_SIZE, heroes.size(), dice);
 
         for (int i = 0; i < heroes.size(); i++) {
             gameMap.setHeroPosition(i, 0, i * 2);
@@ -205,9 +235,9 @@ public class Game {
 
     private void mainGameLoop() {
         while (!gameOver) {
-            System.out.println("\n=== CURRENT MAP ===");
-            gameMap.displayMap();
-            System.out.println();
+            io.println("\n=== CURRENT MAP ===");
+            gameMap.displayMap(io);
+            io.println();
 
             for (int i = 0; i < heroes.size(); i++) {
                 Hero hero = heroes.get(i);
@@ -216,7 +246,7 @@ public class Game {
                     continue;
                 }
 
-                System.out.println("=== " + hero.getName() + "'s Turn ===");
+                io.println("=== " + hero.getName() + "'s Turn ===");
                 processTurn(hero, i);
 
                 if (gameOver) {
@@ -227,16 +257,16 @@ public class Game {
     }
 
     private void processTurn(Hero hero, int heroIndex) {
-        System.out.println("\n--- AVAILABLE ACTIONS ---");
-        System.out.println("W/A/S/D - Move (Up/Left/Down/Right)");
-        System.out.println("I - Show Hero Stats");
-        System.out.println("P - Show Map");
-        System.out.println("V - View Inventory");
-        System.out.println("M - Enter Market (if on market cell)");
-        System.out.println("Q - Quit Game");
-        System.out.print("\nYour choice: ");
+        io.println("\n--- AVAILABLE ACTIONS ---");
+        io.println("W/A/S/D - Move (Up/Left/Down/Right)");
+        io.println("I - Show Hero Stats");
+        io.println("P - Show Map");
+        io.println("V - View Inventory");
+        io.println("M - Enter Market (if on market cell)");
+        io.println("Q - Quit Game");
+        io.print("\nYour choice: ");
 
-        String action = scanner.nextLine().trim().toUpperCase();
+        String action = io.readLine().trim().toUpperCase();
 
         int[] currentPos = gameMap.getHeroPosition(heroIndex);
         int x = currentPos[0];
@@ -260,9 +290,9 @@ public class Game {
                 processTurn(hero, heroIndex);
                 break;
             case "P":
-                System.out.println("\n=== MAP VIEW ===");
-                gameMap.displayMap();
-                System.out.println();
+                io.println("\n=== MAP VIEW ===");
+                gameMap.displayMap(io);
+                io.println();
                 processTurn(hero, heroIndex);
                 break;
             case "V":
@@ -271,10 +301,10 @@ public class Game {
                 break;
             case "M":
                 if (gameMap.getCell(x, y).isMarket()) {
-                    Market market = new Market(scanner);
+                    Market market = new Market(io);
                     market.enter(hero);
                 } else {
-                    System.out.println("[ERROR] You're not on a market cell!");
+                    io.println("[ERROR] You're not on a market cell!");
                 }
                 processTurn(hero, heroIndex);
                 break;
@@ -287,71 +317,71 @@ public class Game {
                 }
                 break;
             default:
-                System.out.println("[ERROR] Invalid action!");
+                io.println("[ERROR] Invalid action!");
                 processTurn(hero, heroIndex);
                 break;
         }
     }
 
     private void showDetailedHeroStats(Hero hero) {
-        System.out.println("\n========================================");
-        System.out.println("  DETAILED HERO STATS");
-        System.out.println("========================================");
+        io.println("\n========================================");
+        io.println("  DETAILED HERO STATS");
+        io.println("========================================");
 
-        System.out.println("\nHero: " + hero.getName());
-        System.out.println("Class: " + hero.getHeroClass());
-        System.out.println("Level: " + hero.getLevel() + " (EXP: " + hero.getExperience() + "/" + (hero.getLevel() * 10) + ")");
+        io.println("\nHero: " + hero.getName());
+        io.println("Class: " + hero.getHeroClass());
+        io.println("Level: " + hero.getLevel() + " (EXP: " + hero.getExperience() + "/" + (hero.getLevel() * 10) + ")");
 
-        System.out.println("\nHit Points:");
+        io.println("\nHit Points:");
         String hpBar = createProgressBar(hero.getHP(), hero.getMaxHP(), 30);
-        System.out.println("  [" + hpBar + "] " + hero.getHP() + "/" + hero.getMaxHP());
+        io.println("  [" + hpBar + "] " + hero.getHP() + "/" + hero.getMaxHP());
 
-        System.out.println("\nMana:");
+        io.println("\nMana:");
         String manaBar = createProgressBar(hero.getMana(), hero.getMaxMana(), 30);
-        System.out.println("  [" + manaBar + "] " + hero.getMana() + "/" + hero.getMaxMana());
+        io.println("  [" + manaBar + "] " + hero.getMana() + "/" + hero.getMaxMana());
 
-        System.out.println("\nAttributes:");
-        System.out.println("  Strength:  " + hero.getStrength());
-        System.out.println("  Dexterity: " + hero.getDexterity());
-        System.out.println("  Agility:   " + hero.getAgility());
+        io.println("\nAttributes:");
+        io.println("  Strength:  " + hero.getStrength());
+        io.println("  Dexterity: " + hero.getDexterity());
+        io.println("  Agility:   " + hero.getAgility());
 
-        System.out.println("\nGold: " + hero.getMoney());
+        io.println("\nGold: " + hero.getMoney());
 
-        System.out.println("\nEquipment:");
-        System.out.println("  Weapon: " +
+        io.println("\nEquipment:");
+        io.println("  Weapon: " +
                 (hero.getEquippedWeapon() != null ?
                         hero.getEquippedWeapon().getName() + " (DMG: " + hero.getEquippedWeapon().getDamage() + ")" :
                         "None"));
-        System.out.println("  Armor:  " +
+        io.println("  Armor:  " +
                 (hero.getEquippedArmor() != null ?
                         hero.getEquippedArmor().getName() + " (DEF: " + hero.getEquippedArmor().getDamageReduction() + ")" :
                         "None"));
 
-        System.out.println("\nInventory Summary:");
-        System.out.println("  Weapons: " + hero.getInventory().getWeapons().size());
-        System.out.println("  Armors:  " + hero.getInventory().getArmors().size());
-        System.out.println("  Potions: " + hero.getInventory().getPotions().size());
-        System.out.println("  Spells:  " + hero.getInventory().getSpells().size());
+        io.println("\nInventory Summary:");
+        io.println("  Weapons: " + hero.getInventory().getWeapons().size());
+        io.println("  Armors:  " + hero.getInventory().getArmors().size());
+        io.println("  Potions: " + hero.getInventory().getPotions().size());
+        io.println("  Spells:  " + hero.getInventory().getSpells().size());
 
-        System.out.println("\nCombat Stats:");
+        io.println("\nCombat Stats:");
         int attackDamage = hero.getEquippedWeapon() != null ?
                 (int)((hero.getStrength() + hero.getEquippedWeapon().getDamage()) * 0.05) : 0;
         int defense = hero.getEquippedArmor() != null ?
                 hero.getEquippedArmor().getDamageReduction() : 0;
         double dodgeChance = hero.getAgility() * 0.002 * 100;
 
-        System.out.println("  Attack Damage: " + attackDamage);
-        System.out.println("  Defense: " + defense);
-        System.out.println("  Dodge Chance: " + String.format("%.1f", dodgeChance) + "%");
-        System.out.println();
+        io.println("  Attack Damage: " + attackDamage);
+        io.println("  Defense: " + defense);
+        io.println("  Dodge Chance: " + String.format("%.1f", dodgeChance) + "%");
+        io.println();
     }
 
     private void showInventoryDetail(Hero hero) {
-        System.out.println("\n========================================");
-        System.out.println("  " + hero.getName() + "'s INVENTORY");
-        System.out.println("========================================");
-        hero.getInventory().printInventory();
-        System.out.println();
+        io.println("\n========================================");
+        io.println("  " + hero.getName() + "'s INVENTORY");
+        io.println("========================================");
+        hero.getInventory().printInventory(io);
+        io.println();
     }
 
     private String createProgressBar(int current, int max, int length) {
@@ -362,42 +392,42 @@ public class Game {
     }
 
     private boolean confirmQuit() {
-        System.out.println("\n[WARNING] Are you sure you want to quit?");
-        System.out.println("Your progress will not be saved.");
-        System.out.print("Enter 'Y' to quit or 'N' to continue: ");
-        String response = scanner.nextLine().trim().toUpperCase();
+        io.println("\n[WARNING] Are you sure you want to quit?");
+        io.println("Your progress will not be saved.");
+        io.print("Enter 'Y' to quit or 'N' to continue: ");
+        String response = io.readLine().trim().toUpperCase();
         return response.equals("Y") || response.equals("YES");
     }
 
     private void attemptMove(Hero hero, int heroIndex, int newX, int newY) {
         if (!gameMap.inBounds(newX, newY)) {
-            System.out.println("[ERROR] Can't move outside the map!");
+            io.println("[ERROR] Can't move outside the map!");
             return;
         }
 
         if (!gameMap.getCell(newX, newY).isAccessible()) {
-            System.out.println("[ERROR] That cell is inaccessible!");
+            io.println("[ERROR] That cell is inaccessible!");
             return;
         }
 
         gameMap.setHeroPosition(heroIndex, newX, newY);
-        System.out.println("[SUCCESS] " + hero.getName() + " moved successfully!");
+        io.println("[SUCCESS] " + hero.getName() + " moved successfully!");
 
         if (!gameMap.getCell(newX, newY).isMarket()) {
-            if (random.nextDouble() < BATTLE_CHANCE) {
+            if (dice.nextDouble() < BATTLE_CHANCE) {
                 initiateBattle();
             }
         }
     }
 
     private void initiateBattle() {
-        System.out.println("\n========================================");
-        System.out.println("  *** BATTLE STARTED! ***");
-        System.out.println("========================================\n");
+        io.println("\n========================================");
+        io.println("  *** BATTLE STARTED! ***");
+        io.println("========================================\n");
 
         List<Monster> monsters = generateMonsters();
 
-        BattleManager battle = new BattleManager(scanner, new ArrayList<>(heroes), monsters);
+        BattleManager battle = new BattleManager(io, dice, new ArrayList<>(heroes), monsters);
         boolean victory = battle.fight();
 
         if (battle.isPlayerQuit()) {
@@ -407,9 +437,9 @@ public class Game {
         }
 
         if (victory) {
-            System.out.println("\n========================================");
-            System.out.println("  *** VICTORY! ***");
-            System.out.println("========================================");
+            io.println("\n========================================");
+            io.println("  *** VICTORY! ***");
+            io.println("========================================");
 
             for (Hero hero : heroes) {
                 if (hero.isAlive()) {
@@ -426,10 +456,10 @@ public class Game {
                 }
             }
         } else {
-            System.out.println("\n========================================");
-            System.out.println("  *** DEFEAT! ***");
-            System.out.println("========================================");
-            System.out.println("All heroes have fallen! Game Over!");
+            io.println("\n========================================");
+            io.println("  *** DEFEAT! ***");
+            io.println("========================================");
+            io.println("All heroes have fallen! Game Over!");
             gameOver = true;
         }
     }
@@ -444,14 +474,12 @@ public class Game {
             }
         }
 
-        List<Monster> allMonsters = new ArrayList<>();
-        allMonsters.addAll(loadDragons());
-        allMonsters.addAll(loadSpirits());
-        allMonsters.addAll(loadExoskeletons());
+        List<Monster> allMonsters = MonsterCatalog.getDefault().getAll();
 
         for (int i = 0; i < heroes.size(); i++) {
-            Monster selected = allMonsters.get(random.nextInt(allMonsters.size()));
-            monsters.add(selected);
+            Monster monster = MonsterCatalog.spawn(allMonsters, dice);
+            monster.setEvents(events);
+            monsters.add(monster);
         }
 
         return monsters;
@@ -459,10 +487,10 @@ public class Game {
 
     private void printGoodbye() {
         if (playerQuit) {
-            System.out.println("\n========================================");
-            System.out.println("  Thanks for playing!");
-            System.out.println("  See you next time, brave adventurer!");
-            System.out.println("========================================");
+            io.println("\n========================================");
+            io.println("  Thanks for playing!");
+            io.println("  See you next time, brave adventurer!");
+            io.println("========================================");
         }
     }
 
@@ -504,40 +532,4 @@ public class Game {
         }
         return sorcerers;
     }
-
-    private List<Monster> loadDragons() {
-        List<Monster> dragons = new ArrayList<>();
-        List<String[]> data = FileLoader.loadFile("src/data/Dragons.txt");
-        for (String[] row : data) {
-            dragons.add(new Dragon(
-                    row[0], Integer.parseInt(row[1]), Integer.parseInt(row[2]),
-                    Integer.parseInt(row[3]), Double.parseDouble(row[4])
-            ));
-        }
-        return dragons;
-    }
-
-    private List<Monster> loadSpirits() {
-        List<Monster> spirits = new ArrayList<>();
-        List<String[]> data = FileLoader.loadFile("src/data/Spirits.txt");
-        for (String[] row : data) {
-            spirits.add(new Spirit(
-                    row[0], Integer.parseInt(row[1]), Integer.parseInt(row[2]),
-                    Integer.parseInt(row[3]), Double.parseDouble(row[4])
-            ));
-        }
-        return spirits;
-    }
-
-    private List<Monster> loadExoskeletons() {
-        List<Monster> exos = new ArrayList<>();
-        List<String[]> data = FileLoader.loadFile("src/data/Exoskeletons.txt");
-        for (String[] row : data) {
-            exos.add(new Exoskeleton(
-                    row[0], Integer.parseInt(row[1]), Integer.parseInt(row[2]),
-                    Integer.parseInt(row[3]), Double.parseDouble(row[4])
-            ));
-        }
-        return exos;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package game;
+
+import item.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Everything the market sells, loaded once per process and shared by every
+ * market visit and session. Items are immutable, so the same instances can be
+ * listed, bought and carried by any number of heroes.
+ *
+ * Items are kept in display order (weapons, armor, potions, spells) and are
+ * also indexed by required level and by price for range queries.
+ */
+public final class MarketCatalog {
+    private static final String DEFAULT_DATA_DIR = "src/data";
+
+    private static MarketCatalog shared;
+
+    private final List<Weapon> weapons;
+    private final List<Armor> armors;
+    private final List<Potion> potions;
+    private final List<Spell> spells;
+    private final List<Item> all;
+    private final List<Item> byLevel;
+    private final List<Item> byPrice;
+
+    public MarketCatalog(String dataDir) {
+        this.weapons = Collections.unmodifiableList(ItemFactory.loadWeapons(dataDir + "/Weaponry.txt"));
+        this.armors = Collections.unmodifiableList(ItemFactory.loadArmors(dataDir + "/Armory.txt"));
+        this.potions = Collections.unmodifiableList(ItemFactory.loadPotions(dataDir + "/Potions.txt"));
+
+        List<Spell> spellList = new ArrayList<>();
+        spellList.addAll(ItemFactory.loadFireSpells(dataDir + "/FireSpells.txt"));
+        spellList.addAll(ItemFactory.loadIceSpells(dataDir + "/IceSpells.txt"));
+        spellList.addAll(ItemFactory.loadLightningSpells(dataDir + "/LightningSpells.txt"));
+        this.spells = Collections.unmodifiableList(spellList);
+
+        List<Item> items = new ArrayList<>();
+        items.addAll(weapons);
+        items.addAll(armors);
+        items.addAll(potions);
+        items.addAll(spells);
+        this.all = Collections.unmodifiableList(items);
+
+        List<Item> levelSorted = new ArrayList<>(items);
+        levelSorted.sort(Comparator.comparingInt(Item::getRequiredLevel));
+        this.byLevel = Collections.unmodifiableList(levelSorted);
+
+        List<Item> priceSorted = new ArrayList<>(items);
+        priceSorted.sort(Comparator.comparingInt(Item::getCost));
+        this.byPrice = Collections.unmodifiableList(priceSorted);
+    }
+
+    /**
+     * The process-wide catalog, loaded from src/data on first use.
+     */
+    public static synchronized MarketCatalog getDefault() {
+        if (shared == null) {
+            shared = new MarketCatalog(DEFAULT_DATA_DIR);
+        }
+        return shared;
+    }
+
+    /**
+     * All items in display order: weapons, armor, potions, then spells.
+     */
+    public List<Item> getAll() {
+        return all;
+    }
+
+    public List<Weapon> getWeapons() {
+        return weapons;
+    }
+
+    public List<Armor> getArmors() {
+        return armors;
+    }
+
+    public List<Potion> getPotions() {
+        return potions;
+    }
+
+    public List<Spell> getSpells() {
+        return spells;
+    }
+
+    /**
+     * Items a hero of the given level may buy, lowest requirement first.
+     */
+    public List<Item> getAvailableAtLevel(int level) {
+        return byLevel.subList(0, countAtMost(byLevel, Item::getRequiredLevel, level));
+    }
+
+    /**
+     * Items costing at most gold, cheapest first.
+     */
+    public List<Item> getAffordable(int gold) {
+        return byPrice.subList(0, countAtMost(byPrice, Item::getCost, gold));
+    }
+
+    /**
+     * Number of leading items whose key is <= limit, in a list sorted by that key.
+     */
+    private static int countAtMost(List<Item> sorted, ToIntFunction<Item> key, int limit) {
+        int lo = 0;
+        int hi = sorted.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (key.applyAsInt(sorted.get(mid)) <= limit) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
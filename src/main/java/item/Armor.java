@@ -7,7 +7,7 @@ package item;
  * Examples: Breastplate, Shield, Full Body Armor, etc.
  */
 public class Armor extends Item {
-    private int damageReduction;
+    private final int damageReduction;
 
     /**
      * Constructor for Armor.
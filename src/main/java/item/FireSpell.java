@@ -1,6 +1,7 @@
 package item;
 
 import character.monster.Monster;
+import event.EventType;
 
 /**
  * FireSpell is a type of Spell that reduces the target monster's defense when cast.
@@ -29,6 +30,6 @@ public class FireSpell extends Spell {
     public void applySpellEffect(Monster monster) {
         int oldDefense = monster.getDefense();
         monster.setDefense((int) (oldDefense * 0.9)); // Reduce defense by 10%
-        System.out.println(monster.getName() + "'s defense reduced!");
+        monster.getEvents().publish(EventType.DEBUFF, monster, "defense", 0);
     }
 }
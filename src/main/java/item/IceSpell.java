@@ -1,6 +1,7 @@
 package item;
 
 import character.monster.Monster;
+import event.EventType;
 
 /**
  * IceSpell is a type of Spell that reduces the target monster's damage when cast.
@@ -29,6 +30,6 @@ public class IceSpell extends Spell {
     public void applySpellEffect(Monster monster) {
         int oldDamage = monster.getDamage();
         monster.setDamage((int) (oldDamage * 0.9)); // Reduce damage by 10%
-        System.out.println(monster.getName() + "'s damage reduced!");
+        monster.getEvents().publish(EventType.DEBUFF, monster, "damage", 0);
     }
 }
@@ -13,9 +13,9 @@ package item;
  * Armor, Potion, and Spell.
  */
 public abstract class Item {
-    protected String name;
-    protected int cost;
-    protected int requiredLevel;
+    protected final String name;
+    protected final int cost;
+    protected final int requiredLevel;
 
     public Item(String name, int cost, int requiredLevel) {
         this.name = name;
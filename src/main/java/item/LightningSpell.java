@@ -1,6 +1,7 @@
 package item;
 
 import character.monster.Monster;
+import event.EventType;
 
 /**
  * LightningSpell is a type of Spell that reduces the target monster's dodge chance.
@@ -29,6 +30,6 @@ public class LightningSpell extends Spell {
     public void applySpellEffect(Monster monster) {
         double oldDodge = monster.getDodgeChance();
         monster.setDodgeChance(oldDodge * 0.9); // Reduce dodge chance by 10%
-        System.out.println(monster.getName() + "'s dodge chance reduced!");
+        monster.getEvents().publish(EventType.DEBUFF, monster, "dodge chance", 0);
     }
 }
@@ -1,14 +1,17 @@
 package item;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
  * Represents a Potion item that temporarily boosts one or more hero attributes.
  * Potions can enhance strength, agility, dexterity, or health depending on the type.
+ * Like every item it is immutable, so one instance can be shared by all heroes.
  */
 public class Potion extends Item {
-    private int effectAmount;
-    private Set<String> affectedAttributes;
+    private final int effectAmount;
+    private final Set<String> affectedAttributes;
 
     /**
      * Constructs a Potion.
@@ -22,7 +25,7 @@ public class Potion extends Item {
     public Potion(String name, int cost, int requiredLevel, int effectAmount, Set<String> affectedAttributes) {
         super(name, cost, requiredLevel);
         this.effectAmount = effectAmount;
-        this.affectedAttributes = affectedAttributes;
+        this.affectedAttributes = Collections.unmodifiableSet(new LinkedHashSet<>(affectedAttributes));
     }
 
     /**
@@ -7,8 +7,8 @@ import character.monster.Monster;
  * Spells have attributes like damage, mana cost, and may reduce enemy attributes upon casting.
  */
 public abstract class Spell extends Item {
-    private int baseDamage;
-    private int manaCost;
+    private final int baseDamage;
+    private final int manaCost;
 
     /**
      * Constructs a generic spell.
@@ -7,8 +7,8 @@ package item;
  * Example weapons include swords, axes, and magical staffs.
  */
 public class Weapon extends Item {
-    private int damage;
-    private int handsRequired;
+    private final int damage;
+    private final int handsRequired;
 
     /**
      * Constructor for Weapon.
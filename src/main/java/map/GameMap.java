@@ -1,5 +1,9 @@
 package map;
 
+import util.ConsoleIO;
+import util.Dice;
+import util.FrameBuffer;
+import util.GameIO;
 import util.Position;
 
 /**
@@ -8,20 +12,19 @@ import util.Position;
 public class GameMap {
     private final Cell[][] grid;
     private final Position[] heroPositions;
+    private final FrameBuffer frame = new FrameBuffer(); // reused by displayMap
 
-    public GameMap(int rows, int cols, int numHeroes) {
+    public GameMap(int rows, int cols, int numHeroes, Dice dice) {
         grid = new Cell[rows][cols];
         heroPositions = new Position[numHeroes];
-        initDefaultMap();
+        initDefaultMap(dice);
     }
 
-    private void initDefaultMap() {
+    private void initDefaultMap(Dice dice) {
         // Generate random map: 20% inaccessible, 30% market, 50% common
-        java.util.Random rand = new java.util.Random();
-
         for (int i = 0; i < grid.length; i++) {
             for (int j = 0; j < grid[0].length; j++) {
-                double p = rand.nextDouble();
+                double p = dice.nextDouble();
                 if (p < 0.2) {
                     grid[i][j] = new InaccessibleCell();
                 } else if (p < 0.5) {
@@ -54,26 +57,34 @@ public class GameMap {
     }
 
     public void displayMap() {
+        displayMap(ConsoleIO.STDOUT);
+    }
+
+    public void displayMap(GameIO io) {
         for (int i = 0; i < grid.length; i++) {
             for (int j = 0; j < grid[0].length; j++) {
-                boolean occupied = false;
-
-                // Check if any hero is at this position
-                for (int k = 0; k < heroPositions.length; k++) {
-                    Position pos = heroPositions[k];
-                    if (pos != null && pos.getX() == i && pos.getY() == j) {
-                        System.out.print("H" + (k + 1) + " ");
-                        occupied = true;
-                        break;
-                    }
+                int hero = heroAt(i, j);
+                if (hero >= 0) {
+                    frame.append('H').append(hero + 1).append(' ');
+                } else {
+                    frame.append(grid[i][j].toChar()).append("  ");
                 }
+            }
+            frame.newLine();
+        }
+        frame.flush(io);
+    }
 
-                if (!occupied) {
-                    System.out.print(grid[i][j].toChar() + "  ");
-                }
+    /**
+     * Index of the first hero standing at (x, y), or -1.
+     */
+    private int heroAt(int x, int y) {
+        for (int k = 0; k < heroPositions.length; k++) {
+            Position pos = heroPositions[k];
+            if (pos != null && pos.getX() == x && pos.getY() == y) {
+                return k;
             }
-            System.out.println();
         }
+        return -1;
     }
 }
-
@@ -0,0 +1,387 @@
+package util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary snapshot of every *.txt data file in a directory, so workers can map
+ * pre-tokenized rows instead of parsing text on each launch.
+ *
+ * Layout (big-endian):
+ * <pre>
+ *   int magic, int version, int fileCount
+ *   per file:   UTF name, long size, long lastModified, int rows, int width, int offset
+ *   int stringCount, per string: UTF text
+ *   per file:   rows fixed-width records of width int slots:
+ *               int columns, int numericMask, int spelledMask, int value[columns],
+ *               int spelling[bitCount(spelledMask)], padding
+ * </pre>
+ * A column whose bit is set in numericMask holds its int value; the others
+ * hold an index into the string table. A numeric column whose text is not the
+ * plain spelling of its value (e.g. "+5" or "007") also sets its spelledMask
+ * bit and keeps the original text's string index in spelling[], in column
+ * order, so text() returns what the file says. Each source file's size and modification
+ * time are recorded and checked before use, so an edited file is never served
+ * from a stale snapshot: the snapshot is rebuilt, or the text parser is used.
+ *
+ * Build it ahead of time with {@code java util.CatalogSnapshot [dataDir]};
+ * otherwise it is written on first use. Set -Dlegends.snapshot=false to
+ * always parse the text files.
+ */
+public final class CatalogSnapshot {
+    public static final String FILE_NAME = "catalog.snapshot";
+
+    private static final int MAGIC = 0x4C47444E; // "LGDN"
+    private static final int VERSION = 2;
+    private static final int MAX_COLUMNS = 31; // numericMask is one int
+    private static final boolean ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("legends.snapshot"));
+
+    private static final Map<String, CatalogSnapshot> BY_DIRECTORY = new HashMap<>();
+    private static final CatalogSnapshot UNAVAILABLE = new CatalogSnapshot();
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final String[] strings;
+    private final ByteBuffer records;
+
+    private static final class Entry {
+        File source;
+        long size;
+        long lastModified;
+        int rows;
+        int width;
+        int offset;
+    }
+
+    private CatalogSnapshot() {
+        this.strings = new String[0];
+        this.records = null;
+    }
+
+    private CatalogSnapshot(File dir, MappedByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IllegalStateException("Not a version " + VERSION + " catalog snapshot");
+        }
+        int fileCount = buffer.getInt();
+        for (int i = 0; i < fileCount; i++) {
+            Entry entry = new Entry();
+            String name = readString(buffer);
+            entry.source = new File(dir, name);
+            entry.size = buffer.getLong();
+            entry.lastModified = buffer.getLong();
+            entry.rows = buffer.getInt();
+            entry.width = buffer.getInt();
+            entry.offset = buffer.getInt();
+            entries.put(name, entry);
+        }
+        strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(buffer);
+        }
+        records = buffer.slice();
+    }
+
+    /**
+     * Serve a data file from its directory's snapshot.
+     *
+     * @return rows delivered, or -1 if the caller should parse the text file
+     */
+    static int stream(String filePath, FileLoader.RowHandler handler) {
+        if (!ENABLED) return -1;
+        File file = new File(filePath);
+        CatalogSnapshot snapshot = forDirectory(file.getAbsoluteFile().getParentFile());
+        Entry entry = snapshot.entries.get(file.getName());
+        if (entry == null || !isFresh(entry)) return -1;
+
+        SnapshotRow row = new SnapshotRow(snapshot.strings, snapshot.records);
+        int recordBytes = entry.width * Integer.BYTES;
+        for (int r = 0; r < entry.rows; r++) {
+            row.at(entry.offset + r * recordBytes);
+            handler.row(row);
+        }
+        return entry.rows;
+    }
+
+    private static synchronized CatalogSnapshot forDirectory(File dir) {
+        return BY_DIRECTORY.computeIfAbsent(dir.getPath(), key -> open(dir));
+    }
+
+    /**
+     * Map the directory's snapshot, rebuilding it first if it is missing or stale.
+     */
+    private static CatalogSnapshot open(File dir) {
+        File snapshotFile = new File(dir, FILE_NAME);
+        try {
+            CatalogSnapshot snapshot = snapshotFile.isFile() ? map(dir, snapshotFile) : null;
+            if (snapshot == null || !snapshot.isFresh(dir)) {
+                compile(dir);
+                snapshot = map(dir, snapshotFile);
+            }
+            return snapshot == null ? UNAVAILABLE : snapshot;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Catalog snapshot unavailable, parsing text files: " + e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+
+    /**
+     * @return the snapshot, or null if the file was written by another version
+     */
+    private static CatalogSnapshot map(File dir, File snapshotFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < 2 * Integer.BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                return null;
+            }
+            return new CatalogSnapshot(dir, buffer);
+        }
+    }
+
+    private boolean isFresh(File dir) {
+        File[] sources = listSources(dir);
+        if (sources.length != entries.size()) return false;
+        for (File source : sources) {
+            Entry entry = entries.get(source.getName());
+            if (entry == null || !isFresh(entry)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isFresh(Entry entry) {
+        return entry.source.length() == entry.size && entry.source.lastModified() == entry.lastModified;
+    }
+
+    private static File[] listSources(File dir) {
+        File[] sources = dir.listFiles((d, name) -> name.endsWith(".txt"));
+        if (sources == null) return new File[0];
+        Arrays.sort(sources);
+        return sources;
+    }
+
+    /**
+     * Parse every *.txt file in dir and write the snapshot next to them.
+     * The file is written under a temporary name and moved into place, so
+     * concurrent readers never see a partial snapshot.
+     */
+    public static void compile(File dir) throws IOException {
+        Map<String, Integer> stringIds = new LinkedHashMap<>();
+        List<int[]> fileRecords = new ArrayList<>();
+        List<File> sources = new ArrayList<>();
+        List<long[]> stamps = new ArrayList<>();
+
+        for (File source : listSources(dir)) {
+            long size = source.length();
+            long lastModified = source.lastModified();
+            List<int[]> rows = new ArrayList<>();
+            int[] width = {3};
+            int parsed = FileLoader.streamText(source.getPath(), row -> {
+                if (row.columns() > MAX_COLUMNS) {
+                    throw new IllegalStateException(source.getName() + " has more than " + MAX_COLUMNS + " columns");
+                }
+                int columns = row.columns();
+                int[] record = new int[3 + 2 * columns];
+                int length = 3 + columns;
+                record[0] = columns;
+                for (int i = 0; i < columns; i++) {
+                    String text = row.text(i);
+                    Integer number = asInt(text);
+                    if (number != null) {
+                        record[1] |= 1 << i;
+                        record[i + 3] = number;
+                        if (!Integer.toString(number).equals(text)) {
+                            record[2] |= 1 << i;
+                            record[length++] = stringIds.computeIfAbsent(text, t -> stringIds.size());
+                        }
+                    } else {
+                        record[i + 3] = stringIds.computeIfAbsent(text, t -> stringIds.size());
+                    }
+                }
+                width[0] = Math.max(width[0], length);
+                rows.add(Arrays.copyOf(record, length));
+            });
+            if (parsed < 0) {
+                throw new IOException("Could not read " + source);
+            }
+
+            int[] packed = new int[rows.size() * width[0]];
+            for (int r = 0; r < rows.size(); r++) {
+                System.arraycopy(rows.get(r), 0, packed, r * width[0], rows.get(r).length);
+            }
+            sources.add(source);
+            stamps.add(new long[]{size, lastModified, rows.size(), width[0]});
+            fileRecords.add(packed);
+        }
+
+        int headerBytes = 3 * Integer.BYTES;
+        for (File source : sources) {
+            headerBytes += Short.BYTES + source.getName().getBytes(StandardCharsets.UTF_8).length
+                    + 2 * Long.BYTES + 3 * Integer.BYTES;
+        }
+        ByteBuffer header = ByteBuffer.allocate(headerBytes);
+        header.putInt(MAGIC).putInt(VERSION).putInt(sources.size());
+        int offset = 0;
+        for (int i = 0; i < sources.size(); i++) {
+            long[] stamp = stamps.get(i);
+            putString(header, sources.get(i).getName());
+            header.putLong(stamp[0]).putLong(stamp[1]).putInt((int) stamp[2]).putInt((int) stamp[3]).putInt(offset);
+            offset += fileRecords.get(i).length * Integer.BYTES;
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(stringBytes(stringIds.keySet()) + offset);
+        body.putInt(stringIds.size());
+        for (String s : stringIds.keySet()) {
+            putString(body, s);
+        }
+        for (int[] packed : fileRecords) {
+            for (int value : packed) {
+                body.putInt(value);
+            }
+        }
+
+        Path target = new File(dir, FILE_NAME).toPath();
+        Path temp = new File(dir, FILE_NAME + "." + ProcessHandle.current().pid() + "."
+                + Thread.currentThread().getId() + ".tmp").toPath();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            header.flip();
+            body.flip();
+            channel.write(new ByteBuffer[]{header, body});
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * The int value of a token, if it is one, as Integer.parseInt reads it.
+     */
+    private static Integer asInt(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int stringBytes(Iterable<String> strings) {
+        int total = Integer.BYTES;
+        for (String s : strings) {
+            total += Short.BYTES + s.getBytes(StandardCharsets.UTF_8).length;
+        }
+        return total;
+    }
+
+    private static void putString(ByteBuffer buffer, String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A record in the mapped snapshot, read through the same Row API as text rows.
+     */
+    private static final class SnapshotRow extends FileLoader.Row {
+        private final String[] strings;
+        private final ByteBuffer records;
+        private int base;
+        private int columns;
+        private int numericMask;
+        private int spelledMask;
+
+        SnapshotRow(String[] strings, ByteBuffer records) {
+            this.strings = strings;
+            this.records = records;
+        }
+
+        void at(int offset) {
+            base = offset;
+            columns = records.getInt(offset);
+            numericMask = records.getInt(offset + Integer.BYTES);
+            spelledMask = records.getInt(offset + 2 * Integer.BYTES);
+        }
+
+        private int slot(int i) {
+            if (i < 0 || i >= columns) throw new IndexOutOfBoundsException("Column " + i + " of " + columns);
+            return records.getInt(base + (i + 3) * Integer.BYTES);
+        }
+
+        private String spelling(int i) {
+            int index = Integer.bitCount(spelledMask & ((1 << i) - 1));
+            return strings[records.getInt(base + (3 + columns + index) * Integer.BYTES)];
+        }
+
+        private boolean isNumeric(int i) {
+            return (numericMask & (1 << i)) != 0;
+        }
+
+        @Override
+        public int columns() {
+            return columns;
+        }
+
+        @Override
+        public String text(int i) {
+            int value = slot(i);
+            if (!isNumeric(i)) return strings[value];
+            return (spelledMask & (1 << i)) != 0 ? spelling(i) : Integer.toString(value);
+        }
+
+        @Override
+        public int intValue(int i) {
+            int value = slot(i);
+            if (isNumeric(i)) return value;
+            throw new NumberFormatException("For input string: \"" + strings[value] + "\"");
+        }
+
+        @Override
+        public double doubleValue(int i) {
+            int value = slot(i);
+            if (!isNumeric(i)) return Double.parseDouble(strings[value]);
+            if ((spelledMask & (1 << i)) != 0) {
+                // Same rule as text rows: only digits and signs read as the int value
+                String text = spelling(i);
+                for (int k = 0; k < text.length(); k++) {
+                    char c = text.charAt(k);
+                    if ((c < '0' || c > '9') && c != '-' && c != '+') return Double.parseDouble(text);
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Build the snapshot for a data directory (default src/data).
+     */
+    public static void main(String[] args) throws IOException {
+        File dir = new File(args.length > 0 ? args[0] : "src/data");
+        long start = System.nanoTime();
+        compile(dir);
+        System.out.printf("Wrote %s (%d bytes) in %.1f ms%n", new File(dir, FILE_NAME),
+                new File(dir, FILE_NAME).length(), (System.nanoTime() - start) / 1e6);
+    }
+}
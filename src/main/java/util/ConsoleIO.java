@@ -0,0 +1,45 @@
+package util;
+
+import java.io.PrintStream;
+import java.util.Scanner;
+
+/**
+ * GameIO backed by a Scanner and a PrintStream (normally System.in / System.out).
+ */
+public class ConsoleIO implements GameIO {
+
+    /**
+     * Output-only console for code that prints but never prompts.
+     */
+    public static final ConsoleIO STDOUT = new ConsoleIO(null, System.out);
+
+    private final Scanner scanner;
+    private final PrintStream out;
+
+    public ConsoleIO(Scanner scanner) {
+        this(scanner, System.out);
+    }
+
+    public ConsoleIO(Scanner scanner, PrintStream out) {
+        this.scanner = scanner;
+        this.out = out;
+    }
+
+    @Override
+    public String readLine() {
+        if (scanner == null) {
+            throw new IllegalStateException("This console has no input source");
+        }
+        return scanner.nextLine();
+    }
+
+    @Override
+    public void print(String text) {
+        out.print(text);
+    }
+
+    @Override
+    public void println(String text) {
+        out.println(text);
+    }
+}
@@ -0,0 +1,90 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seedable random number source for one match.
+ * Uses the SplitMix64 generator (the algorithm behind java.util.SplittableRandom)
+ * with its state exposed, so a run can be reproduced from its seed and matches
+ * running in parallel never contend on a shared generator. Not thread-safe:
+ * give each match or worker its own instance, or {@link #split()} one.
+ */
+public final class Dice {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    // Source of seeds for unseeded instances (interactive play)
+    private static final AtomicLong SEED_UNIQUIFIER = new AtomicLong(mix64(System.nanoTime()));
+
+    private long state;
+
+    /**
+     * Create a generator with an arbitrary seed.
+     */
+    public Dice() {
+        this(mix64(SEED_UNIQUIFIER.getAndAdd(GOLDEN_GAMMA) ^ System.nanoTime()));
+    }
+
+    /**
+     * Create a generator that reproduces the same sequence for the same seed.
+     */
+    public Dice(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Next pseudo-random 64-bit value.
+     */
+    public long nextLong() {
+        return mix64(state += GOLDEN_GAMMA);
+    }
+
+    /**
+     * Uniform double in [0, 1), a drop-in for Math.random().
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Uniform int in [0, bound).
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive: " + bound);
+        }
+        // Multiply-shift on the top 31 bits; bias is negligible for game-sized bounds
+        return (int) (((nextLong() >>> 33) * bound) >>> 31);
+    }
+
+    /**
+     * True with the given probability.
+     */
+    public boolean chance(double probability) {
+        return nextDouble() < probability;
+    }
+
+    /**
+     * New independent generator seeded from this one, for handing to another worker.
+     */
+    public Dice split() {
+        return new Dice(nextLong());
+    }
+
+    /**
+     * Current generator state; restoring it with {@link #setState} replays the same sequence.
+     */
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
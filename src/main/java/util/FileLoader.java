@@ -1,48 +1,171 @@
 package util;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Utility class to load data files into string arrays.
  * Supports different file formats with whitespace or tab separation.
+ *
+ * Files are memory-mapped and tokenized in place: {@link #stream} hands each
+ * data row to a callback that reads typed columns straight from the bytes, so
+ * numeric columns never become Strings. When the directory has an up-to-date
+ * {@link CatalogSnapshot}, rows are served from it and the text is not parsed.
  */
 public class FileLoader {
 
     /**
-     * Load a file and return list of parsed lines (skip header and empty lines).
-     *
-     * @param filePath path to the data file
-     * @return list of string arrays, each representing one data row
+     * Receives the data rows of a file, one at a time.
      */
-    public static List<String[]> loadFile(String filePath) {
-        List<String[]> parsedLines = new ArrayList<>();
+    public interface RowHandler {
+        void row(Row row);
+    }
 
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean isFirstLine = true;
+    /**
+     * One data row, valid only during the {@link RowHandler#row} call.
+     */
+    public abstract static class Row {
+        public abstract int columns();
 
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
+        /**
+         * Column i as a String.
+         */
+        public abstract String text(int i);
 
-                // Skip empty lines and comments
-                if (line.isEmpty() || line.startsWith("//") || line.startsWith("#")) {
-                    continue;
-                }
+        /**
+         * Column i as an int, read as Integer.parseInt would.
+         *
+         * @throws NumberFormatException if Integer.parseInt rejects the column
+         */
+        public abstract int intValue(int i);
+
+        /**
+         * Column i as a double.
+         */
+        public abstract double doubleValue(int i);
+
+        /**
+         * All columns as Strings (what {@link #loadFile} returns per row).
+         */
+        public String[] toArray() {
+            String[] parts = new String[columns()];
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = text(i);
+            }
+            return parts;
+        }
+    }
+
+    /**
+     * A row of a text file; column accessors parse the mapped bytes directly.
+     */
+    private static final class TextRow extends Row {
+        private ByteBuffer buffer;
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private int columns;
+        private byte[] scratch = new byte[64];
+
+        @Override
+        public int columns() {
+            return columns;
+        }
 
-                // Skip header line (first non-comment line)
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue;
+        @Override
+        public String text(int i) {
+            int start = starts[i];
+            int length = ends[i] - start;
+            if (scratch.length < length) scratch = new byte[length];
+            for (int k = 0; k < length; k++) {
+                scratch[k] = buffer.get(start + k);
+            }
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Short ASCII integers are parsed in place; anything else goes through Integer.parseInt.
+         */
+        @Override
+        public int intValue(int i) {
+            int pos = starts[i];
+            int end = ends[i];
+            boolean negative = false;
+            byte first = buffer.get(pos);
+            if (first == '-' || first == '+') {
+                negative = first == '-';
+                pos++;
+            }
+            if (pos == end || end - pos > 10) return Integer.parseInt(text(i));
+
+            long value = 0;
+            for (; pos < end; pos++) {
+                int digit = buffer.get(pos) - '0';
+                if (digit < 0 || digit > 9) return Integer.parseInt(text(i));
+                value = value * 10 + digit;
+            }
+            value = negative ? -value : value;
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) return Integer.parseInt(text(i));
+            return (int) value;
+        }
+
+        /**
+         * Plain integers are parsed in place; anything else goes through Double.parseDouble.
+         */
+        @Override
+        public double doubleValue(int i) {
+            for (int pos = starts[i]; pos < ends[i]; pos++) {
+                byte b = buffer.get(pos);
+                if ((b < '0' || b > '9') && b != '-' && b != '+') {
+                    return Double.parseDouble(text(i));
                 }
+            }
+            return intValue(i);
+        }
 
-                // Split by whitespace (handles multiple spaces/tabs)
-                String[] parts = line.split("\\s+");
-                parsedLines.add(parts);
+        private void addColumn(int start, int end) {
+            if (columns == starts.length) {
+                starts = Arrays.copyOf(starts, columns * 2);
+                ends = Arrays.copyOf(ends, columns * 2);
             }
+            starts[columns] = start;
+            ends[columns] = end;
+            columns++;
+        }
+    }
 
-        } catch (FileNotFoundException e) {
+    /**
+     * Stream the data rows of a file (skipping header, empty and comment lines)
+     * to a handler without building intermediate lists or Strings.
+     *
+     * @param filePath path to the data file
+     * @param handler  called once per data row
+     * @return number of data rows delivered
+     */
+    public static int stream(String filePath, RowHandler handler) {
+        int delivered = CatalogSnapshot.stream(filePath, handler);
+        if (delivered >= 0) return delivered;
+        return Math.max(0, streamText(filePath, handler));
+    }
+
+    /**
+     * Parse the text file itself, ignoring any snapshot.
+     *
+     * @return number of data rows delivered, or -1 if the file could not be read
+     */
+    static int streamText(String filePath, RowHandler handler) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return parse(buffer, handler);
+        } catch (NoSuchFileException e) {
             System.err.println("File not found: " + filePath);
             System.err.println("Please ensure data files are in the correct location.");
             e.printStackTrace();
@@ -50,7 +173,73 @@ public class FileLoader {
             System.err.println("Error reading file: " + filePath);
             e.printStackTrace();
         }
+        return -1;
+    }
 
+    /**
+     * Tokenize a buffer of whitespace-separated rows. The first non-comment
+     * line is the header and is skipped.
+     */
+    static int parse(ByteBuffer buffer, RowHandler handler) {
+        TextRow row = new TextRow();
+        row.buffer = buffer;
+        int limit = buffer.limit();
+        int pos = buffer.position();
+        boolean isFirstLine = true;
+        int delivered = 0;
+
+        while (pos < limit) {
+            int lineEnd = pos;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') lineEnd++;
+
+            // Split by whitespace (handles multiple spaces/tabs and \r)
+            row.columns = 0;
+            int p = pos;
+            while (p < lineEnd) {
+                while (p < lineEnd && isSpace(buffer.get(p))) p++;
+                if (p == lineEnd) break;
+                int start = p;
+                while (p < lineEnd && !isSpace(buffer.get(p))) p++;
+                row.addColumn(start, p);
+            }
+            pos = lineEnd + 1;
+
+            // Skip empty lines and comments
+            if (row.columns == 0 || isComment(buffer, row.starts[0], lineEnd)) {
+                continue;
+            }
+
+            // Skip header line (first non-comment line)
+            if (isFirstLine) {
+                isFirstLine = false;
+                continue;
+            }
+
+            handler.row(row);
+            delivered++;
+        }
+        return delivered;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
+    private static boolean isComment(ByteBuffer buffer, int start, int lineEnd) {
+        byte first = buffer.get(start);
+        if (first == '#') return true;
+        return first == '/' && start + 1 < lineEnd && buffer.get(start + 1) == '/';
+    }
+
+    /**
+     * Load a file and return list of parsed lines (skip header and empty lines).
+     *
+     * @param filePath path to the data file
+     * @return list of string arrays, each representing one data row
+     */
+    public static List<String[]> loadFile(String filePath) {
+        List<String[]> parsedLines = new ArrayList<>();
+        stream(filePath, row -> parsedLines.add(row.toArray()));
         return parsedLines;
     }
 
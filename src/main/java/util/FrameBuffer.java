@@ -0,0 +1,153 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * Reusable text frame for map renderers. A frame is composed line by line into
+ * a char buffer and written with a single print call instead of one per cell.
+ *
+ * In diff mode the buffer remembers the previous frame and writes only the
+ * lines that changed, each positioned with ANSI cursor codes. This is meant for a
+ * terminal that shows nothing but the frame (e.g. a spectator view), where the
+ * previous frame is still on screen.
+ */
+public final class FrameBuffer {
+    private static final String CSI = "\u001b[";
+
+    private final boolean diff;
+    private final StringBuilder out = new StringBuilder();
+
+    private char[] chars = new char[1024];
+    private int length;
+    private int[] lineEnds = new int[64]; // index just past each line's '\n'
+    private int lines;
+
+    // Previous frame, kept only in diff mode
+    private char[] prevChars = new char[0];
+    private int[] prevLineEnds = new int[0];
+    private int prevLines = -1; // -1 until the first frame has been written
+
+    public FrameBuffer() {
+        this(false);
+    }
+
+    /**
+     * @param diff write only changed lines after the first frame
+     */
+    public FrameBuffer(boolean diff) {
+        this.diff = diff;
+    }
+
+    public FrameBuffer append(char c) {
+        ensure(1);
+        chars[length++] = c;
+        return this;
+    }
+
+    public FrameBuffer append(String s) {
+        int n = s.length();
+        ensure(n);
+        s.getChars(0, n, chars, length);
+        length += n;
+        return this;
+    }
+
+    public FrameBuffer append(int value) {
+        if (value < 0) {
+            if (value == Integer.MIN_VALUE) return append(Integer.toString(value));
+            append('-');
+            value = -value;
+        }
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) digits++;
+        ensure(digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    /**
+     * End the current line.
+     */
+    public FrameBuffer newLine() {
+        append('\n');
+        if (lines == lineEnds.length) {
+            lineEnds = Arrays.copyOf(lineEnds, lines * 2);
+        }
+        lineEnds[lines++] = length;
+        return this;
+    }
+
+    /**
+     * Write the composed frame (or, in diff mode, its changed lines) and start a new one.
+     */
+    public void flush(GameIO io) {
+        if (length > 0 && (lines == 0 || lineEnds[lines - 1] != length)) {
+            newLine(); // close a trailing partial line
+        }
+        if (!diff) {
+            io.print(new String(chars, 0, length));
+        } else {
+            writeChangedLines(io);
+            swapFrames();
+        }
+        length = 0;
+        lines = 0;
+    }
+
+    /**
+     * Forget the previous frame, so the next diff-mode flush redraws everything
+     * (e.g. after other output has scrolled the screen).
+     */
+    public void invalidate() {
+        prevLines = -1;
+    }
+
+    private void writeChangedLines(GameIO io) {
+        out.setLength(0);
+        boolean full = prevLines < 0;
+        if (full) {
+            out.append(CSI).append("H").append(CSI).append("2J");
+        }
+        for (int i = 0; i < lines; i++) {
+            int start = i == 0 ? 0 : lineEnds[i - 1];
+            int end = lineEnds[i] - 1; // without '\n'
+            if (!full && sameAsPrevious(i, start, end)) continue;
+            out.append(CSI).append(i + 1).append(";1H");
+            out.append(chars, start, end - start);
+            out.append(CSI).append('K');
+        }
+        if (!full && prevLines > lines) {
+            out.append(CSI).append(lines + 1).append(";1H").append(CSI).append('J');
+        }
+        if (out.length() > 0) {
+            io.print(out.toString());
+        }
+    }
+
+    private boolean sameAsPrevious(int line, int start, int end) {
+        if (line >= prevLines) return false;
+        int prevStart = line == 0 ? 0 : prevLineEnds[line - 1];
+        int prevEnd = prevLineEnds[line] - 1;
+        return Arrays.equals(chars, start, end, prevChars, prevStart, prevEnd);
+    }
+
+    private void swapFrames() {
+        char[] c = prevChars;
+        prevChars = chars;
+        chars = c.length >= prevChars.length ? c : new char[prevChars.length];
+        int[] e = prevLineEnds;
+        prevLineEnds = lineEnds;
+        lineEnds = e.length >= prevLineEnds.length ? e : new int[prevLineEnds.length];
+        prevLines = lines;
+    }
+
+    private void ensure(int extra) {
+        if (length + extra > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + extra));
+        }
+    }
+}
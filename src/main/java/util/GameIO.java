@@ -0,0 +1,63 @@
+package util;
+
+/**
+ * Line-oriented input/output used by the games instead of Scanner and System.out.
+ * Lets the same rules code run interactively, from scripted input, or fully headless.
+ */
+public interface GameIO {
+
+    /**
+     * Discards all output. Reading input is an error, since a headless
+     * session must never block waiting for a player.
+     */
+    GameIO SILENT = new GameIO() {
+        @Override
+        public String readLine() {
+            throw new IllegalStateException("Headless session cannot read player input");
+        }
+
+        @Override
+        public void print(String text) {
+            // discarded
+        }
+
+        @Override
+        public void println(String text) {
+            // discarded
+        }
+
+        @Override
+        public boolean isSilent() {
+            return true;
+        }
+    };
+
+    /**
+     * Read the next line of player input.
+     */
+    String readLine();
+
+    /**
+     * Write text without a line break (used for prompts).
+     */
+    void print(String text);
+
+    /**
+     * Write a line of text.
+     */
+    void println(String text);
+
+    /**
+     * Write an empty line.
+     */
+    default void println() {
+        println("");
+    }
+
+    /**
+     * Whether output is discarded, so callers can skip building messages.
+     */
+    default boolean isSilent() {
+        return false;
+    }
+}
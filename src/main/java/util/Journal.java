@@ -0,0 +1,290 @@
+package util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Append-only record of one session: the game mode, the dice seed and every
+ * line the player typed, in order. Both games take all their randomness from
+ * the dice and all their input from a GameIO, so seed plus lines replay the
+ * session exactly.
+ *
+ * Format: magic "LGJ1", mode (1 byte), seed (8 bytes), then one record per
+ * line: its UTF-8 length as a varint followed by the bytes. A one-key command
+ * costs two bytes, so a long session stays a few kilobytes.
+ *
+ * Not thread-safe: one session records into one journal.
+ */
+public final class Journal {
+    private static final int MAGIC = 0x4C474A31; // "LGJ1"
+    private static final int HEADER_BYTES = 13;
+
+    /**
+     * Which game the session played.
+     */
+    public enum Mode { CLASSIC, VALOR }
+
+    private final Mode mode;
+    private final long seed;
+    private byte[] data = new byte[256]; // line records after the header
+    private int size;
+    private int lineCount;
+    private OutputStream sink; // also receives every record, or null
+
+    /**
+     * Start an empty journal for a session whose dice start from seed
+     * (a fresh Dice's {@link Dice#getState()}).
+     */
+    public Journal(Mode mode, long seed) {
+        this.mode = mode;
+        this.seed = seed;
+    }
+
+    public Mode getMode() { return mode; }
+    public long getSeed() { return seed; }
+    public int getLineCount() { return lineCount; }
+
+    /**
+     * Encoded size in bytes, header included.
+     */
+    public int getByteSize() {
+        return HEADER_BYTES + size;
+    }
+
+    /**
+     * Add a line of player input.
+     */
+    public void append(String line) {
+        int start = size;
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(5 + bytes.length);
+        for (int n = bytes.length; ; n >>>= 7) {
+            if (n < 0x80) {
+                data[size++] = (byte) n;
+                break;
+            }
+            data[size++] = (byte) (n & 0x7F | 0x80);
+        }
+        System.arraycopy(bytes, 0, data, size, bytes.length);
+        size += bytes.length;
+        lineCount++;
+
+        if (sink != null) {
+            try {
+                sink.write(data, start, size - start);
+                sink.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write journal", e);
+            }
+        }
+    }
+
+    /**
+     * I/O that behaves like io and appends every line read to this journal.
+     */
+    public GameIO recording(GameIO io) {
+        return new GameIO() {
+            @Override
+            public String readLine() {
+                String line = io.readLine();
+                append(line);
+                return line;
+            }
+
+            @Override
+            public void print(String text) {
+                io.print(text);
+            }
+
+            @Override
+            public void println(String text) {
+                io.println(text);
+            }
+
+            @Override
+            public boolean isSilent() {
+                return io.isSilent();
+            }
+        };
+    }
+
+    /**
+     * I/O that feeds this journal's lines back in order and writes output to out.
+     */
+    public Player player(GameIO out) {
+        return new Player(out);
+    }
+
+    /**
+     * Write the journal so far to the file, then append each new line as it is
+     * added, so the file is complete even if the session dies.
+     */
+    public void streamTo(Path file) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file));
+        writeTo(out);
+        out.flush();
+        sink = out;
+    }
+
+    /**
+     * Stop appending to the file given to {@link #streamTo} and close it.
+     */
+    public void close() throws IOException {
+        if (sink != null) {
+            sink.close();
+            sink = null;
+        }
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeByte(mode.ordinal());
+        header.writeLong(seed);
+        out.write(data, 0, size);
+    }
+
+    public static Journal load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return readFrom(in);
+        }
+    }
+
+    /**
+     * Read a journal written by {@link #writeTo} or {@link #streamTo}. A record
+     * cut short at the end (the session died mid-write) is dropped; a length
+     * prefix that is not a valid varint means the file is corrupt.
+     */
+    public static Journal readFrom(InputStream in) throws IOException {
+        DataInputStream header = new DataInputStream(in);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("Not a session journal");
+        }
+        int mode = header.readUnsignedByte();
+        if (mode >= Mode.values().length) {
+            throw new IOException("Unknown game mode in journal: " + mode);
+        }
+        Journal journal = new Journal(Mode.values()[mode], header.readLong());
+        byte[] records = in.readAllBytes();
+        int pos = 0;
+        while (pos < records.length) {
+            int length = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (pos == records.length) return journal;
+                if (shift >= 32) throw new IOException("Corrupt journal record");
+                b = records[pos++];
+                length |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            if (length < 0) throw new IOException("Corrupt journal record");
+            if (length > records.length - pos) return journal;
+            journal.append(new String(records, pos, length, StandardCharsets.UTF_8));
+            pos += length;
+        }
+        return journal;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, size + extra));
+        }
+    }
+
+    /**
+     * Replays the journal's lines as player input. Its position can be saved
+     * and restored, so a replay can jump back to a checkpoint.
+     */
+    public final class Player implements GameIO {
+        private final GameIO out;
+        private int offset; // into data
+        private int line;
+        private boolean exhausted;
+
+        private Player(GameIO out) {
+            this.out = out;
+        }
+
+        @Override
+        public String readLine() {
+            if (line == lineCount) {
+                exhausted = true;
+                throw new IllegalStateException("Journal ends after " + lineCount + " lines of input");
+            }
+            int length = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (shift >= 32) throw new IllegalStateException("Corrupt journal record at byte " + offset);
+                b = data[offset++];
+                length |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            if (length < 0 || length > size - offset) {
+                throw new IllegalStateException("Corrupt journal record at byte " + offset);
+            }
+            String text = new String(data, offset, length, StandardCharsets.UTF_8);
+            offset += length;
+            line++;
+            return text;
+        }
+
+        @Override
+        public void print(String text) {
+            out.print(text);
+        }
+
+        @Override
+        public void println(String text) {
+            out.println(text);
+        }
+
+        @Override
+        public boolean isSilent() {
+            return out.isSilent();
+        }
+
+        /**
+         * Whether a read ran past the last line.
+         */
+        public boolean isExhausted() {
+            return exhausted;
+        }
+
+        /**
+         * Lines read so far.
+         */
+        public int getLine() {
+            return line;
+        }
+
+        /**
+         * Opaque read position for {@link #seek}.
+         */
+        public long getPosition() {
+            return (long) line << 32 | offset;
+        }
+
+        public void seek(long position) {
+            line = (int) (position >>> 32);
+            offset = (int) position;
+            exhausted = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return mode + " session, seed " + Long.toHexString(seed) + ", "
+                + lineCount + " lines in " + getByteSize() + " bytes";
+    }
+}
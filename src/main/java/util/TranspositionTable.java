@@ -0,0 +1,123 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free cache from 64-bit position keys (e.g. Zobrist keys) to
+ * small values, shared by any number of searching threads.
+ *
+ * Each entry is two words: the packed data and the key XOR the data. Threads
+ * read and write the words without locks; a reader whose two words come from
+ * different writes sees a key that does not match and treats it as a miss. So
+ * a race can lose an entry but never return a wrong one.
+ *
+ * Keys hash to a bucket of two entries. A store replaces, in order: the entry
+ * for the same key, an entry from an older generation (see
+ * {@link #newGeneration()}), then the entry with the lower weight. Callers
+ * pick the weight, e.g. search depth or number of samples behind the value.
+ */
+public final class TranspositionTable {
+    /** Returned by {@link #get} when the key is not in the table. */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    /** Stored values must lie within [-MAX_VALUE, MAX_VALUE]. */
+    public static final long MAX_VALUE = (1L << 47) - 1;
+
+    // Data word: value (48 bits) | weight (8) | used flag (1) | generation (7)
+    private static final int WEIGHT_MASK = 0xFF;
+    private static final long USED = 0x80;
+    private static final int GENERATION_MASK = 0x7F;
+
+    private final AtomicLongArray words; // per entry: key ^ data, then data
+    private final int bucketMask;
+    private volatile int generation;
+
+    /**
+     * @param entries capacity, rounded up to a power of two (at least 2)
+     */
+    public TranspositionTable(int entries) {
+        if (entries < 2 || entries > 1 << 29) {
+            throw new IllegalArgumentException("Entries must be between 2 and 2^29: " + entries);
+        }
+        int capacity = Integer.highestOneBit(entries - 1) << 1;
+        this.words = new AtomicLongArray(capacity * 2);
+        this.bucketMask = capacity / 2 - 1;
+    }
+
+    /**
+     * The value stored for key, or {@link #MISSING}.
+     */
+    public long get(long key) {
+        int first = bucket(key) * 2;
+        for (int entry = first; entry < first + 2; entry++) {
+            long data = words.getOpaque(entry * 2 + 1);
+            if (data != 0 && (words.getOpaque(entry * 2) ^ data) == key) {
+                return data >> 16;
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Store a value for key with a replacement weight in [0, 255].
+     */
+    public void put(long key, long value, int weight) {
+        if (value < -MAX_VALUE || value > MAX_VALUE) {
+            throw new IllegalArgumentException("Value out of range: " + value);
+        }
+        int gen = generation & GENERATION_MASK;
+        long data = value << 16 | (long) Math.min(Math.max(weight, 0), WEIGHT_MASK) << 8 | USED | gen;
+
+        int first = bucket(key) * 2;
+        int victim;
+        if (holds(first, key)) {
+            victim = first;
+        } else if (holds(first + 1, key)) {
+            victim = first + 1;
+        } else {
+            victim = priority(first + 1, gen) < priority(first, gen) ? first + 1 : first;
+        }
+        words.setOpaque(victim * 2, key ^ data);
+        words.setOpaque(victim * 2 + 1, data);
+    }
+
+    /**
+     * Start a new search generation: entries stored before it are replaced
+     * ahead of newer ones, whatever their weight.
+     */
+    public void newGeneration() {
+        generation = generation + 1;
+    }
+
+    /**
+     * Drop every entry. Not safe to call while other threads use the table.
+     */
+    public void clear() {
+        for (int i = 0; i < words.length(); i++) {
+            words.setOpaque(i, 0);
+        }
+    }
+
+    public int capacity() {
+        return words.length() / 2;
+    }
+
+    private int bucket(long key) {
+        return (int) (key ^ (key >>> 32)) & bucketMask;
+    }
+
+    private boolean holds(int entry, long key) {
+        long data = words.getOpaque(entry * 2 + 1);
+        return data != 0 && (words.getOpaque(entry * 2) ^ data) == key;
+    }
+
+    /**
+     * How much an entry is worth keeping: empty entries least, then stale ones.
+     */
+    private int priority(int entry, int gen) {
+        long data = words.getOpaque(entry * 2 + 1);
+        if (data == 0) return -2;
+        if ((data & GENERATION_MASK) != gen) return -1;
+        return (int) (data >>> 8) & WEIGHT_MASK;
+    }
+}
@@ -0,0 +1,16 @@
+package valor;
+
+import character.hero.Hero;
+
+/**
+ * Decides what a hero does on its turn.
+ * Implementations drive the hero through {@link ValorEngine#apply(Hero, ValorCommand)};
+ * the console game prompts the player, simulations use scripted or random policies.
+ */
+public interface HeroController {
+
+    /**
+     * Take the given hero's turn. Called once per living hero per round.
+     */
+    void takeTurn(ValorEngine engine, Hero hero);
+}
@@ -0,0 +1,182 @@
+package valor;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed distance fields over each lane of a ValorMap: for every cell, the
+ * number of steps to the hero nexus over cells monsters can enter, and to the
+ * monster nexus over cells heroes can enter, plus the first step of a shortest
+ * path. Movers look up their next step instead of searching.
+ *
+ * Walls keep lanes apart, so each lane has its own fields. A lane is rebuilt
+ * (one BFS) the first time it is queried after its terrain changed.
+ */
+public class LanePathing {
+    /** Distance of a cell the goal cannot be reached from. */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final char NONE = 0;
+
+    private final ValorMap map;
+    private final ValorMapSpec spec;
+    private final int laneWidth;
+
+    // Per lane, indexed by row * laneWidth + (col - left column)
+    private final int[][] toHeroNexus;
+    private final char[][] monsterStep;
+    private final int[][] toMonsterNexus;
+    private final char[][] heroStep;
+    private final boolean[] stale;
+
+    private int[] queue = new int[0];
+
+    LanePathing(ValorMap map) {
+        this.map = map;
+        this.spec = map.getSpec();
+        int lanes = spec.getLaneCount();
+        this.laneWidth = spec.getLaneRightColumn(0) - spec.getLaneLeftColumn(0) + 1;
+        this.toHeroNexus = new int[lanes][];
+        this.monsterStep = new char[lanes][];
+        this.toMonsterNexus = new int[lanes][];
+        this.heroStep = new char[lanes][];
+        this.stale = new boolean[lanes];
+        Arrays.fill(stale, true);
+    }
+
+    /**
+     * Steps a monster at (row, col) needs to reach the hero nexus, or UNREACHABLE.
+     */
+    public int distanceToHeroNexus(int row, int col) {
+        int lane = laneOf(col);
+        return lane < 0 ? UNREACHABLE : toHeroNexus[lane][index(row, col, lane)];
+    }
+
+    /**
+     * Steps a hero at (row, col) needs to reach the monster nexus, or UNREACHABLE.
+     */
+    public int distanceToMonsterNexus(int row, int col) {
+        int lane = laneOf(col);
+        return lane < 0 ? UNREACHABLE : toMonsterNexus[lane][index(row, col, lane)];
+    }
+
+    /**
+     * First step ('W', 'A', 'S' or 'D') of a shortest monster path to the hero nexus,
+     * or 0 at the nexus or when it cannot be reached. Prefers going south.
+     */
+    public char nextMonsterStep(int row, int col) {
+        int lane = laneOf(col);
+        return lane < 0 ? NONE : monsterStep[lane][index(row, col, lane)];
+    }
+
+    /**
+     * First step ('W', 'A', 'S' or 'D') of a shortest hero path to the monster nexus,
+     * or 0 at the nexus or when it cannot be reached. Prefers going north.
+     */
+    public char nextHeroStep(int row, int col) {
+        int lane = laneOf(col);
+        return lane < 0 ? NONE : heroStep[lane][index(row, col, lane)];
+    }
+
+    /**
+     * The terrain at (row, col) changed: rebuild that lane on its next query.
+     */
+    public void invalidate(int row, int col) {
+        int lane = spec.getLaneForColumn(col);
+        if (lane >= 0) stale[lane] = true;
+    }
+
+    /**
+     * Rebuild every lane whose terrain changed. Queries rebuild lazily on their own;
+     * call this first when several threads are about to read the fields.
+     */
+    void refreshStaleLanes() {
+        for (int lane = 0; lane < stale.length; lane++) {
+            if (stale[lane]) rebuild(lane);
+        }
+    }
+
+    private int laneOf(int col) {
+        if (col < 0 || col >= spec.getCols()) return -1;
+        int lane = spec.getLaneForColumn(col);
+        if (lane >= 0 && stale[lane]) rebuild(lane);
+        return lane;
+    }
+
+    private int index(int row, int col, int lane) {
+        return row * laneWidth + (col - spec.getLaneLeftColumn(lane));
+    }
+
+    private void rebuild(int lane) {
+        int cells = spec.getRows() * laneWidth;
+        if (toHeroNexus[lane] == null) {
+            toHeroNexus[lane] = new int[cells];
+            monsterStep[lane] = new char[cells];
+            toMonsterNexus[lane] = new int[cells];
+            heroStep[lane] = new char[cells];
+        }
+        if (queue.length < cells) queue = new int[cells];
+
+        fill(lane, spec.getHeroNexusRow(), false, toHeroNexus[lane], monsterStep[lane], "SADW");
+        fill(lane, spec.getMonsterNexusRow(), true, toMonsterNexus[lane], heroStep[lane], "WADS");
+        stale[lane] = false;
+    }
+
+    /**
+     * Breadth-first search out from the goal row over cells the mover can enter,
+     * then record each cell's first step, trying directions in preference order.
+     */
+    private void fill(int lane, int goalRow, boolean hero, int[] dist, char[] step, String preference) {
+        int left = spec.getLaneLeftColumn(lane);
+        int rows = spec.getRows();
+        Arrays.fill(dist, UNREACHABLE);
+
+        int head = 0;
+        int tail = 0;
+        for (int x = 0; x < laneWidth; x++) {
+            if (passable(goalRow, left + x, hero)) {
+                int i = goalRow * laneWidth + x;
+                dist[i] = 0;
+                queue[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int i = queue[head++];
+            int row = i / laneWidth;
+            int x = i % laneWidth;
+            int d = dist[i] + 1;
+            if (row > 0) tail = visit(dist, i - laneWidth, row - 1, left + x, hero, d, tail);
+            if (row < rows - 1) tail = visit(dist, i + laneWidth, row + 1, left + x, hero, d, tail);
+            if (x > 0) tail = visit(dist, i - 1, row, left + x - 1, hero, d, tail);
+            if (x < laneWidth - 1) tail = visit(dist, i + 1, row, left + x + 1, hero, d, tail);
+        }
+
+        for (int i = 0; i < dist.length; i++) {
+            step[i] = NONE;
+            if (dist[i] == 0 || dist[i] == UNREACHABLE) continue;
+            int row = i / laneWidth;
+            int x = i % laneWidth;
+            for (int k = 0; k < preference.length(); k++) {
+                char dir = preference.charAt(k);
+                int r = row + (dir == 'S' ? 1 : dir == 'W' ? -1 : 0);
+                int c = x + (dir == 'D' ? 1 : dir == 'A' ? -1 : 0);
+                if (r < 0 || r >= rows || c < 0 || c >= laneWidth) continue;
+                if (dist[r * laneWidth + c] == dist[i] - 1) {
+                    step[i] = dir;
+                    break;
+                }
+            }
+        }
+    }
+
+    private int visit(int[] dist, int i, int row, int col, boolean hero, int d, int tail) {
+        if (dist[i] != UNREACHABLE || !passable(row, col, hero)) return tail;
+        dist[i] = d;
+        queue[tail] = i;
+        return tail + 1;
+    }
+
+    private boolean passable(int row, int col, boolean hero) {
+        ValorCell cell = map.getCell(row, col);
+        return hero ? cell.isPassableForHero() : cell.isPassableForMonster();
+    }
+}
@@ -0,0 +1,176 @@
+package valor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import character.hero.Hero;
+import character.monster.Monster;
+import event.EventType;
+import util.Dice;
+
+/**
+ * Plan-then-commit version of the monsters' turn for wide, many-lane maps.
+ *
+ * Plan: lanes are split across a fork/join pool, and every living monster
+ * works out its intent (the hero it would attack, or whether its lane's
+ * distance field gives it a step) from the board as it stands. Planning only
+ * reads the board, so lanes never interfere.
+ *
+ * Commit: intents are applied one monster at a time in list order, exactly
+ * like {@link ValorMonsterAI#processMonsters}, and each is re-checked first:
+ * a target killed earlier in the commit sends the monster back through the
+ * sequential rules, and a move re-checks the cell it steps into, which an
+ * earlier monster may have just entered or left. Heroes do not move during the monsters'
+ * turn and a fallen hero stays down, so a target that is still alive is the
+ * one the sequential rules would pick. Dice are rolled during commit, in list
+ * order, so a match plays out the same either way.
+ */
+public class MonsterTurnPlanner {
+    private static final byte STAY = 0;
+    private static final byte MOVE = 1;
+    private static final byte ATTACK = 2;
+
+    private static final int MIN_MONSTERS_PER_TASK = 128; // below this a lane range is planned inline
+
+    private final ForkJoinPool pool;
+
+    // Per-turn scratch, reused between turns; indexed by position in the monster list
+    private byte[] intents = new byte[0];
+    private Hero[] targets = new Hero[0];
+    private int[] byLane = new int[0];   // monster indices grouped by lane
+    private int[] laneStart = new int[0]; // lane l owns byLane[laneStart[l] .. laneStart[l + 1])
+
+    public MonsterTurnPlanner(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Play all monsters' turns; same effect as {@link ValorMonsterAI#processMonsters}.
+     */
+    public void processMonsters(Dice dice, ValorMap map, List<Monster> monsters, List<Hero> heroes) {
+        map.getEvents().publish(EventType.MONSTER_TURN, null);
+
+        int n = monsters.size();
+        groupByLane(map, monsters);
+        plan(map, monsters, heroes);
+
+        for (int i = 0; i < n; i++) {
+            Monster m = monsters.get(i);
+            switch (intents[i]) {
+                case ATTACK -> {
+                    Hero target = targets[i];
+                    if (target.isAlive()) {
+                        ValorMonsterAI.attack(dice, m, target);
+                    } else {
+                        // Killed earlier this turn: look again with the sequential rules
+                        ValorMonsterAI.takeTurn(dice, map, m, m.getRow(), m.getCol(), heroes);
+                    }
+                }
+                case MOVE -> ValorMonsterAI.advance(m, m.getRow(), m.getCol(), map);
+                default -> {
+                    // dead, or no path to the hero nexus
+                }
+            }
+        }
+        Arrays.fill(targets, 0, n, null);
+    }
+
+    /**
+     * Counting sort of monster indices by lane, keeping list order within a lane.
+     */
+    private void groupByLane(ValorMap map, List<Monster> monsters) {
+        int n = monsters.size();
+        int lanes = map.getSpec().getLaneCount();
+        if (intents.length < n) {
+            intents = new byte[n];
+            targets = new Hero[n];
+            byLane = new int[n];
+        }
+        if (laneStart.length < lanes + 1) {
+            laneStart = new int[lanes + 1];
+        } else {
+            Arrays.fill(laneStart, 0);
+        }
+
+        for (int i = 0; i < n; i++) {
+            laneStart[laneOf(map, monsters.get(i)) + 1]++;
+        }
+        for (int l = 0; l < lanes; l++) {
+            laneStart[l + 1] += laneStart[l];
+        }
+        int[] next = Arrays.copyOf(laneStart, lanes);
+        for (int i = 0; i < n; i++) {
+            byLane[next[laneOf(map, monsters.get(i))]++] = i;
+        }
+    }
+
+    private static int laneOf(ValorMap map, Monster m) {
+        return Math.max(0, map.getLaneForColumn(m.getCol()));
+    }
+
+    private void plan(ValorMap map, List<Monster> monsters, List<Hero> heroes) {
+        map.getPathing().refreshStaleLanes(); // lanes must not rebuild lazily while tasks read them
+        LanePlan task = new LanePlan(map, monsters, heroes, 0, map.getSpec().getLaneCount());
+        if (ForkJoinTask.inForkJoinPool()) {
+            task.invoke(); // already on a pool worker (e.g. inside a BalanceFarm batch)
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    /**
+     * Plans lanes [from, to), splitting while the range holds enough monsters.
+     */
+    @SuppressWarnings("serial") // never serialized
+    private final class LanePlan extends RecursiveAction {
+        private final ValorMap map;
+        private final List<Monster> monsters;
+        private final List<Hero> heroes;
+        private final int from;
+        private final int to;
+
+        LanePlan(ValorMap map, List<Monster> monsters, List<Hero> heroes, int from, int to) {
+            this.map = map;
+            this.monsters = monsters;
+            this.heroes = heroes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && laneStart[to] - laneStart[from] > MIN_MONSTERS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new LanePlan(map, monsters, heroes, from, mid),
+                        new LanePlan(map, monsters, heroes, mid, to));
+                return;
+            }
+            for (int k = laneStart[from]; k < laneStart[to]; k++) {
+                planMonster(byLane[k]);
+            }
+        }
+
+        private void planMonster(int i) {
+            Monster m = monsters.get(i);
+            if (!m.isAlive()) {
+                intents[i] = STAY;
+                return;
+            }
+            int row = m.getRow();
+            int col = m.getCol();
+            Hero target = map.isHeroWithinReach(row, col)
+                    ? ValorMonsterAI.findHeroInAttackRange(row, col, heroes) : null;
+            if (target != null) {
+                intents[i] = ATTACK;
+                targets[i] = target;
+            } else if (map.getPathing().nextMonsterStep(row, col) != 0) {
+                intents[i] = MOVE;
+            } else {
+                intents[i] = STAY;
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package valor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import character.BoardListener;
+import character.hero.Hero;
+import character.monster.Monster;
+
+/**
+ * Where living heroes and monsters stand on a ValorMap.
+ * One bit per cell (row-major, packed into longs) marks occupied cells, a
+ * cell-to-entity array answers "who is here" and per-row counts answer
+ * "is anyone on this row", all in O(1). Heroes and monsters report every move and every
+ * faint/revival through {@link BoardListener}, so the index never needs a rescan.
+ * The same notifications keep the {@link Zobrist} key of who stands where current.
+ */
+final class OccupancyIndex implements BoardListener {
+    private final int cols;
+    private final Layer<Hero> heroes;
+    private final Layer<Monster> monsters;
+    private long hash; // XOR of the Zobrist keys of living heroes and monsters
+
+    OccupancyIndex(int rows, int cols) {
+        this.cols = cols;
+        this.heroes = new Layer<>(rows, cols);
+        this.monsters = new Layer<>(rows, cols);
+    }
+
+    private int cell(int row, int col) {
+        return row * cols + col;
+    }
+
+    // === Registration ===
+
+    void track(Hero hero) {
+        hero.setBoard(this);
+        if (!hero.isAlive()) return;
+        int cell = cell(hero.getRow(), hero.getCol());
+        heroes.add(cell, hero);
+        hash ^= Zobrist.hero(hero.getLaneIndex(), cell, hero.getHP());
+    }
+
+    void track(Monster monster) {
+        monster.setBoard(this);
+        if (!monster.isAlive()) return;
+        int cell = cell(monster.getRow(), monster.getCol());
+        monsters.add(cell, monster);
+        hash ^= Zobrist.monster(monster.getLevel(), cell, monster.getCurrentHP());
+    }
+
+    void untrack(Monster monster) {
+        if (monster.getBoard() != this) return;
+        if (monster.isAlive()) {
+            int cell = cell(monster.getRow(), monster.getCol());
+            monsters.remove(cell, monster);
+            hash ^= Zobrist.monster(monster.getLevel(), cell, monster.getCurrentHP());
+        }
+        monster.setBoard(null);
+    }
+
+    /**
+     * Zobrist key of the living heroes and monsters on their cells.
+     */
+    long hash() {
+        return hash;
+    }
+
+    // === Queries ===
+
+    Hero heroAt(int row, int col) {
+        return heroes.get(cell(row, col));
+    }
+
+    Monster monsterAt(int row, int col) {
+        return monsters.get(cell(row, col));
+    }
+
+    boolean hasHero(int row, int col) {
+        return heroes.isSet(cell(row, col));
+    }
+
+    boolean hasMonster(int row, int col) {
+        return monsters.isSet(cell(row, col));
+    }
+
+    boolean anyHeroOnRow(int row) {
+        return heroes.rowCounts[row] > 0;
+    }
+
+    boolean anyMonsterOnRow(int row) {
+        return monsters.rowCounts[row] > 0;
+    }
+
+    // === BoardListener ===
+
+    @Override
+    public void heroMoved(Hero hero, int oldRow, int oldCol) {
+        if (!hero.isAlive()) return;
+        int from = cell(oldRow, oldCol);
+        int to = cell(hero.getRow(), hero.getCol());
+        heroes.remove(from, hero);
+        heroes.add(to, hero);
+        hash ^= Zobrist.hero(hero.getLaneIndex(), from, hero.getHP())
+                ^ Zobrist.hero(hero.getLaneIndex(), to, hero.getHP());
+    }
+
+    @Override
+    public void heroLifeChanged(Hero hero) {
+        int cell = cell(hero.getRow(), hero.getCol());
+        if (hero.isAlive()) heroes.add(cell, hero);
+        else heroes.remove(cell, hero);
+    }
+
+    @Override
+    public void heroHealthChanged(Hero hero, int oldHP) {
+        int cell = cell(hero.getRow(), hero.getCol());
+        hash ^= Zobrist.hero(hero.getLaneIndex(), cell, oldHP)
+                ^ Zobrist.hero(hero.getLaneIndex(), cell, hero.getHP());
+    }
+
+    @Override
+    public void monsterMoved(Monster monster, int oldRow, int oldCol) {
+        if (!monster.isAlive()) return;
+        int from = cell(oldRow, oldCol);
+        int to = cell(monster.getRow(), monster.getCol());
+        monsters.remove(from, monster);
+        monsters.add(to, monster);
+        int level = monster.getLevel();
+        int hp = monster.getCurrentHP();
+        hash ^= Zobrist.monster(level, from, hp) ^ Zobrist.monster(level, to, hp);
+    }
+
+    @Override
+    public void monsterLifeChanged(Monster monster) {
+        int cell = cell(monster.getRow(), monster.getCol());
+        if (monster.isAlive()) monsters.add(cell, monster);
+        else monsters.remove(cell, monster);
+    }
+
+    @Override
+    public void monsterHealthChanged(Monster monster, int oldHP) {
+        int cell = cell(monster.getRow(), monster.getCol());
+        int level = monster.getLevel();
+        hash ^= Zobrist.monster(level, cell, oldHP) ^ Zobrist.monster(level, cell, monster.getCurrentHP());
+    }
+
+    /**
+     * Occupancy of one entity kind. A cell normally holds at most one entity;
+     * the rare stacked cells (e.g. a wave spawning onto a monster that never
+     * left the nexus) keep every occupant in an overflow list.
+     */
+    private static final class Layer<T> {
+        private final int cols;
+        private final long[] bits;
+        private final Object[] slots;
+        private final byte[] counts;
+        private final int[] rowCounts;
+        private final Map<Integer, List<T>> overflow = new HashMap<>();
+
+        Layer(int rows, int cols) {
+            int cells = rows * cols;
+            this.cols = cols;
+            this.bits = new long[(cells + Long.SIZE - 1) / Long.SIZE];
+            this.slots = new Object[cells];
+            this.counts = new byte[cells];
+            this.rowCounts = new int[rows];
+        }
+
+        boolean isSet(int cell) {
+            return (bits[cell >>> 6] & (1L << cell)) != 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        T get(int cell) {
+            return (T) slots[cell];
+        }
+
+        void add(int cell, T entity) {
+            switch (counts[cell]) {
+                case 0:
+                    slots[cell] = entity;
+                    bits[cell >>> 6] |= 1L << cell;
+                    break;
+                case 1: {
+                    List<T> stack = new ArrayList<>(2);
+                    stack.add(get(cell));
+                    stack.add(entity);
+                    overflow.put(cell, stack);
+                    break;
+                }
+                default:
+                    overflow.get(cell).add(entity);
+                    break;
+            }
+            counts[cell]++;
+            rowCounts[cell / cols]++;
+        }
+
+        void remove(int cell, T entity) {
+            switch (counts[cell]) {
+                case 0:
+                    return;
+                case 1:
+                    if (slots[cell] != entity) return;
+                    slots[cell] = null;
+                    bits[cell >>> 6] &= ~(1L << cell);
+                    break;
+                default: {
+                    List<T> stack = overflow.get(cell);
+                    if (!stack.remove(entity)) return;
+                    slots[cell] = stack.get(0);
+                    if (stack.size() == 1) overflow.remove(cell);
+                    break;
+                }
+            }
+            counts[cell]--;
+            rowCounts[cell / cols]--;
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package valor;
 
 import java.util.List;
-import java.util.Scanner;
 import java.util.ArrayList;
 
 import character.hero.Hero;
 import character.monster.Monster;
+import event.EventType;
 import item.Spell;
 import item.Potion;
 import item.Weapon;
 import item.Armor;
+import util.Dice;
+import util.GameIO;
 
 /**
  * Handles all hero actions in Legends of Valor.
  * Complete implementation of all PDF-specified actions.
+ *
+ * Each action has an interactive form that prompts through a GameIO, and a
+ * non-interactive form that takes the player's choice as arguments and
+ * applies the rules. The interactive forms only gather input and delegate,
+ * so headless simulations and the console game share the same rules.
  */
 public class ValorActions {
 
@@ -25,50 +32,64 @@ public class ValorActions {
      * - Cannot move through walls
      * - No diagonal movement
      */
-    public static boolean moveHero(Scanner scanner, ValorMap map, Hero hero,
+    public static boolean moveHero(GameIO io, ValorMap map, Hero hero,
                                    List<Hero> allHeroes, List<Monster> allMonsters) {
-        System.out.println("\n--- MOVE ---");
-        System.out.print("Direction (W=Up/North, A=Left/West, S=Down/South, D=Right/East, or 0 to cancel): ");
-        String input = scanner.nextLine().trim().toUpperCase();
+        io.println("\n--- MOVE ---");
+        io.print("Direction (W=Up/North, A=Left/West, S=Down/South, D=Right/East, or 0 to cancel): ");
+        String input = io.readLine().trim().toUpperCase();
 
         if (input.equals("0")) return false;
+        if (input.length() != 1) {
+            io.println("[ERROR] Invalid direction!");
+            return false;
+        }
+
+        return moveHero(io, map, hero, allHeroes, allMonsters, input.charAt(0));
+    }
 
+    /**
+     * Move hero one cell in the given direction (W/A/S/D), applying the movement rules.
+     *
+     * @return true if the hero moved
+     */
+    public static boolean moveHero(GameIO io, ValorMap map, Hero hero,
+                                   List<Hero> allHeroes, List<Monster> allMonsters, char direction) {
         int oldRow = hero.getRow();
         int oldCol = hero.getCol();
         int newRow = oldRow;
         int newCol = oldCol;
 
-        switch (input) {
-            case "W": newRow--; break; // North (towards monster nexus)
-            case "S": newRow++; break; // South (towards hero nexus)
-            case "A": newCol--; break; // West
-            case "D": newCol++; break; // East
+        switch (Character.toUpperCase(direction)) {
+            case 'W': newRow--; break; // North (towards monster nexus)
+            case 'S': newRow++; break; // South (towards hero nexus)
+            case 'A': newCol--; break; // West
+            case 'D': newCol++; break; // East
             default:
-                System.out.println("[ERROR] Invalid direction!");
+                io.println("[ERROR] Invalid direction!");
                 return false;
         }
 
         // Validate move
         if (!map.inBounds(newRow, newCol)) {
-            System.out.println("[ERROR] Cannot move out of bounds!");
+            io.println("[ERROR] Cannot move out of bounds!");
             return false;
         }
 
         ValorCell cell = map.getCell(newRow, newCol);
         if (!cell.isPassableForHero()) {
-            System.out.println("[ERROR] Cannot move to that cell (wall or obstacle)!");
+            io.println("[ERROR] Cannot move to that cell (wall or obstacle)!");
             return false;
         }
 
         // Check if another hero is there
-        if (map.getHeroAt(newRow, newCol, allHeroes) != null) {
-            System.out.println("[ERROR] Another hero is already in that space!");
+        if (map.getHeroAt(newRow, newCol) != null) {
+            io.println("[ERROR] Another hero is already in that space!");
             return false;
         }
 
         // Check if trying to move behind a monster (heroes can't move past monsters)
         if (!canMoveWithoutBypassingMonster(hero, oldRow, oldCol, newRow, newCol, allMonsters)) {
-            System.out.println("[ERROR] Cannot move behind a monster without killing it!");
+            io.println("[ERROR] Cannot move behind a monster without killing it!");
             return false;
         }
 
@@ -81,7 +102,7 @@ public class ValorActions {
         // Apply new terrain buff
         map.applyTerrainBuff(hero);
 
-        System.out.println("[SUCCESS] " + hero.getName() + " moved to (" + newRow + "," + newCol + ")");
+        hero.getEvents().publish(EventType.MOVE, hero, newRow, newCol);
         return true;
     }
 
@@ -122,75 +143,92 @@ public class ValorActions {
      * Attack a monster.
      * Range: current cell and adjacent cells (Manhattan distance <= 1).
      */
-    public static boolean attack(Scanner scanner, ValorMap map, Hero hero, List<Monster> monsters) {
+    public static boolean attack(GameIO io, Dice dice, ValorMap map, Hero hero, List<Monster> monsters) {
         if (hero.getEquippedWeapon() == null) {
-            System.out.println("[ERROR] No weapon equipped!");
+            io.println("[ERROR] No weapon equipped!");
             return false;
         }
 
         List<Monster> inRange = getMonstersInAttackRange(hero, monsters);
 
         if (inRange.isEmpty()) {
-            System.out.println("[ERROR] No monsters in attack range!");
-            System.out.println("(Attack range: current cell and adjacent cells)");
+            io.println("[ERROR] No monsters in attack range!");
+            io.println("(Attack range: current cell and adjacent cells)");
             return false;
         }
 
-        System.out.println("\n--- ATTACK ---");
-        System.out.println("Monsters in range:");
+        io.println("\n--- ATTACK ---");
+        io.println("Monsters in range:");
         for (int i = 0; i < inRange.size(); i++) {
             Monster m = inRange.get(i);
-            System.out.println((i + 1) + ") " + m.getName() +
+            io.println((i + 1) + ") " + m.getName() +
                     " at (" + m.getRow() + "," + m.getCol() +
                     ") HP: " + m.getCurrentHP() + "/" + m.getMaxHP());
         }
 
-        System.out.print("Select target (or 0 to cancel): ");
+        io.print("Select target (or 0 to cancel): ");
         try {
-            int choice = Integer.parseInt(scanner.nextLine().trim());
+            int choice = Integer.parseInt(io.readLine().trim());
             if (choice == 0) return false;
             if (choice < 1 || choice > inRange.size()) {
-                System.out.println("[ERROR] Invalid choice!");
+                io.println("[ERROR] Invalid choice!");
                 return false;
             }
 
-            Monster target = inRange.get(choice - 1);
-            hero.attack(target);
-
-            if (!target.isAlive()) {
-                System.out.println("[VICTORY] " + target.getName() + " defeated!");
-            }
-
-            return true;
+            return attack(io, dice, hero, inRange.get(choice - 1));
         } catch (NumberFormatException e) {
-            System.out.println("[ERROR] Invalid input!");
+            io.println("[ERROR] Invalid input!");
             return false;
         }
     }
 
+    /**
+     * Attack the given monster with the equipped weapon.
+     *
+     * @return true if the attack was made (hit or dodged)
+     */
+    public static boolean attack(GameIO io, Dice dice, Hero hero, Monster target) {
+        if (hero.getEquippedWeapon() == null) {
+            io.println("[ERROR] No weapon equipped!");
+            return false;
+        }
+        if (!isInAttackRange(hero, target)) {
+            io.println("[ERROR] Target is not in attack range!");
+            return false;
+        }
+
+        hero.attack(target, dice);
+
+        if (!target.isAlive()) {
+            hero.getEvents().publish(EventType.VICTORY, target);
+        }
+
+        return true;
+    }
+
     /**
      * Cast spell on a monster.
      * Same range as attack (current and adjacent cells).
      */
-    public static boolean castSpell(Scanner scanner, ValorMap map, Hero hero, List<Monster> monsters) {
+    public static boolean castSpell(GameIO io, Dice dice, ValorMap map, Hero hero, List<Monster> monsters) {
         if (hero.getInventory().getSpells().isEmpty()) {
-            System.out.println("[ERROR] No spells available!");
+            io.println("[ERROR] No spells available!");
             return false;
         }
 
         List<Monster> inRange = getMonstersInAttackRange(hero, monsters);
 
         if (inRange.isEmpty()) {
-            System.out.println("[ERROR] No monsters in range!");
-            System.out.println("(Spell range: current cell and adjacent cells)");
+            io.println("[ERROR] No monsters in range!");
+            io.println("(Spell range: current cell and adjacent cells)");
             return false;
         }
 
-        System.out.println("\n--- CAST SPELL ---");
+        io.println("\n--- CAST SPELL ---");
 
         // Show spells
         List<Spell> spells = hero.getInventory().getSpells();
-        System.out.println("Available spells (" + spells.size() + " total):");
+        io.println("Available spells (" + spells.size() + " total):");
 
         java.util.Map<String, Integer> spellCounts = new java.util.HashMap<>();
         for (Spell s : spells) {
@@ -202,19 +240,19 @@ public class ValorActions {
         for (Spell s : spells) {
             if (!displayed.contains(s.getName())) {
                 int count = spellCounts.get(s.getName());
-                System.out.println((index++) + ") " + s.getName() +
+                io.println((index++) + ") " + s.getName() +
                         " (DMG: " + s.getBaseDamage() +
                         ", Mana: " + s.getManaCost() + ") x" + count);
                 displayed.add(s.getName());
             }
         }
 
-        System.out.print("Select spell (or 0 to cancel): ");
+        io.print("Select spell (or 0 to cancel): ");
         try {
-            int spellChoice = Integer.parseInt(scanner.nextLine().trim());
+            int spellChoice = Integer.parseInt(io.readLine().trim());
             if (spellChoice == 0) return false;
             if (spellChoice < 1 || spellChoice > displayed.size()) {
-                System.out.println("[ERROR] Invalid choice!");
+                io.println("[ERROR] Invalid choice!");
                 return false;
             }
 
@@ -228,268 +266,339 @@ public class ValorActions {
             }
 
             if (hero.getMana() < spell.getManaCost()) {
-                System.out.println("[ERROR] Not enough mana! (Need: " + spell.getManaCost() +
+                io.println("[ERROR] Not enough mana! (Need: " + spell.getManaCost() +
                         ", Have: " + hero.getMana() + ")");
                 return false;
             }
 
             // Select target
-            System.out.println("\nMonsters in range:");
+            io.println("\nMonsters in range:");
             for (int i = 0; i < inRange.size(); i++) {
                 Monster m = inRange.get(i);
-                System.out.println((i + 1) + ") " + m.getName() +
+                io.println((i + 1) + ") " + m.getName() +
                         " at (" + m.getRow() + "," + m.getCol() +
                         ") HP: " + m.getCurrentHP() + "/" + m.getMaxHP());
             }
 
-            System.out.print("Select target: ");
-            int targetChoice = Integer.parseInt(scanner.nextLine().trim());
+            io.print("Select target: ");
+            int targetChoice = Integer.parseInt(io.readLine().trim());
             if (targetChoice < 1 || targetChoice > inRange.size()) {
-                System.out.println("[ERROR] Invalid choice!");
+                io.println("[ERROR] Invalid choice!");
                 return false;
             }
 
-            Monster target = inRange.get(targetChoice - 1);
-            hero.castSpell(spell, target);
-
-            if (!target.isAlive()) {
-                System.out.println("[VICTORY] " + target.getName() + " defeated!");
-            }
-
-            return true;
+            return castSpell(io, dice, hero, spell, inRange.get(targetChoice - 1));
         } catch (NumberFormatException e) {
-            System.out.println("[ERROR] Invalid input!");
+            io.println("[ERROR] Invalid input!");
+            return false;
+        }
+    }
+
+    /**
+     * Cast a spell from the hero's inventory on the given monster.
+     *
+     * @return true if the spell was cast (hit or dodged)
+     */
+    public static boolean castSpell(GameIO io, Dice dice, Hero hero, Spell spell, Monster target) {
+        if (!hero.getInventory().getSpells().contains(spell)) {
+            io.println("[ERROR] Spell not in inventory!");
+            return false;
+        }
+        if (hero.getMana() < spell.getManaCost()) {
+            io.println("[ERROR] Not enough mana! (Need: " + spell.getManaCost() +
+                    ", Have: " + hero.getMana() + ")");
+            return false;
+        }
+        if (!isInAttackRange(hero, target)) {
+            io.println("[ERROR] Target is not in range!");
             return false;
         }
+
+        hero.castSpell(spell, target, dice);
+
+        if (!target.isAlive()) {
+            hero.getEvents().publish(EventType.VICTORY, target);
+        }
+
+        return true;
     }
 
     /**
      * Use a potion.
      */
-    public static boolean usePotion(Scanner scanner, Hero hero) {
+    public static boolean usePotion(GameIO io, Hero hero) {
         List<Potion> potions = hero.getInventory().getPotions();
 
         if (potions.isEmpty()) {
-            System.out.println("[ERROR] No potions available!");
+            io.println("[ERROR] No potions available!");
             return false;
         }
 
-        System.out.println("\n--- USE POTION ---");
+        io.println("\n--- USE POTION ---");
         for (int i = 0; i < potions.size(); i++) {
             Potion p = potions.get(i);
-            System.out.println((i + 1) + ") " + p.getName() +
+            io.println((i + 1) + ") " + p.getName() +
                     " (+" + p.getEffectAmount() + " to " + p.getAffectedAttributes() + ")");
         }
 
-        System.out.print("Select potion (or 0 to cancel): ");
+        io.print("Select potion (or 0 to cancel): ");
         try {
-            int choice = Integer.parseInt(scanner.nextLine().trim());
+            int choice = Integer.parseInt(io.readLine().trim());
             if (choice == 0) return false;
             if (choice < 1 || choice > potions.size()) {
-                System.out.println("[ERROR] Invalid choice!");
+                io.println("[ERROR] Invalid choice!");
                 return false;
             }
 
-            Potion potion = potions.get(choice - 1);
-            hero.usePotion(potion);
-
-            return true;
+            return usePotion(io, hero, potions.get(choice - 1));
         } catch (NumberFormatException e) {
-            System.out.println("[ERROR] Invalid input!");
+            io.println("[ERROR] Invalid input!");
             return false;
         }
     }
 
+    /**
+     * Drink a potion from the hero's inventory.
+     */
+    public static boolean usePotion(GameIO io, Hero hero, Potion potion) {
+        if (!hero.getInventory().getPotions().contains(potion)) {
+            io.println("[ERROR] Potion not in inventory!");
+            return false;
+        }
+
+        hero.usePotion(potion);
+        return true;
+    }
+
     /**
      * Change weapon equipment.
      */
-    public static boolean changeWeapon(Scanner scanner, Hero hero) {
+    public static boolean changeWeapon(GameIO io, Hero hero) {
         List<Weapon> weapons = hero.getInventory().getWeapons();
 
         if (weapons.isEmpty()) {
-            System.out.println("[ERROR] No weapons in inventory!");
+            io.println("[ERROR] No weapons in inventory!");
             return false;
         }
 
-        System.out.println("\n--- CHANGE WEAPON ---");
-        System.out.println("Currently equipped: " +
+        io.println("\n--- CHANGE WEAPON ---");
+        io.println("Currently equipped: " +
                 (hero.getEquippedWeapon() != null ? hero.getEquippedWeapon().getName() : "None"));
-        System.out.println();
+        io.println();
 
         for (int i = 0; i < weapons.size(); i++) {
             Weapon w = weapons.get(i);
             String equipped = (w == hero.getEquippedWeapon()) ? " [EQUIPPED]" : "";
-            System.out.println((i + 1) + ") " + w.getName() +
+            io.println((i + 1) + ") " + w.getName() +
                     " (DMG: " + w.getDamage() + ", Hands: " + w.getHandsRequired() + ")" + equipped);
         }
 
-        System.out.print("Select weapon to equip (or 0 to cancel): ");
+        io.print("Select weapon to equip (or 0 to cancel): ");
         try {
-            int choice = Integer.parseInt(scanner.nextLine().trim());
+            int choice = Integer.parseInt(io.readLine().trim());
             if (choice == 0) return false;
             if (choice < 1 || choice > weapons.size()) {
-                System.out.println("[ERROR] Invalid choice!");
+                io.println("[ERROR] Invalid choice!");
                 return false;
             }
 
-            Weapon weapon = weapons.get(choice - 1);
-            hero.equipWeapon(weapon);
-            System.out.println("[SUCCESS] Weapon equipped!");
-
-            return true;
+            return changeWeapon(io, hero, weapons.get(choice - 1));
         } catch (NumberFormatException e) {
-            System.out.println("[ERROR] Invalid input!");
+            io.println("[ERROR] Invalid input!");
             return false;
         }
     }
 
+    /**
+     * Equip a weapon from the hero's inventory.
+     */
+    public static boolean changeWeapon(GameIO io, Hero hero, Weapon weapon) {
+        if (!hero.getInventory().getWeapons().contains(weapon)) {
+            io.println("[ERROR] Weapon not in inventory!");
+            return false;
+        }
+
+        hero.equipWeapon(weapon);
+        io.println("[SUCCESS] Weapon equipped!");
+        return true;
+    }
+
     /**
      * Change armor equipment.
      */
-    public static boolean changeArmor(Scanner scanner, Hero hero) {
+    public static boolean changeArmor(GameIO io, Hero hero) {
         List<Armor> armors = hero.getInventory().getArmors();
 
         if (armors.isEmpty()) {
-            System.out.println("[ERROR] No armor in inventory!");
+            io.println("[ERROR] No armor in inventory!");
             return false;
         }
 
-        System.out.println("\n--- CHANGE ARMOR ---");
-        System.out.println("Currently equipped: " +
+        io.println("\n--- CHANGE ARMOR ---");
+        io.println("Currently equipped: " +
                 (hero.getEquippedArmor() != null ? hero.getEquippedArmor().getName() : "None"));
-        System.out.println();
+        io.println();
 
         for (int i = 0; i < armors.size(); i++) {
             Armor a = armors.get(i);
             String equipped = (a == hero.getEquippedArmor()) ? " [EQUIPPED]" : "";
-            System.out.println((i + 1) + ") " + a.getName() +
+            io.println((i + 1) + ") " + a.getName() +
                     " (DEF: " + a.getDamageReduction() + ")" + equipped);
         }
 
-        System.out.print("Select armor to equip (or 0 to cancel): ");
+        io.print("Select armor to equip (or 0 to cancel): ");
         try {
-            int choice = Integer.parseInt(scanner.nextLine().trim());
+            int choice = Integer.parseInt(io.readLine().trim());
             if (choice == 0) return false;
             if (choice < 1 || choice > armors.size()) {
-                System.out.println("[ERROR] Invalid choice!");
+                io.println("[ERROR] Invalid choice!");
                 return false;
             }
 
-            Armor armor = armors.get(choice - 1);
-            hero.equipArmor(armor);
-            System.out.println("[SUCCESS] Armor equipped!");
-
-            return true;
+            return changeArmor(io, hero, armors.get(choice - 1));
         } catch (NumberFormatException e) {
-            System.out.println("[ERROR] Invalid input!");
+            io.println("[ERROR] Invalid input!");
             return false;
         }
     }
 
+    /**
+     * Equip armor from the hero's inventory.
+     */
+    public static boolean changeArmor(GameIO io, Hero hero, Armor armor) {
+        if (!hero.getInventory().getArmors().contains(armor)) {
+            io.println("[ERROR] Armor not in inventory!");
+            return false;
+        }
+
+        hero.equipArmor(armor);
+        io.println("[SUCCESS] Armor equipped!");
+        return true;
+    }
+
     /**
      * Teleport to another lane (adjacent to another hero).
      * Can only teleport between different lanes.
      */
-    public static boolean teleport(Scanner scanner, ValorMap map, Hero hero, List<Hero> allHeroes,
+    public static boolean teleport(GameIO io, ValorMap map, Hero hero, List<Hero> allHeroes,
                                    List<Monster> allMonsters) {
-        System.out.println("\n--- TELEPORT ---");
+        io.println("\n--- TELEPORT ---");
 
         // Find heroes in other lanes
-        List<Hero> otherLaneHeroes = new ArrayList<>();
-        for (Hero h : allHeroes) {
-            if (h != hero && h.isAlive() && h.getLaneIndex() != hero.getLaneIndex()) {
-                otherLaneHeroes.add(h);
-            }
-        }
+        List<Hero> otherLaneHeroes = getTeleportTargets(hero, allHeroes);
 
         if (otherLaneHeroes.isEmpty()) {
-            System.out.println("[ERROR] No heroes in other lanes to teleport to!");
+            io.println("[ERROR] No heroes in other lanes to teleport to!");
             return false;
         }
 
-        System.out.println("Available heroes to teleport to:");
+        io.println("Available heroes to teleport to:");
         for (int i = 0; i < otherLaneHeroes.size(); i++) {
             Hero h = otherLaneHeroes.get(i);
-            System.out.println((i + 1) + ") " + h.getName() +
+            io.println((i + 1) + ") " + h.getName() +
                     " (Lane " + (h.getLaneIndex() + 1) + ") at (" + h.getRow() + "," + h.getCol() + ")");
         }
 
-        System.out.print("Select hero (or 0 to cancel): ");
+        io.print("Select hero (or 0 to cancel): ");
         try {
-            int choice = Integer.parseInt(scanner.nextLine().trim());
+            int choice = Integer.parseInt(io.readLine().trim());
             if (choice == 0) return false;
             if (choice < 1 || choice > otherLaneHeroes.size()) {
-                System.out.println("[ERROR] Invalid choice!");
+                io.println("[ERROR] Invalid choice!");
                 return false;
             }
 
-            Hero targetHero = otherLaneHeroes.get(choice - 1);
-
-            // Find valid adjacent positions (4 directions)
-            int[][] directions = {{-1,0}, {1,0}, {0,-1}, {0,1}};
-            List<int[]> validPositions = new ArrayList<>();
-
-            for (int[] dir : directions) {
-                int newRow = targetHero.getRow() + dir[0];
-                int newCol = targetHero.getCol() + dir[1];
-
-                if (map.inBounds(newRow, newCol)) {
-                    ValorCell cell = map.getCell(newRow, newCol);
-
-                    // Check if passable and not occupied by another hero
-                    if (cell.isPassableForHero() && map.getHeroAt(newRow, newCol, allHeroes) == null) {
-                        // Check not ahead of target hero (can't teleport ahead)
-                        if (newRow >= targetHero.getRow()) {
-                            // Check not behind a monster in the new lane
-                            boolean behindMonster = false;
-                            for (Monster m : allMonsters) {
-                                if (m.isAlive() && m.getRow() < newRow &&
-                                        Math.abs(m.getCol() - newCol) <= 1) {
-                                    behindMonster = true;
-                                    break;
-                                }
-                            }
-                            if (!behindMonster) {
-                                validPositions.add(new int[]{newRow, newCol});
+            return teleport(io, map, hero, otherLaneHeroes.get(choice - 1), allHeroes, allMonsters);
+        } catch (NumberFormatException e) {
+            io.println("[ERROR] Invalid input!");
+            return false;
+        }
+    }
+
+    /**
+     * Heroes in other lanes that the given hero may teleport next to.
+     */
+    public static List<Hero> getTeleportTargets(Hero hero, List<Hero> allHeroes) {
+        List<Hero> otherLaneHeroes = new ArrayList<>();
+        for (Hero h : allHeroes) {
+            if (h != hero && h.isAlive() && h.getLaneIndex() != hero.getLaneIndex()) {
+                otherLaneHeroes.add(h);
+            }
+        }
+        return otherLaneHeroes;
+    }
+
+    /**
+     * Teleport the hero next to the target hero, if a valid cell exists.
+     */
+    public static boolean teleport(GameIO io, ValorMap map, Hero hero, Hero targetHero,
+                                   List<Hero> allHeroes, List<Monster> allMonsters) {
+        if (targetHero == hero || !targetHero.isAlive() ||
+                targetHero.getLaneIndex() == hero.getLaneIndex()) {
+            io.println("[ERROR] Invalid teleport target!");
+            return false;
+        }
+
+        // Find valid adjacent positions (4 directions)
+        int[][] directions = {{-1,0}, {1,0}, {0,-1}, {0,1}};
+        List<int[]> validPositions = new ArrayList<>();
+
+        for (int[] dir : directions) {
+            int newRow = targetHero.getRow() + dir[0];
+            int newCol = targetHero.getCol() + dir[1];
+
+            if (map.inBounds(newRow, newCol)) {
+                ValorCell cell = map.getCell(newRow, newCol);
+
+                // Check if passable and not occupied by another hero
+                if (cell.isPassableForHero() && map.getHeroAt(newRow, newCol) == null) {
+                    // Check not ahead of target hero (can't teleport ahead)
+                    if (newRow >= targetHero.getRow()) {
+                        // Check not behind a monster in the new lane
+                        boolean behindMonster = false;
+                        for (Monster m : allMonsters) {
+                            if (m.isAlive() && m.getRow() < newRow &&
+                                    Math.abs(m.getCol() - newCol) <= 1) {
+                                behindMonster = true;
+                                break;
                             }
                         }
+                        if (!behindMonster) {
+                            validPositions.add(new int[]{newRow, newCol});
+                        }
                     }
                 }
             }
+        }
 
-            if (validPositions.isEmpty()) {
-                System.out.println("[ERROR] No valid positions to teleport to!");
-                return false;
-            }
-
-            // Teleport to first valid position
-            int[] pos = validPositions.get(0);
-            int oldRow = hero.getRow();
-            int oldCol = hero.getCol();
+        if (validPositions.isEmpty()) {
+            io.println("[ERROR] No valid positions to teleport to!");
+            return false;
+        }
 
-            map.removeTerrainBuff(hero, oldRow, oldCol);
-            hero.setPosition(pos[0], pos[1]);
-            // DO NOT change laneIndex - hero keeps their original lane identity
-            map.applyTerrainBuff(hero);
+        // Teleport to first valid position
+        int[] pos = validPositions.get(0);
+        int oldRow = hero.getRow();
+        int oldCol = hero.getCol();
 
-            int currentLane = map.getLaneForColumn(pos[1]);
-            System.out.println("[SUCCESS] " + hero.getName() + " (Lane " + (hero.getLaneIndex() + 1) +
-                    ") teleported to Lane " + (currentLane + 1) + " at (" + pos[0] + "," + pos[1] + ")");
-            return true;
+        map.removeTerrainBuff(hero, oldRow, oldCol);
+        hero.setPosition(pos[0], pos[1]);
+        // DO NOT change laneIndex - hero keeps their original lane identity
+        map.applyTerrainBuff(hero);
 
-        } catch (NumberFormatException e) {
-            System.out.println("[ERROR] Invalid input!");
-            return false;
-        }
+        int currentLane = map.getLaneForColumn(pos[1]);
+        io.println("[SUCCESS] " + hero.getName() + " (Lane " + (hero.getLaneIndex() + 1) +
+                ") teleported to Lane " + (currentLane + 1) + " at (" + pos[0] + "," + pos[1] + ")");
+        return true;
     }
 
     /**
      * Recall hero to their original nexus.
      * Always returns to the nexus space they spawned at.
      */
-    public static boolean recall(ValorMap map, Hero hero) {
-        System.out.println("\n--- RECALL ---");
-        System.out.print("Confirm recall to Nexus? (Y/N): ");
+    public static boolean recall(GameIO io, ValorMap map, Hero hero) {
+        io.println("\n--- RECALL ---");
+        io.print("Confirm recall to Nexus? (Y/N): ");
 
         int oldRow = hero.getRow();
         int oldCol = hero.getCol();
@@ -498,7 +607,7 @@ public class ValorActions {
         map.respawnHeroAtNexus(hero);
         map.applyTerrainBuff(hero);
 
-        System.out.println("[SUCCESS] " + hero.getName() + " recalled to Nexus at Lane " +
+        io.println("[SUCCESS] " + hero.getName() + " recalled to Nexus at Lane " +
                 (hero.getLaneIndex() + 1) + "!");
         return true;
     }
@@ -506,15 +615,24 @@ public class ValorActions {
     /**
      * Pass turn (do nothing).
      */
-    public static boolean passTurn(Hero hero) {
-        System.out.println("[PASS] " + hero.getName() + " passes their turn.");
+    public static boolean passTurn(GameIO io, Hero hero) {
+        io.println("[PASS] " + hero.getName() + " passes their turn.");
         return true;
     }
 
+    /**
+     * Whether a living monster is within the hero's attack range.
+     */
+    public static boolean isInAttackRange(Hero hero, Monster m) {
+        if (m == null || !m.isAlive()) return false;
+        int distance = Math.abs(hero.getRow() - m.getRow()) + Math.abs(hero.getCol() - m.getCol());
+        return distance <= 1;
+    }
+
     /**
      * Get monsters within attack range (adjacent cells, Manhattan distance <= 1).
      */
-    private static List<Monster> getMonstersInAttackRange(Hero hero, List<Monster> monsters) {
+    public static List<Monster> getMonstersInAttackRange(Hero hero, List<Monster> monsters) {
         List<Monster> inRange = new ArrayList<>();
         int heroRow = hero.getRow();
         int heroCol = hero.getCol();
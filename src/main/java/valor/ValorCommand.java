@@ -0,0 +1,100 @@
+package valor;
+
+import item.Armor;
+import item.Potion;
+import item.Spell;
+import item.Weapon;
+
+/**
+ * A single hero action for the headless Valor engine.
+ * Monsters and allies are referenced by their index in the engine's lists,
+ * items by the instance held in the hero's inventory.
+ */
+public final class ValorCommand {
+
+    public enum Type {
+        MOVE, ATTACK, CAST_SPELL, USE_POTION, EQUIP_WEAPON, EQUIP_ARMOR, TELEPORT, RECALL, PASS
+    }
+
+    private static final ValorCommand RECALL = new ValorCommand(Type.RECALL, ' ', -1, null);
+    private static final ValorCommand PASS = new ValorCommand(Type.PASS, ' ', -1, null);
+
+    private final Type type;
+    private final char direction;
+    private final int targetIndex;
+    private final Object item;
+
+    private ValorCommand(Type type, char direction, int targetIndex, Object item) {
+        this.type = type;
+        this.direction = direction;
+        this.targetIndex = targetIndex;
+        this.item = item;
+    }
+
+    /**
+     * Move one cell: W (north), A (west), S (south) or D (east).
+     */
+    public static ValorCommand move(char direction) {
+        return new ValorCommand(Type.MOVE, Character.toUpperCase(direction), -1, null);
+    }
+
+    public static ValorCommand attack(int monsterIndex) {
+        return new ValorCommand(Type.ATTACK, ' ', monsterIndex, null);
+    }
+
+    public static ValorCommand castSpell(Spell spell, int monsterIndex) {
+        return new ValorCommand(Type.CAST_SPELL, ' ', monsterIndex, spell);
+    }
+
+    public static ValorCommand usePotion(Potion potion) {
+        return new ValorCommand(Type.USE_POTION, ' ', -1, potion);
+    }
+
+    public static ValorCommand equipWeapon(Weapon weapon) {
+        return new ValorCommand(Type.EQUIP_WEAPON, ' ', -1, weapon);
+    }
+
+    public static ValorCommand equipArmor(Armor armor) {
+        return new ValorCommand(Type.EQUIP_ARMOR, ' ', -1, armor);
+    }
+
+    public static ValorCommand teleport(int heroIndex) {
+        return new ValorCommand(Type.TELEPORT, ' ', heroIndex, null);
+    }
+
+    public static ValorCommand recall() {
+        return RECALL;
+    }
+
+    public static ValorCommand pass() {
+        return PASS;
+    }
+
+    public Type getType() { return type; }
+    public char getDirection() { return direction; }
+
+    /**
+     * Index of the target monster (ATTACK, CAST_SPELL) or ally hero (TELEPORT).
+     */
+    public int getTargetIndex() { return targetIndex; }
+
+    public Spell getSpell() { return (Spell) item; }
+    public Potion getPotion() { return (Potion) item; }
+    public Weapon getWeapon() { return (Weapon) item; }
+    public Armor getArmor() { return (Armor) item; }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case MOVE: return "MOVE " + direction;
+            case ATTACK: return "ATTACK #" + targetIndex;
+            case CAST_SPELL: return "CAST " + getSpell().getName() + " #" + targetIndex;
+            case TELEPORT: return "TELEPORT #" + targetIndex;
+            case USE_POTION:
+            case EQUIP_WEAPON:
+            case EQUIP_ARMOR:
+                return type + " " + ((item.Item) item).getName();
+            default: return type.toString();
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package valor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import character.hero.Hero;
+import character.hero.HeroState;
+import character.monster.Monster;
+import character.monster.MonsterCatalog;
+import character.monster.MonsterState;
+import character.monster.MonsterStore;
+import event.ConsoleEventRenderer;
+import event.EventBus;
+import event.EventType;
+import util.Dice;
+import util.GameIO;
+
+/**
+ * Rules engine for one Legends of Valor match, free of any console handling.
+ * Holds the match state (map, heroes, monsters, round) and advances it:
+ * hero actions come in as {@link ValorCommand}s, prompts and errors go out through a GameIO
+ * and everything that happens in play is published to an {@link EventBus}.
+ * The console game and headless simulations both drive a match through this class.
+ */
+public class ValorEngine {
+
+    /**
+     * State of the match after a round.
+     */
+    public enum Outcome {
+        IN_PROGRESS, HEROES_WIN, MONSTERS_WIN, QUIT
+    }
+
+    private static final int MONSTER_SPAWN_INTERVAL = 8; // Spawn new monsters every 8 rounds
+
+    private final GameIO io;
+    private final Dice dice;
+    private final EventBus events;
+    private final ValorMap map;
+    private final List<Hero> heroes;
+    private final List<Monster> monsters;
+    private int currentRound;
+    private Outcome outcome;
+    private MonsterTurnPlanner monsterPlanner; // null: plain sequential monsters' turn
+
+    /**
+     * Create a match: place the heroes in their nexus and spawn the first wave.
+     * Every random roll in the match (spawns, dodges, monster targets) comes from dice.
+     * Events are rendered to io, or dropped unbuilt when io is silent.
+     */
+    public ValorEngine(GameIO io, Dice dice, ValorMap map, List<Hero> heroes) {
+        this(io, dice, map, heroes, consoleEvents(io));
+    }
+
+    /**
+     * Create a match whose heroes and monsters publish to the given bus.
+     */
+    public ValorEngine(GameIO io, Dice dice, ValorMap map, List<Hero> heroes, EventBus events) {
+        this(io, dice, map, heroes, events, new ArrayList<>());
+    }
+
+    /**
+     * Create a match that keeps its monsters in the given (empty) list.
+     * Pass a {@link MonsterStore} for very large waves; it removes defeated
+     * monsters in O(1) each but does not keep spawn order.
+     */
+    public ValorEngine(GameIO io, Dice dice, ValorMap map, List<Hero> heroes, EventBus events,
+                       List<Monster> monsters) {
+        this(io, dice, map, heroes, events, requireEmpty(monsters), 0, Outcome.IN_PROGRESS);
+
+        for (Hero h : heroes) {
+            h.setEvents(events);
+        }
+        map.placeInitialHeroes(heroes);
+        spawnNewMonsters();
+    }
+
+    /**
+     * A match already in play, with heroes and monsters on the map (see {@link #fork()}).
+     */
+    private ValorEngine(GameIO io, Dice dice, ValorMap map, List<Hero> heroes, EventBus events,
+                        List<Monster> monsters, int currentRound, Outcome outcome) {
+        this.io = io;
+        this.dice = dice;
+        this.events = events;
+        this.map = map;
+        map.setEvents(events);
+        this.heroes = heroes;
+        this.monsters = monsters;
+        this.currentRound = currentRound;
+        this.outcome = outcome;
+    }
+
+    private static List<Monster> requireEmpty(List<Monster> monsters) {
+        if (!monsters.isEmpty()) {
+            throw new IllegalArgumentException("Monster list must start empty");
+        }
+        return monsters;
+    }
+
+    /**
+     * Play a whole round: every living hero acts through the controller,
+     * then monsters move and the round is closed.
+     */
+    public Outcome playRound(HeroController controller) {
+        beginRound();
+        heroPhase(controller);
+        return finishRound();
+    }
+
+    /**
+     * Play rounds until the match is decided or maxRounds have been played.
+     */
+    public Outcome run(HeroController controller, int maxRounds) {
+        while (outcome == Outcome.IN_PROGRESS && currentRound < maxRounds) {
+            playRound(controller);
+        }
+        return outcome;
+    }
+
+    /**
+     * Start a new round.
+     */
+    public void beginRound() {
+        currentRound++;
+    }
+
+    /**
+     * Let each living hero take its turn, in lane order.
+     */
+    public void heroPhase(HeroController controller) {
+        for (Hero hero : heroes) {
+            if (outcome != Outcome.IN_PROGRESS) return;
+
+            if (!hero.isAlive()) {
+                events.publish(EventType.TURN_SKIPPED, hero);
+                continue;
+            }
+            controller.takeTurn(this, hero);
+        }
+    }
+
+    /**
+     * Resolve the rest of the round after the heroes have acted:
+     * win check, monsters' turn, lose check, regen/rewards and spawning.
+     */
+    public Outcome finishRound() {
+        if (outcome != Outcome.IN_PROGRESS) return outcome;
+
+        // Check win condition
+        if (map.anyHeroReachedMonsterNexus(heroes)) {
+            outcome = Outcome.HEROES_WIN;
+            return outcome;
+        }
+
+        // Monsters' turn
+        if (monsterPlanner != null) {
+            monsterPlanner.processMonsters(dice, map, monsters, heroes);
+        } else {
+            ValorMonsterAI.processMonsters(dice, map, monsters, heroes);
+        }
+
+        // Check lose condition
+        if (map.anyMonsterReachedHeroNexus(monsters)) {
+            outcome = Outcome.MONSTERS_WIN;
+            return outcome;
+        }
+
+        endOfRound();
+
+        // Spawn new monsters every 8 rounds
+        if (currentRound % MONSTER_SPAWN_INTERVAL == 0) {
+            events.publish(EventType.WAVE, null, currentRound);
+            spawnNewMonsters();
+        }
+
+        return outcome;
+    }
+
+    /**
+     * Apply one action for a hero.
+     *
+     * @return true if the action was valid and consumed the hero's turn
+     */
+    public boolean apply(Hero hero, ValorCommand command) {
+        switch (command.getType()) {
+            case MOVE:
+                return ValorActions.moveHero(io, map, hero, heroes, monsters, command.getDirection());
+            case ATTACK: {
+                Monster target = monsterAt(command.getTargetIndex());
+                return target != null && ValorActions.attack(io, dice, hero, target);
+            }
+            case CAST_SPELL: {
+                Monster target = monsterAt(command.getTargetIndex());
+                return target != null && ValorActions.castSpell(io, dice, hero, command.getSpell(), target);
+            }
+            case USE_POTION:
+                return ValorActions.usePotion(io, hero, command.getPotion());
+            case EQUIP_WEAPON:
+                return ValorActions.changeWeapon(io, hero, command.getWeapon());
+            case EQUIP_ARMOR:
+                return ValorActions.changeArmor(io, hero, command.getArmor());
+            case TELEPORT: {
+                int index = command.getTargetIndex();
+                if (index < 0 || index >= heroes.size()) return false;
+                return ValorActions.teleport(io, map, hero, heroes.get(index), heroes, monsters);
+            }
+            case RECALL:
+                return ValorActions.recall(io, map, hero);
+            case PASS:
+                return ValorActions.passTurn(io, hero);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Plan the monsters' turn lane by lane on the given pool before applying it
+     * in order (see {@link MonsterTurnPlanner}); null goes back to sequential.
+     * Results are the same either way; this pays off on wide maps with many monsters.
+     */
+    public void setParallelMonsterTurns(ForkJoinPool pool) {
+        this.monsterPlanner = pool == null ? null : new MonsterTurnPlanner(pool);
+    }
+
+    /**
+     * Capture the whole match so it can be put back later, e.g. to try out
+     * moves during a search. Nothing is published.
+     */
+    public ValorSnapshot snapshot() {
+        HeroState[] heroStates = new HeroState[heroes.size()];
+        for (int i = 0; i < heroStates.length; i++) {
+            heroStates[i] = heroes.get(i).snapshot();
+        }
+        MonsterState[] monsterStates = new MonsterState[monsters.size()];
+        for (int i = 0; i < monsterStates.length; i++) {
+            monsterStates[i] = monsters.get(i).snapshot();
+        }
+        return new ValorSnapshot(currentRound, outcome, dice.getState(),
+                map.snapshotTerrain(), heroStates, monsterStates);
+    }
+
+    /**
+     * Zobrist key of the match position: terrain, living heroes and monsters
+     * with their cells and HP buckets, and the round. Kept up to date as
+     * things change, so reading it is O(1).
+     */
+    public long positionKey() {
+        return map.getPositionHash() ^ Zobrist.round(currentRound);
+    }
+
+    /**
+     * An independent, silent copy of this match: its own map, heroes, monsters
+     * and dice, in the same state, publishing nothing. Playing the copy leaves
+     * this match untouched, so a search can run one copy per thread.
+     */
+    public ValorEngine fork() {
+        ValorMap forkMap = new ValorMap(map);
+        List<Hero> forkHeroes = new ArrayList<>(heroes.size());
+        for (Hero h : heroes) {
+            Hero copy = h.duplicate();
+            copy.setEvents(EventBus.NONE);
+            forkHeroes.add(copy);
+            forkMap.trackHero(copy);
+        }
+        List<Monster> forkMonsters = monsters instanceof MonsterStore
+                ? new MonsterStore(monsters.size()) : new ArrayList<>(monsters.size());
+        for (Monster m : monsters) {
+            Monster copy = m.duplicate();
+            copy.setEvents(EventBus.NONE);
+            forkMonsters.add(copy);
+            forkMap.trackMonster(copy);
+        }
+        return new ValorEngine(GameIO.SILENT, new Dice(dice.getState()), forkMap, forkHeroes, EventBus.NONE,
+                forkMonsters, currentRound, outcome);
+    }
+
+    /**
+     * Return this match to a snapshot it took earlier. The same hero and monster
+     * objects are reused: monsters spawned since are dropped, and monsters
+     * removed since come back in their old order. Nothing is published.
+     */
+    public void restore(ValorSnapshot snapshot) {
+        if (snapshot.heroes.length != heroes.size()) {
+            throw new IllegalArgumentException("Snapshot is from a match with "
+                    + snapshot.heroes.length + " heroes, not " + heroes.size());
+        }
+        map.restoreTerrain(snapshot.terrain);
+
+        for (Monster m : monsters) {
+            map.releaseMonster(m);
+        }
+        monsters.clear();
+        for (MonsterState state : snapshot.monsters) {
+            Monster m = state.getMonster();
+            m.restore(state);
+            monsters.add(m);
+            map.trackMonster(m);
+        }
+
+        for (int i = 0; i < snapshot.heroes.length; i++) {
+            heroes.get(i).restore(snapshot.heroes[i]);
+        }
+
+        currentRound = snapshot.round;
+        outcome = snapshot.outcome;
+        dice.setState(snapshot.diceState);
+    }
+
+    /**
+     * End the match early (player quit).
+     */
+    public void quit() {
+        outcome = Outcome.QUIT;
+    }
+
+    private Monster monsterAt(int index) {
+        if (index < 0 || index >= monsters.size()) return null;
+        return monsters.get(index);
+    }
+
+    /**
+     * End of round processing: regen or respawn heroes, reward kills, clear the dead.
+     */
+    private void endOfRound() {
+        events.publish(EventType.ROUND_END, null, currentRound);
+
+        // Regenerate heroes (10% HP and Mana)
+        for (Hero hero : heroes) {
+            if (hero.isAlive()) {
+                int oldHP = hero.getHP();
+                int oldMana = hero.getMana();
+                hero.regen();
+                int hpGain = hero.getHP() - oldHP;
+                int manaGain = hero.getMana() - oldMana;
+                if (hpGain > 0 || manaGain > 0) {
+                    events.publish(EventType.REGEN, hero, hpGain, manaGain);
+                }
+            } else {
+                // Respawn fallen heroes at full HP and full MP, trading the buff of the
+                // cell they fell on for the nexus's
+                map.removeTerrainBuff(hero, hero.getRow(), hero.getCol());
+                map.respawnHeroAtNexus(hero);
+                map.applyTerrainBuff(hero);
+                hero.setHP(hero.getMaxHP());
+                hero.setMana(hero.getMaxMana());
+                events.publish(EventType.RESPAWN, hero, hero.getLaneIndex() + 1);
+            }
+        }
+
+        // Award gold and exp for defeated monsters
+        List<Monster> defeated = new ArrayList<>();
+        for (Monster m : monsters) {
+            if (!m.isAlive()) {
+                defeated.add(m);
+            }
+        }
+
+        if (!defeated.isEmpty()) {
+            events.publish(EventType.REWARDS, null, defeated.size());
+            for (Monster m : defeated) {
+                int gold = 500 * m.getLevel();
+                int exp = 2 * m.getLevel();
+
+                events.publish(EventType.REWARD, m, gold, exp);
+
+                for (Hero h : heroes) {
+                    h.gainGold(gold);
+                    h.gainExperience(exp);
+                }
+            }
+
+            // Remove defeated monsters
+            for (Monster m : defeated) {
+                map.releaseMonster(m);
+            }
+            monsters.removeIf(m -> !m.isAlive());
+        }
+
+        events.publish(EventType.ROUND_COMPLETE, null, currentRound);
+    }
+
+    /**
+     * Spawn new monsters, one per lane.
+     * Monster level equals highest hero level.
+     * Runs every MONSTER_SPAWN_INTERVAL rounds; benchmarks and tools may force extra waves.
+     */
+    public void spawnNewMonsters() {
+        // Find highest hero level
+        int highestLevel = 1;
+        for (Hero h : heroes) {
+            if (h.getLevel() > highestLevel) {
+                highestLevel = h.getLevel();
+            }
+        }
+
+        // Templates within 2 levels of the strongest hero
+        MonsterCatalog catalog = MonsterCatalog.getDefault();
+        List<Monster> suitableMonsters = catalog.getBetween(highestLevel - 2, highestLevel + 2);
+        if (suitableMonsters.isEmpty()) {
+            suitableMonsters = catalog.getAll(); // Fall back to all
+        }
+
+        // Create one monster per lane
+        int lanes = map.getSpec().getLaneCount();
+        List<Monster> newMonsters = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            Monster newMonster = MonsterCatalog.spawn(suitableMonsters, dice);
+            newMonster.setEvents(events);
+
+            newMonsters.add(newMonster);
+            events.publish(EventType.SPAWN, newMonster, i + 1);
+        }
+
+        map.spawnMonsters(newMonsters);
+        monsters.addAll(newMonsters);
+    }
+
+    /**
+     * A bus that renders to io, or {@link EventBus#NONE} when io is silent, so a
+     * headless match does not allocate a ring that nothing reads.
+     */
+    static EventBus consoleEvents(GameIO io) {
+        if (io.isSilent()) {
+            return EventBus.NONE;
+        }
+        EventBus bus = new EventBus();
+        bus.subscribe(new ConsoleEventRenderer(io));
+        return bus;
+    }
+
+    // Getters
+    public GameIO getIO() { return io; }
+    public EventBus getEvents() { return events; }
+    public Dice getDice() { return dice; }
+    public ValorMap getMap() { return map; }
+    public List<Hero> getHeroes() { return heroes; }
+    public List<Monster> getMonsters() { return monsters; }
+    public int getCurrentRound() { return currentRound; }
+    public Outcome getOutcome() { return outcome; }
+    public boolean isOver() { return outcome != Outcome.IN_PROGRESS; }
+}
@@ -1,51 +1,102 @@
 package valor;
 
 import java.util.List;
-import java.util.Random;
 
 import valor.cells.*;
 import character.hero.Hero;
 import character.monster.Monster;
+import event.EventBus;
+import event.EventType;
+import util.Dice;
+import util.GameIO;
 
 /**
- * 8x8 three-lane map for Legends of Valor.
- * Layout matches PDF specification with proper display format.
+ * Lane map for Legends of Valor.
+ * The standard 8x8 three-lane layout matches the PDF specification; other
+ * shapes (e.g. large stress maps) are described by a {@link ValorMapSpec}.
  */
 public class ValorMap {
-    private static final int SIZE = 8;
-    private static final int[] WALL_COLUMNS = {2, 5};
-
+    private final ValorMapSpec spec;
+    private final int rows;
+    private final int cols;
     private ValorCell[][] grid;
-    private Random random;
+    private Dice dice;
+    private final OccupancyIndex occupancy;
+    private ValorMapRenderer renderer; // created on first display
+    private final LanePathing pathing;
+    private ValorCell[] terrain; // last terrain snapshot, until the terrain changes
+    private long terrainHash;    // XOR of every cell's Zobrist terrain key
+    // Where terrain changes are announced
+    private EventBus events = EventBus.STDOUT;
 
     public ValorMap() {
-        this.grid = new ValorCell[SIZE][SIZE];
-        this.random = new Random();
+        this(new Dice());
+    }
+
+    /**
+     * Create a standard map whose terrain is drawn from the match's dice (for seeded runs).
+     */
+    public ValorMap(Dice dice) {
+        this(ValorMapSpec.standard(), dice);
+    }
+
+    /**
+     * Create a map with the given shape, terrain drawn from dice.
+     */
+    public ValorMap(ValorMapSpec spec, Dice dice) {
+        this.spec = spec;
+        this.rows = spec.getRows();
+        this.cols = spec.getCols();
+        this.grid = new ValorCell[rows][cols];
+        this.dice = dice;
+        this.occupancy = new OccupancyIndex(rows, cols);
         initializeMap();
+        this.pathing = new LanePathing(this);
+    }
+
+    /**
+     * Copy of another map's terrain with nobody on it, e.g. for a forked match.
+     */
+    public ValorMap(ValorMap source) {
+        this.spec = source.spec;
+        this.rows = source.rows;
+        this.cols = source.cols;
+        this.grid = new ValorCell[rows][cols];
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(source.grid[row], 0, grid[row], 0, cols); // cells hold no state
+        }
+        this.dice = source.dice;
+        this.occupancy = new OccupancyIndex(rows, cols);
+        this.pathing = new LanePathing(this);
+        this.terrain = source.terrain;
+        this.terrainHash = source.terrainHash;
     }
 
     /**
      * Initialize the map according to Valor specifications.
-     * Row 0: Monster Nexus
-     * Row 7: Hero Nexus
-     * Columns 2, 5: Inaccessible walls
+     * First row: Monster Nexus
+     * Last row: Hero Nexus
+     * Wall columns between lanes: Inaccessible walls
      * Other cells: Random terrain (20% Bush, 20% Cave, 20% Koulou, 40% Plain)
      */
     private void initializeMap() {
-        for (int row = 0; row < SIZE; row++) {
-            for (int col = 0; col < SIZE; col++) {
-                // Walls at columns 2 and 5
-                if (col == WALL_COLUMNS[0] || col == WALL_COLUMNS[1]) {
+        int monsterNexus = spec.getMonsterNexusRow();
+        int heroNexus = spec.getHeroNexusRow();
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                // Walls between lanes
+                if (spec.isWall(col)) {
                     grid[row][col] = new InaccessibleCell();
                 }
-                // Nexus at rows 0 (monster) and 7 (hero)
-                else if (row == 0 || row == 7) {
+                // Nexus at first (monster) and last (hero) rows
+                else if (row == monsterNexus || row == heroNexus) {
                     grid[row][col] = new NexusCell();
                 }
                 // Lane cells with random terrain
                 else {
                     grid[row][col] = generateRandomTerrain();
                 }
+                terrainHash ^= Zobrist.terrain(row * cols + col, grid[row][col].symbol());
             }
         }
     }
@@ -55,7 +106,7 @@ public class ValorMap {
      * 20% Bush, 20% Cave, 20% Koulou, 40% Plain
      */
     private ValorCell generateRandomTerrain() {
-        double rand = random.nextDouble();
+        double rand = dice.nextDouble();
         if (rand < 0.20) {
             return new BushCell();
         } else if (rand < 0.40) {
@@ -68,16 +119,15 @@ public class ValorMap {
     }
 
     /**
-     * Place initial heroes in their nexus (row 7, left column of each lane).
+     * Place initial heroes in their nexus (last row, left column of each lane).
      */
     public void placeInitialHeroes(List<Hero> heroes) {
-        int[][] laneColumns = {{0}, {3}, {6}}; // Left column of each lane
-
-        for (int i = 0; i < Math.min(heroes.size(), 3); i++) {
+        for (int i = 0; i < Math.min(heroes.size(), spec.getLaneCount()); i++) {
             Hero hero = heroes.get(i);
-            int col = laneColumns[i][0];
-            hero.setPosition(7, col);
+            int col = spec.getLaneLeftColumn(i);
+            hero.setPosition(spec.getHeroNexusRow(), col);
             hero.setLaneIndex(i);
+            occupancy.track(hero);
         }
     }
 
@@ -86,20 +136,40 @@ public class ValorMap {
      * Monsters spawn in right column of each lane at row 0.
      */
     public void spawnMonsters(List<Monster> monsters) {
-        int[][] laneColumns = {{1}, {4}, {7}}; // Right column of each lane
-
-        for (int i = 0; i < Math.min(monsters.size(), 3); i++) {
+        for (int i = 0; i < Math.min(monsters.size(), spec.getLaneCount()); i++) {
             Monster monster = monsters.get(i);
-            int col = laneColumns[i][0];
-            monster.setPosition(0, col);
+            int col = spec.getLaneRightColumn(i);
+            monster.setPosition(spec.getMonsterNexusRow(), col);
+            occupancy.track(monster);
         }
     }
 
+    /**
+     * Stop tracking a monster that has been removed from the match.
+     */
+    public void releaseMonster(Monster monster) {
+        occupancy.untrack(monster);
+    }
+
+    /**
+     * Start tracking a hero that is already positioned (e.g. in a forked match).
+     */
+    public void trackHero(Hero hero) {
+        occupancy.track(hero);
+    }
+
+    /**
+     * Start tracking a monster that is already positioned (e.g. one put back by a snapshot).
+     */
+    public void trackMonster(Monster monster) {
+        occupancy.track(monster);
+    }
+
     /**
      * Check if position is within bounds.
      */
     public boolean inBounds(int row, int col) {
-        return row >= 0 && row < SIZE && col >= 0 && col < SIZE;
+        return row >= 0 && row < rows && col >= 0 && col < cols;
     }
 
     /**
@@ -110,81 +180,72 @@ public class ValorMap {
         if (!grid[row][col].isPassableForHero()) return false;
 
         // Cannot move to a cell with another hero
-        for (Hero h : allHeroes) {
-            if (h.isAlive() && h.getRow() == row && h.getCol() == col) {
-                return false;
-            }
-        }
-
-        return true;
+        return occupancy.heroAt(row, col) == null;
     }
 
     /**
      * Check if there's a monster at this position.
      */
     public Monster getMonsterAt(int row, int col, List<Monster> monsters) {
-        for (Monster m : monsters) {
-            if (m.isAlive() && m.getRow() == row && m.getCol() == col) {
-                return m;
-            }
-        }
-        return null;
+        return getMonsterAt(row, col);
+    }
+
+    public Monster getMonsterAt(int row, int col) {
+        if (!inBounds(row, col)) return null;
+        return occupancy.monsterAt(row, col);
     }
 
     /**
      * Check if there's a hero at this position.
      */
     public Hero getHeroAt(int row, int col, List<Hero> heroes) {
-        for (Hero h : heroes) {
-            if (h.isAlive() && h.getRow() == row && h.getCol() == col) {
-                return h;
-            }
-        }
-        return null;
+        return getHeroAt(row, col);
+    }
+
+    public Hero getHeroAt(int row, int col) {
+        if (!inBounds(row, col)) return null;
+        return occupancy.heroAt(row, col);
+    }
+
+    /**
+     * Check if any living hero stands on or next to (row, col).
+     */
+    public boolean isHeroWithinReach(int row, int col) {
+        if (!inBounds(row, col)) return false;
+        return occupancy.hasHero(row, col)
+                || (row > 0 && occupancy.hasHero(row - 1, col))
+                || (row < rows - 1 && occupancy.hasHero(row + 1, col))
+                || (col > 0 && occupancy.hasHero(row, col - 1))
+                || (col < cols - 1 && occupancy.hasHero(row, col + 1));
     }
 
     /**
-     * Check if any hero reached monster nexus (row 0).
+     * Check if any hero reached monster nexus (first row).
      */
     public boolean anyHeroReachedMonsterNexus(List<Hero> heroes) {
-        for (Hero h : heroes) {
-            if (h.isAlive() && h.getRow() == 0) {
-                return true;
-            }
-        }
-        return false;
+        return occupancy.anyHeroOnRow(spec.getMonsterNexusRow());
     }
 
     /**
-     * Check if any monster reached hero nexus (row 7).
+     * Check if any monster reached hero nexus (last row).
      */
     public boolean anyMonsterReachedHeroNexus(List<Monster> monsters) {
-        for (Monster m : monsters) {
-            if (m.isAlive() && m.getRow() == 7) {
-                return true;
-            }
-        }
-        return false;
+        return occupancy.anyMonsterOnRow(spec.getHeroNexusRow());
     }
 
     /**
      * Respawn hero at their nexus.
      */
     public void respawnHeroAtNexus(Hero hero) {
-        int laneIndex = hero.getLaneIndex();
-        int[][] laneColumns = {{0}, {3}, {6}};
-        int col = laneColumns[laneIndex][0];
-        hero.setPosition(7, col);
+        int col = spec.getLaneLeftColumn(hero.getLaneIndex());
+        hero.setPosition(spec.getHeroNexusRow(), col);
     }
 
     /**
      * Get lane index for a column.
      */
     public int getLaneForColumn(int col) {
-        if (col <= 1) return 0; // Top lane
-        if (col >= 3 && col <= 4) return 1; // Mid lane
-        if (col >= 6) return 2; // Bot lane
-        return -1; // Wall
+        return spec.getLaneForColumn(col); // -1 for walls
     }
 
     /**
@@ -215,86 +276,128 @@ public class ValorMap {
 
     /**
      * Display the map in the format specified by the PDF.
-     * Format matches the example shown in the PDF document.
+     * Frames are drawn by a reusable renderer and written in one call;
+     * the legend appears with the first frame only.
      */
-    public void display(List<Hero> heroes, List<Monster> monsters) {
-        System.out.println();
-
-        for (int row = 0; row < SIZE; row++) {
-            // Print three lines per row to create the cell boxes
-
-            // Line 1: Top border of cells
-            for (int col = 0; col < SIZE; col++) {
-                String cellType = String.valueOf(grid[row][col].symbol());
-                System.out.print(cellType + " - " + cellType + " - " + cellType + "  ");
-            }
-            System.out.println();
-
-            // Line 2: Left border, content, right border
-            for (int col = 0; col < SIZE; col++) {
-                String cellType = String.valueOf(grid[row][col].symbol());
+    public void display(GameIO io, List<Hero> heroes, List<Monster> monsters) {
+        if (renderer == null) {
+            renderer = new ValorMapRenderer(this);
+        }
+        renderer.render(io);
+    }
 
-                // Get entities at this position
-                Hero heroHere = getHeroAt(row, col, heroes);
-                Monster monsterHere = getMonsterAt(row, col, monsters);
+    public EventBus getEvents() {
+        return events;
+    }
 
-                String leftContent = cellType;
-                String centerContent = " ";
-                String rightContent = cellType;
+    public void setEvents(EventBus events) {
+        this.events = events;
+    }
 
-                // Show hero on left side - use their ORIGINAL laneIndex for display
-                if (heroHere != null) {
-                    leftContent = "H" + (heroHere.getLaneIndex() + 1);  // H1/H2/H3 based on original lane
-                }
+    /**
+     * Remove an obstacle at the given position, converting it to a plain cell.
+     *
+     * @return true if an obstacle was removed
+     */
+    public boolean removeObstacle(int row, int col) {
+        if (inBounds(row, col) && grid[row][col] instanceof ObstacleCell) {
+            changeCell(row, col, new PlainCell());
+            terrain = null;
+            events.publish(EventType.OBSTACLE_REMOVED, null, row, col);
+            return true;
+        }
+        return false;
+    }
 
-                // Show monster on right side
-                if (monsterHere != null) {
-                    // Find which lane this monster is in based on column
-                    int monsterLane = getLaneForColumn(col);
-                    rightContent = "M" + (monsterLane + 1);
-                }
+    /**
+     * Block an empty lane cell with an obstacle (nexus rows and walls excluded).
+     *
+     * @return true if the obstacle was placed
+     */
+    public boolean placeObstacle(int row, int col) {
+        if (!inBounds(row, col) || spec.isWall(col)
+                || row == spec.getHeroNexusRow() || row == spec.getMonsterNexusRow()
+                || occupancy.hasHero(row, col) || occupancy.hasMonster(row, col)) {
+            return false;
+        }
+        changeCell(row, col, new ObstacleCell());
+        terrain = null;
+        return true;
+    }
 
-                // Handle wall spacing (XXX)
-                if (grid[row][col] instanceof InaccessibleCell) {
-                    System.out.print("| X X X |  ");
-                } else {
-                    System.out.print("| " + leftContent + " " + centerContent + " " + rightContent + " |  ");
-                }
+    /**
+     * The cells of the map, row by row. Cells hold no state, so the copy shares
+     * them, and it is reused until an obstacle is placed or removed.
+     */
+    public ValorCell[] snapshotTerrain() {
+        if (terrain == null) {
+            ValorCell[] cells = new ValorCell[rows * cols];
+            for (int row = 0; row < rows; row++) {
+                System.arraycopy(grid[row], 0, cells, row * cols, cols);
             }
-            System.out.println();
+            terrain = cells;
+        }
+        return terrain;
+    }
 
-            // Line 3: Bottom border of cells
-            for (int col = 0; col < SIZE; col++) {
-                String cellType = String.valueOf(grid[row][col].symbol());
-                System.out.print(cellType + " - " + cellType + " - " + cellType + "  ");
+    /**
+     * Put back terrain taken by {@link #snapshotTerrain()}; only lanes with a
+     * changed cell rebuild their paths.
+     */
+    public void restoreTerrain(ValorCell[] cells) {
+        if (cells.length != rows * cols) {
+            throw new IllegalArgumentException("Terrain is for a different map size");
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                ValorCell cell = cells[row * cols + col];
+                if (grid[row][col] != cell) {
+                    changeCell(row, col, cell);
+                }
             }
-            System.out.println();
-            System.out.println(); // Extra line between rows
         }
+        terrain = cells;
+    }
 
-        // Print legend
-        System.out.println("Legend:");
-        System.out.println("  H1/H2/H3 - Your Heroes (Original Lane 1/2/3)");
-        System.out.println("  M1/M2/M3 - Monsters (Current Lane 1/2/3)");
-        System.out.println("  N - Nexus  |  I - Inaccessible Wall");
-        System.out.println("  P - Plain  |  B - Bush (+10% Dexterity)");
-        System.out.println("  C - Cave (+10% Agility)  |  K - Koulou (+10% Strength)");
-        System.out.println();
-        System.out.println("Note: Heroes keep their original lane number (H1/H2/H3) even when teleporting!");
-        System.out.println();
+    /**
+     * Zobrist key of the terrain and of who stands where (living heroes and
+     * monsters, with their HP buckets); see {@link Zobrist}.
+     */
+    public long getPositionHash() {
+        return terrainHash ^ occupancy.hash();
+    }
+
+    private void changeCell(int row, int col, ValorCell cell) {
+        int index = row * cols + col;
+        terrainHash ^= Zobrist.terrain(index, grid[row][col].symbol()) ^ Zobrist.terrain(index, cell.symbol());
+        grid[row][col] = cell;
+        pathing.invalidate(row, col);
     }
 
     /**
-     * Remove an obstacle at the given position, converting it to a plain cell.
+     * Shortest-path distance fields for monsters and heroes in each lane.
      */
-    public void removeObstacle(int row, int col) {
-        if (inBounds(row, col) && grid[row][col] instanceof ObstacleCell) {
-            grid[row][col] = new PlainCell();
-            System.out.println("[SUCCESS] Obstacle removed at (" + row + "," + col + ")");
-        }
+    public LanePathing getPathing() {
+        return pathing;
+    }
+
+    public ValorMapSpec getSpec() {
+        return spec;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getHeroNexusRow() {
+        return spec.getHeroNexusRow();
     }
 
-    public int getSize() {
-        return SIZE;
+    public int getMonsterNexusRow() {
+        return spec.getMonsterNexusRow();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package valor;
+
+import character.hero.Hero;
+import valor.cells.InaccessibleCell;
+import util.FrameBuffer;
+import util.GameIO;
+
+/**
+ * Draws a ValorMap into a reusable {@link FrameBuffer}: each cell is three
+ * lines of text, heroes on the left of the cell and monsters on the right.
+ * The legend is printed with the first frame only.
+ */
+public class ValorMapRenderer {
+    private final ValorMap map;
+    private final FrameBuffer frame;
+    private boolean legendShown;
+
+    public ValorMapRenderer(ValorMap map) {
+        this(map, false);
+    }
+
+    /**
+     * @param diff redraw only changed lines (for a terminal showing only the map)
+     */
+    public ValorMapRenderer(ValorMap map, boolean diff) {
+        this.map = map;
+        this.frame = new FrameBuffer(diff);
+        this.legendShown = diff; // a diff-mode view has no room for the legend
+    }
+
+    public void render(GameIO io) {
+        frame.newLine();
+
+        for (int row = 0; row < map.getRows(); row++) {
+            // Line 1: Top border of cells
+            borderLine(row);
+
+            // Line 2: Left border, content, right border
+            for (int col = 0; col < map.getCols(); col++) {
+                ValorCell cell = map.getCell(row, col);
+                if (cell instanceof InaccessibleCell) {
+                    frame.append("| X X X |  ");
+                    continue;
+                }
+                char symbol = cell.symbol();
+                frame.append("| ");
+
+                // Hero on the left, numbered by ORIGINAL lane even after teleporting
+                Hero heroHere = map.getHeroAt(row, col);
+                if (heroHere != null) frame.append('H').append(heroHere.getLaneIndex() + 1);
+                else frame.append(symbol);
+
+                frame.append("   ");
+
+                // Monster on the right, numbered by the lane it is in now
+                if (map.getMonsterAt(row, col) != null) frame.append('M').append(map.getLaneForColumn(col) + 1);
+                else frame.append(symbol);
+
+                frame.append(" |  ");
+            }
+            frame.newLine();
+
+            // Line 3: Bottom border of cells
+            borderLine(row);
+            frame.newLine(); // Extra line between rows
+        }
+
+        if (!legendShown) {
+            frame.append("Legend:").newLine();
+            frame.append("  H1/H2/H3 - Your Heroes (Original Lane 1/2/3)").newLine();
+            frame.append("  M1/M2/M3 - Monsters (Current Lane 1/2/3)").newLine();
+            frame.append("  N - Nexus  |  I - Inaccessible Wall").newLine();
+            frame.append("  P - Plain  |  B - Bush (+10% Dexterity)").newLine();
+            frame.append("  C - Cave (+10% Agility)  |  K - Koulou (+10% Strength)").newLine();
+            frame.newLine();
+            frame.append("Note: Heroes keep their original lane number (H1/H2/H3) even when teleporting!").newLine();
+            frame.newLine();
+            legendShown = true;
+        }
+
+        frame.flush(io);
+    }
+
+    /**
+     * Print the legend again with the next frame.
+     */
+    public void showLegend() {
+        legendShown = false;
+    }
+
+    private void borderLine(int row) {
+        for (int col = 0; col < map.getCols(); col++) {
+            char symbol = map.getCell(row, col).symbol();
+            frame.append(symbol).append(" - ").append(symbol).append(" - ").append(symbol).append("  ");
+        }
+        frame.newLine();
+    }
+}
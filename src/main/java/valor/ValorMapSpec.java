@@ -0,0 +1,105 @@
+package valor;
+
+/**
+ * Immutable shape of a Valor map: rows, number of lanes, lane width and the
+ * width of the walls between lanes. Row 0 is the Monster Nexus and the last row
+ * the Hero Nexus. Column-to-lane lookups are precomputed so they stay O(1) on
+ * large stress maps.
+ */
+public final class ValorMapSpec {
+    private static final ValorMapSpec STANDARD = new ValorMapSpec(8, 3, 2, 1);
+
+    private final int rows;
+    private final int laneCount;
+    private final int laneWidth;
+    private final int wallWidth;
+    private final int cols;
+    private final int[] laneOfColumn; // -1 for wall columns
+
+    public ValorMapSpec(int rows, int laneCount, int laneWidth, int wallWidth) {
+        if (rows < 3) {
+            throw new IllegalArgumentException("A Valor map needs at least 3 rows, got " + rows);
+        }
+        if (laneCount < 1 || laneWidth < 1 || wallWidth < 0) {
+            throw new IllegalArgumentException("Invalid lane layout: " + laneCount + " lanes of width "
+                    + laneWidth + ", walls of width " + wallWidth);
+        }
+        this.rows = rows;
+        this.laneCount = laneCount;
+        this.laneWidth = laneWidth;
+        this.wallWidth = wallWidth;
+        this.cols = laneCount * laneWidth + (laneCount - 1) * wallWidth;
+
+        this.laneOfColumn = new int[cols];
+        for (int col = 0; col < cols; col++) {
+            int offset = col % (laneWidth + wallWidth);
+            laneOfColumn[col] = offset < laneWidth ? col / (laneWidth + wallWidth) : -1;
+        }
+    }
+
+    /**
+     * The 8x8, three-lane map from the game specification.
+     */
+    public static ValorMapSpec standard() {
+        return STANDARD;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getLaneCount() {
+        return laneCount;
+    }
+
+    public int getLaneWidth() {
+        return laneWidth;
+    }
+
+    public int getWallWidth() {
+        return wallWidth;
+    }
+
+    public int getMonsterNexusRow() {
+        return 0;
+    }
+
+    public int getHeroNexusRow() {
+        return rows - 1;
+    }
+
+    /**
+     * Lane index of a column, or -1 for a wall (or out of range) column.
+     */
+    public int getLaneForColumn(int col) {
+        if (col < 0 || col >= cols) return -1;
+        return laneOfColumn[col];
+    }
+
+    public boolean isWall(int col) {
+        return getLaneForColumn(col) < 0;
+    }
+
+    /**
+     * Leftmost column of a lane (where heroes spawn).
+     */
+    public int getLaneLeftColumn(int lane) {
+        return lane * (laneWidth + wallWidth);
+    }
+
+    /**
+     * Rightmost column of a lane (where monsters spawn).
+     */
+    public int getLaneRightColumn(int lane) {
+        return getLaneLeftColumn(lane) + laneWidth - 1;
+    }
+
+    @Override
+    public String toString() {
+        return rows + "x" + cols + " (" + laneCount + " lanes of width " + laneWidth + ")";
+    }
+}
@@ -5,38 +5,63 @@ import java.util.ArrayList;
 
 import character.hero.Hero;
 import character.monster.Monster;
+import character.monster.MonsterStore;
+import event.EventType;
+import util.Dice;
 
 /**
  * Monster AI for Legends of Valor.
  * Rules:
  * - If hero in attack range, attack
- * - Otherwise, move south (towards hero nexus)
+ * - Otherwise, advance towards the hero nexus along the lane's distance field
  */
 public class ValorMonsterAI {
 
     /**
      * Process all monsters' turns.
      */
-    public static void processMonsters(ValorMap map, List<Monster> monsters, List<Hero> heroes) {
-        System.out.println("\n=== MONSTERS' TURN ===");
+    public static void processMonsters(Dice dice, ValorMap map, List<Monster> monsters, List<Hero> heroes) {
+        map.getEvents().publish(EventType.MONSTER_TURN, null);
+
+        if (monsters instanceof MonsterStore store) {
+            // Dense store: read hp and position straight from its arrays
+            for (int i = 0; i < store.size(); i++) {
+                if (store.getHP(i) <= 0) continue;
+                takeTurn(dice, map, store.get(i), store.getRow(i), store.getCol(i), heroes);
+            }
+            return;
+        }
 
         for (Monster m : monsters) {
             if (!m.isAlive()) continue;
+            takeTurn(dice, map, m, m.getRow(), m.getCol(), heroes);
+        }
+    }
 
-            // Check if any hero is in attack range
-            Hero target = findHeroInAttackRange(m, heroes);
+    /**
+     * One living monster's turn: attack a hero in range, otherwise advance.
+     */
+    static void takeTurn(Dice dice, ValorMap map, Monster m, int row, int col, List<Hero> heroes) {
+        // Check if any hero is in attack range
+        Hero target = map.isHeroWithinReach(row, col)
+                ? findHeroInAttackRange(row, col, heroes) : null;
+
+        if (target != null) {
+            attack(dice, m, target);
+        } else {
+            // Advance towards the hero nexus
+            advance(m, row, col, map);
+        }
+    }
 
-            if (target != null) {
-                // Attack the hero
-                m.attack(target);
+    /**
+     * Attack the hero and announce it if it falls.
+     */
+    static void attack(Dice dice, Monster m, Hero target) {
+        m.attack(target, dice);
 
-                if (!target.isAlive()) {
-                    System.out.println("[DEFEAT] " + target.getName() + " has fallen!");
-                }
-            } else {
-                // Move south (towards hero nexus)
-                moveSouth(m, map, monsters, heroes);
-            }
+        if (!target.isAlive()) {
+            m.getEvents().publish(EventType.FALLEN, target);
         }
     }
 
@@ -44,10 +69,7 @@ public class ValorMonsterAI {
      * Find a hero within attack range of the monster.
      * Attack range: current cell and adjacent cells.
      */
-    private static Hero findHeroInAttackRange(Monster m, List<Hero> heroes) {
-        int mRow = m.getRow();
-        int mCol = m.getCol();
-
+    static Hero findHeroInAttackRange(int mRow, int mCol, List<Hero> heroes) {
         for (Hero h : heroes) {
             if (!h.isAlive()) continue;
 
@@ -65,33 +87,21 @@ public class ValorMonsterAI {
     }
 
     /**
-     * Move monster one step south (towards hero nexus).
-     * Follow same movement rules as heroes:
-     * - Cannot move behind another monster
+     * Move monster one step along a shortest path to the hero nexus: straight
+     * south on open ground, around obstacles when the way south is blocked.
      * - Cannot move to cell with another monster
      */
-    private static void moveSouth(Monster m, ValorMap map, List<Monster> allMonsters, List<Hero> heroes) {
-        int currentRow = m.getRow();
-        int currentCol = m.getCol();
-        int newRow = currentRow + 1; // Move south
-        int newCol = currentCol;
-
-        // Check if can move
-        if (!map.inBounds(newRow, newCol)) {
-            return; // Can't move further
-        }
-
-        ValorCell cell = map.getCell(newRow, newCol);
-        if (!cell.isPassableForMonster()) {
-            return; // Can't move to this cell
+    static void advance(Monster m, int currentRow, int currentCol, ValorMap map) {
+        char step = map.getPathing().nextMonsterStep(currentRow, currentCol);
+        if (step == 0) {
+            return; // At the hero nexus, or walled off from it
         }
+        int newRow = currentRow + (step == 'S' ? 1 : step == 'W' ? -1 : 0);
+        int newCol = currentCol + (step == 'D' ? 1 : step == 'A' ? -1 : 0);
 
         // Check if another monster is there
-        for (Monster other : allMonsters) {
-            if (other != m && other.isAlive() &&
-                    other.getRow() == newRow && other.getCol() == newCol) {
-                return; // Another monster is blocking
-            }
+        if (map.getMonsterAt(newRow, newCol) != null) {
+            return; // Another monster is blocking
         }
 
         // Check if hero is there (can share space with hero)
@@ -99,6 +109,6 @@ public class ValorMonsterAI {
 
         // Move
         m.setPosition(newRow, newCol);
-        System.out.println(m.getName() + " moved to (" + newRow + "," + newCol + ")");
+        m.getEvents().publish(EventType.MOVE, m, newRow, newCol);
     }
 }
@@ -0,0 +1,134 @@
+package valor;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import util.Dice;
+import util.GameIO;
+import util.Journal;
+
+/**
+ * Re-runs a recorded Legends of Valor session from its journal, headless and
+ * as fast as the rules allow, and moves to any round of it.
+ *
+ * Going forward the replay takes a checkpoint every few rounds: a match
+ * snapshot plus the journal position. Seeking restores the nearest checkpoint
+ * at or before the target round and plays on from there, so jumping around a
+ * long session replays at most one interval of rounds once every checkpoint
+ * up to the target has been seen.
+ */
+public final class ValorReplay {
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 8;
+
+    private final Journal.Player input;
+    private final ValorGame game;
+    private final ValorEngine engine;
+    private final int interval;
+    private final TreeMap<Integer, Checkpoint> checkpoints = new TreeMap<>();
+    private boolean ended; // the journal ran out of input
+
+    public ValorReplay(Journal journal) {
+        this(journal, DEFAULT_CHECKPOINT_INTERVAL, GameIO.SILENT);
+    }
+
+    /**
+     * Replay the session up to the end of hero selection (round 0).
+     *
+     * @param interval rounds between checkpoints
+     * @param out      receives the game's output; {@link GameIO#SILENT} for full speed
+     */
+    public ValorReplay(Journal journal, int interval, GameIO out) {
+        if (journal.getMode() != Journal.Mode.VALOR) {
+            throw new IllegalArgumentException("Not a Legends of Valor journal: " + journal.getMode());
+        }
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive: " + interval);
+        }
+        this.interval = interval;
+        this.input = journal.player(out);
+        this.game = new ValorGame(input, new Dice(journal.getSeed()));
+        game.setup();
+        this.engine = game.getEngine();
+        checkpoints.put(0, new Checkpoint(engine.snapshot(), input.getPosition()));
+    }
+
+    /**
+     * Move to the end of the given round, or as far as the session went.
+     */
+    public void seek(int round) {
+        int current = engine.getCurrentRound();
+        Map.Entry<Integer, Checkpoint> checkpoint = checkpoints.floorEntry(round);
+        if (round < current || checkpoint.getKey() > current) {
+            engine.restore(checkpoint.getValue().snapshot);
+            input.seek(checkpoint.getValue().position);
+            ended = false;
+        }
+        while (engine.getCurrentRound() < round && !isFinished()) {
+            step();
+        }
+    }
+
+    /**
+     * Play the rest of the session.
+     */
+    public ValorEngine.Outcome playToEnd() {
+        while (!isFinished()) {
+            step();
+        }
+        return engine.getOutcome();
+    }
+
+    /**
+     * Whether the match is decided or the journal has no more input.
+     */
+    public boolean isFinished() {
+        return ended || engine.isOver();
+    }
+
+    /**
+     * True when the replay stopped because the journal ran out (the session was
+     * abandoned mid-round); the match then stands where the input ended.
+     */
+    public boolean isJournalExhausted() {
+        return ended;
+    }
+
+    public int getRound() {
+        return engine.getCurrentRound();
+    }
+
+    /**
+     * The replayed match, e.g. to inspect heroes and monsters after a seek.
+     */
+    public ValorEngine getEngine() {
+        return engine;
+    }
+
+    public int getCheckpointCount() {
+        return checkpoints.size();
+    }
+
+    private void step() {
+        try {
+            game.playRound();
+        } catch (IllegalStateException e) {
+            if (!input.isExhausted()) throw e;
+            ended = true;
+            return;
+        }
+        int round = engine.getCurrentRound();
+        if (round % interval == 0 && !engine.isOver()) {
+            checkpoints.putIfAbsent(round, new Checkpoint(engine.snapshot(), input.getPosition()));
+        }
+    }
+
+    private static final class Checkpoint {
+        final ValorSnapshot snapshot;
+        final long position;
+
+        Checkpoint(ValorSnapshot snapshot, long position) {
+            this.snapshot = snapshot;
+            this.position = position;
+        }
+    }
+}
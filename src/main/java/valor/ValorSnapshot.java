@@ -0,0 +1,40 @@
+package valor;
+
+import character.hero.HeroState;
+import character.monster.MonsterState;
+
+/**
+ * Value copy of a whole Legends of Valor match at one moment: terrain, heroes
+ * (stats, modifiers, equipment, inventory, position), monsters, round, outcome
+ * and the dice state. Taken by {@link ValorEngine#snapshot()} and put back with
+ * {@link ValorEngine#restore}.
+ *
+ * A snapshot is immutable, so a search can fork it by sharing the reference.
+ * Parts that did not change since the previous snapshot (the terrain, an
+ * unchanged inventory) are shared with it rather than copied again.
+ */
+public final class ValorSnapshot {
+    final int round;
+    final ValorEngine.Outcome outcome;
+    final long diceState;
+    final ValorCell[] terrain;
+    final HeroState[] heroes;    // in the engine's hero order
+    final MonsterState[] monsters; // in the engine's monster order
+
+    ValorSnapshot(int round, ValorEngine.Outcome outcome, long diceState,
+                  ValorCell[] terrain, HeroState[] heroes, MonsterState[] monsters) {
+        this.round = round;
+        this.outcome = outcome;
+        this.diceState = diceState;
+        this.terrain = terrain;
+        this.heroes = heroes;
+        this.monsters = monsters;
+    }
+
+    public int getRound() { return round; }
+    public ValorEngine.Outcome getOutcome() { return outcome; }
+    public int getHeroCount() { return heroes.length; }
+    public HeroState getHero(int index) { return heroes[index]; }
+    public int getMonsterCount() { return monsters.length; }
+    public MonsterState getMonster(int index) { return monsters[index]; }
+}
@@ -0,0 +1,74 @@
+package valor;
+
+/**
+ * Zobrist keys for Valor positions. A position's key is the XOR of one key
+ * per feature (a living hero or monster with its cell and HP bucket, each
+ * cell's terrain, the round), so a change updates it with two XORs instead
+ * of rehashing the board.
+ *
+ * Keys are derived by hashing the feature rather than read from random
+ * tables, so they need no memory on huge maps and are the same in every run,
+ * thread and fork of a match.
+ */
+public final class Zobrist {
+    /** HP per bucket; a position key changes when HP crosses a bucket boundary. */
+    public static final int HP_BUCKET = 64;
+
+    private static final long HERO = 1;
+    private static final long MONSTER = 2;
+    private static final long TERRAIN = 3;
+    private static final long ROUND = 4;
+    private static final long TO_MOVE = 5;
+
+    private Zobrist() {
+    }
+
+    /**
+     * HP bucket: 0 only when dead, so a defeat always changes the key.
+     */
+    public static int bucket(int hp) {
+        return hp <= 0 ? 0 : (hp + HP_BUCKET - 1) / HP_BUCKET;
+    }
+
+    /**
+     * Key of a hero, identified by its original lane, on a cell; 0 if dead.
+     */
+    public static long hero(int laneIndex, int cell, int hp) {
+        return hp <= 0 ? 0 : key(HERO, laneIndex, cell, bucket(hp));
+    }
+
+    /**
+     * Key of a monster of the given level on a cell; 0 if dead.
+     */
+    public static long monster(int level, int cell, int hp) {
+        return hp <= 0 ? 0 : key(MONSTER, level, cell, bucket(hp));
+    }
+
+    /**
+     * Key of the terrain on a cell, identified by its map symbol.
+     */
+    public static long terrain(int cell, char symbol) {
+        return key(TERRAIN, symbol, cell, 0);
+    }
+
+    public static long round(int round) {
+        return key(ROUND, round, 0, 0);
+    }
+
+    /**
+     * Key of the hero whose turn it is, for searches that stop mid-round.
+     */
+    public static long toMove(int heroIndex) {
+        return key(TO_MOVE, heroIndex, 0, 0);
+    }
+
+    private static long key(long kind, long a, long b, long c) {
+        long z = kind * 0x9E3779B97F4A7C15L;
+        z = (z ^ a) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ b) * 0x94D049BB133111EBL;
+        z = (z ^ c) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -2,13 +2,15 @@ package valor.cells;
 
 import valor.ValorCell;
 import character.hero.Hero;
+import character.hero.Stat;
+import character.hero.StatModifier;
 
 /**
  * Bush cell: increases hero's dexterity while standing in this cell.
  */
 public class BushCell extends ValorCell {
 
-    private static final double BUFF_MULTIPLIER = 1.1;
+    private static final StatModifier BUFF = StatModifier.multiply(Stat.DEXTERITY, 1.1);
 
     @Override
     public char symbol() {
@@ -17,11 +19,11 @@ public class BushCell extends ValorCell {
 
     @Override
     public void onHeroEnter(Hero hero) {
-        hero.applyTemporaryDexterityBuff(BUFF_MULTIPLIER);
+        hero.addModifier(BUFF);
     }
 
     @Override
     public void onHeroLeave(Hero hero) {
-        hero.removeTemporaryDexterityBuff(BUFF_MULTIPLIER);
+        hero.removeModifier(BUFF);
     }
 }
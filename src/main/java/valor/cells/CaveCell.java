@@ -2,13 +2,15 @@ package valor.cells;
 
 import valor.ValorCell;
 import character.hero.Hero;
+import character.hero.Stat;
+import character.hero.StatModifier;
 
 /**
  * Cave cell: increases hero's agility while standing in this cell.
  */
 public class CaveCell extends ValorCell {
 
-    private static final double BUFF_MULTIPLIER = 1.1;
+    private static final StatModifier BUFF = StatModifier.multiply(Stat.AGILITY, 1.1);
 
     @Override
     public char symbol() {
@@ -17,11 +19,11 @@ public class CaveCell extends ValorCell {
 
     @Override
     public void onHeroEnter(Hero hero) {
-        hero.applyTemporaryAgilityBuff(BUFF_MULTIPLIER);
+        hero.addModifier(BUFF);
     }
 
     @Override
     public void onHeroLeave(Hero hero) {
-        hero.removeTemporaryAgilityBuff(BUFF_MULTIPLIER);
+        hero.removeModifier(BUFF);
     }
 }
@@ -2,13 +2,15 @@ package valor.cells;
 
 import valor.ValorCell;
 import character.hero.Hero;
+import character.hero.Stat;
+import character.hero.StatModifier;
 
 /**
  * Koulou cell: increases hero's strength while standing in this cell.
  */
 public class KoulouCell extends ValorCell {
 
-    private static final double BUFF_MULTIPLIER = 1.1;
+    private static final StatModifier BUFF = StatModifier.multiply(Stat.STRENGTH, 1.1);
 
     @Override
     public char symbol() {
@@ -17,11 +19,11 @@ public class KoulouCell extends ValorCell {
 
     @Override
     public void onHeroEnter(Hero hero) {
-        hero.applyTemporaryStrengthBuff(BUFF_MULTIPLIER);
+        hero.addModifier(BUFF);
     }
 
     @Override
     public void onHeroLeave(Hero hero) {
-        hero.removeTemporaryStrengthBuff(BUFF_MULTIPLIER);
+        hero.removeModifier(BUFF);
     }
 }
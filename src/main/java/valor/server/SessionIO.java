@@ -0,0 +1,83 @@
+package valor.server;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import util.GameIO;
+
+/**
+ * GameIO for one hosted session: input lines arrive on a blocking queue fed by
+ * the connection, output goes to that session's own stream. Output is buffered
+ * and flushed whenever the game waits for input, so each prompt reaches the
+ * player in one write.
+ *
+ * After {@link #close()} the game's next read fails with an
+ * IllegalStateException, which ends the session's game loop.
+ */
+public final class SessionIO implements GameIO {
+    private static final String CLOSED = new String("closed"); // compared by identity
+
+    private final BlockingQueue<String> input = new LinkedBlockingQueue<>();
+    private final PrintStream out;
+    private volatile boolean closed;
+
+    public SessionIO(OutputStream out) {
+        this.out = new PrintStream(out, false, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Queue a line of player input. Ignored once the session is closed.
+     */
+    public void offer(String line) {
+        if (!closed) input.add(line);
+    }
+
+    /**
+     * End the session: a game blocked on input wakes up and stops.
+     */
+    public void close() {
+        closed = true;
+        input.add(CLOSED);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public String readLine() {
+        out.flush();
+        String line;
+        try {
+            line = input.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Session interrupted while waiting for input", e);
+        }
+        if (line == CLOSED) {
+            input.add(CLOSED); // every later read fails too
+            throw new IllegalStateException("Session closed");
+        }
+        return line;
+    }
+
+    @Override
+    public void print(String text) {
+        out.print(text);
+    }
+
+    @Override
+    public void println(String text) {
+        out.println(text);
+    }
+
+    /**
+     * Write out anything still buffered.
+     */
+    public void flush() {
+        out.flush();
+    }
+}
@@ -0,0 +1,210 @@
+package valor.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import util.Dice;
+import valor.ValorGame;
+
+/**
+ * Hosts many Legends of Valor sessions in one JVM, each on its own thread.
+ *
+ * A session is a {@link ValorGame} on a {@link SessionIO}: player input comes
+ * from the session's queue and output goes to its own stream, and the match
+ * rolls its own {@link Dice}. Sessions share only immutable catalogs
+ * (monsters, market stock, starter gear), so they never see each other.
+ *
+ * Sessions run one per thread, virtual threads when the JVM has them (Java 21
+ * and later): a session blocked on player input then costs a small heap
+ * object, not an OS thread. Older JVMs fall back to a platform thread per
+ * session.
+ *
+ * Usage: java -cp out valor.server.ValorServer [port]
+ * Each TCP connection plays one session, one line of input per line sent.
+ */
+public final class ValorServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 4611;
+
+    private final ExecutorService threads;
+    private final Map<Integer, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public ValorServer() {
+        this(newSessionExecutor());
+    }
+
+    /**
+     * Run sessions (and connection readers) on the given executor, which needs
+     * a thread per blocked session.
+     */
+    public ValorServer(ExecutorService threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Start a session with a fresh seed, writing its output to out.
+     */
+    public Session open(OutputStream out) {
+        return open(out, new Dice().getState());
+    }
+
+    /**
+     * Start a session whose match is reproducible from seed.
+     */
+    public Session open(OutputStream out, long seed) {
+        return open(out, seed, null);
+    }
+
+    private Session open(OutputStream out, long seed, Runnable onEnd) {
+        Session session = new Session(nextId.incrementAndGet(), new SessionIO(out), seed, onEnd);
+        sessions.put(session.id, session);
+        threads.execute(session::run);
+        return session;
+    }
+
+    public int getOpenSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * Close every session and wait up to the timeout for their threads to end.
+     */
+    public boolean close(long timeout, TimeUnit unit) throws InterruptedException {
+        for (Session session : sessions.values()) {
+            session.close();
+        }
+        threads.shutdown();
+        return threads.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public void close() {
+        try {
+            close(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Thread per task: virtual threads if this JVM has them, platform threads otherwise.
+     */
+    public static ExecutorService newSessionExecutor() {
+        try {
+            MethodHandle factory = MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return (ExecutorService) factory.invoke();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "valor-session");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not create the session executor", e);
+        }
+    }
+
+    /**
+     * Serve sessions over TCP: every accepted connection gets a session, fed
+     * line by line from the socket, and the socket closes when the match ends.
+     */
+    public void serve(ServerSocket listener) throws IOException {
+        while (!listener.isClosed()) {
+            Socket socket = listener.accept();
+            Session session = open(socket.getOutputStream(), new Dice().getState(), () -> closeQuietly(socket));
+            threads.execute(() -> {
+                try (BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = in.readLine()) != null) {
+                        session.send(line);
+                    }
+                } catch (IOException e) {
+                    // connection dropped: end the session below
+                }
+                session.close();
+            });
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // already gone
+        }
+    }
+
+    /**
+     * One hosted match.
+     */
+    public final class Session {
+        private final int id;
+        private final SessionIO io;
+        private final long seed;
+        private final Runnable onEnd; // or null
+        private volatile boolean finished;
+
+        private Session(int id, SessionIO io, long seed, Runnable onEnd) {
+            this.id = id;
+            this.io = io;
+            this.seed = seed;
+            this.onEnd = onEnd;
+        }
+
+        private void run() {
+            try {
+                new ValorGame(io, new Dice(seed)).start();
+            } catch (IllegalStateException e) {
+                if (!io.isClosed()) throw e; // a closed session ends by failing its next read
+            } finally {
+                io.flush();
+                finished = true;
+                sessions.remove(id);
+                if (onEnd != null) onEnd.run();
+            }
+        }
+
+        public int getId() { return id; }
+        public long getSeed() { return seed; }
+        public boolean isFinished() { return finished; }
+
+        /**
+         * Queue a line of player input.
+         */
+        public void send(String line) {
+            io.offer(line);
+        }
+
+        /**
+         * End the session; its game stops at its next read.
+         */
+        public void close() {
+            io.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        ValorServer server = new ValorServer();
+        try (ServerSocket listener = new ServerSocket(port)) {
+            System.out.println("Legends of Valor server on port " + port);
+            server.serve(listener);
+        }
+    }
+}
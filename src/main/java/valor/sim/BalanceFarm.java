@@ -0,0 +1,169 @@
+package valor.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import character.hero.Hero;
+import character.monster.Monster;
+import character.monster.MonsterStore;
+import event.EventBus;
+import util.Dice;
+import util.GameIO;
+import valor.HeroController;
+import valor.ValorEngine;
+import valor.ValorMap;
+import valor.ValorMapSpec;
+
+/**
+ * Plays large batches of seeded, headless Valor matches on a work-stealing pool
+ * and aggregates win rate, rounds-to-win and per-lane breach statistics.
+ *
+ * Usage: java -cp out valor.sim.BalanceFarm [matches] [scripted|random|mcts] [seed] [maxRounds] [threads]
+ *        [rows] [lanes] [list|dense] [sequential|parallel]
+ * Omitting rows/lanes plays on the standard 8x8 three-lane map.
+ * "mcts" searches every hero turn with a fixed number of playouts, one tree per
+ * match, so results are reproducible and threads scale across matches.
+ * "dense" keeps each match's monsters in a {@link MonsterStore}, for huge maps and waves.
+ * "parallel" also plans each monsters' turn lane by lane on the farm's pool; it pays off
+ * when there are fewer matches than threads, e.g. a few matches on a very wide map.
+ */
+public class BalanceFarm {
+
+    /**
+     * Hero behaviour used for every match in a run.
+     */
+    public enum Policy { SCRIPTED, RANDOM, MCTS }
+
+    private static final int BATCH_SIZE = 64; // Matches per leaf task
+    private static final int MCTS_ITERATIONS = 200; // Playouts per hero turn
+
+    private final HeroRoster roster;
+    private final Policy policy;
+    private final int maxRounds;
+    private final ValorMapSpec spec;
+    private final boolean denseMonsters;
+    private final boolean parallelMonsters;
+
+    public BalanceFarm(HeroRoster roster, Policy policy, int maxRounds) {
+        this(roster, policy, maxRounds, ValorMapSpec.standard());
+    }
+
+    public BalanceFarm(HeroRoster roster, Policy policy, int maxRounds, ValorMapSpec spec) {
+        this(roster, policy, maxRounds, spec, false, false);
+    }
+
+    public BalanceFarm(HeroRoster roster, Policy policy, int maxRounds, ValorMapSpec spec,
+                       boolean denseMonsters, boolean parallelMonsters) {
+        this.roster = roster;
+        this.policy = policy;
+        this.maxRounds = maxRounds;
+        this.spec = spec;
+        this.denseMonsters = denseMonsters;
+        this.parallelMonsters = parallelMonsters;
+    }
+
+    /**
+     * Play matches [0, matches) with seeds derived from baseSeed.
+     */
+    public BalanceStats run(long matches, long baseSeed, ForkJoinPool pool) {
+        return pool.invoke(new Batch(baseSeed, 0, matches));
+    }
+
+    /**
+     * Play one match from its seed and record the result.
+     */
+    public void playMatch(long seed, BalanceStats stats) {
+        Dice dice = new Dice(seed);
+        List<Hero> heroes = roster.randomLineup(dice, spec.getLaneCount());
+        ValorMap map = new ValorMap(spec, dice);
+
+        HeroController controller = switch (policy) {
+            case RANDOM -> new RandomPolicy(dice.split());
+            case MCTS -> new MctsPolicy(dice.split(), MCTS_ITERATIONS);
+            default -> new ScriptedPolicy();
+        };
+
+        List<Monster> monsters = denseMonsters ? new MonsterStore() : new ArrayList<>();
+        ValorEngine engine = new ValorEngine(GameIO.SILENT, dice, map, heroes, EventBus.NONE, monsters);
+        if (parallelMonsters) {
+            engine.setParallelMonsterTurns(ForkJoinTask.getPool()); // the farm's pool when run from a Batch
+        }
+        engine.run(controller, maxRounds);
+        stats.record(engine);
+    }
+
+    /**
+     * Derive the seed of match i so neighbouring matches get unrelated streams.
+     */
+    static long matchSeed(long baseSeed, long i) {
+        long z = baseSeed + (i + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Fork/join task covering a contiguous range of match indices.
+     */
+    @SuppressWarnings("serial") // never serialized
+    private class Batch extends RecursiveTask<BalanceStats> {
+        private final long baseSeed;
+        private final long from;
+        private final long to;
+
+        Batch(long baseSeed, long from, long to) {
+            this.baseSeed = baseSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BalanceStats compute() {
+            if (to - from <= BATCH_SIZE) {
+                BalanceStats stats = new BalanceStats();
+                for (long i = from; i < to; i++) {
+                    playMatch(matchSeed(baseSeed, i), stats);
+                }
+                return stats;
+            }
+
+            long mid = (from + to) >>> 1;
+            Batch left = new Batch(baseSeed, from, mid);
+            Batch right = new Batch(baseSeed, mid, to);
+            left.fork();
+            BalanceStats result = right.compute();
+            return result.merge(left.join());
+        }
+    }
+
+    public static void main(String[] args) {
+        long matches = args.length > 0 ? Long.parseLong(args[0]) : 10_000;
+        Policy policy = args.length > 1 ? Policy.valueOf(args[1].toUpperCase()) : Policy.SCRIPTED;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        int maxRounds = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        ValorMapSpec spec = args.length > 6
+                ? new ValorMapSpec(Integer.parseInt(args[5]), Integer.parseInt(args[6]), 2, 1)
+                : ValorMapSpec.standard();
+        boolean dense = args.length > 7 && args[7].equalsIgnoreCase("dense");
+        boolean parallel = args.length > 8 && args[8].equalsIgnoreCase("parallel");
+
+        BalanceFarm farm = new BalanceFarm(new HeroRoster("src/data"), policy, maxRounds, spec, dense, parallel);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+
+        long start = System.nanoTime();
+        BalanceStats stats = farm.run(matches, seed, pool);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+
+        System.out.println("=== LEGENDS OF VALOR BALANCE FARM ===");
+        System.out.println("Policy: " + policy + " | Seed: " + seed + " | Threads: " + threads);
+        System.out.println("Map: " + spec + (dense ? " | Dense monster store" : "")
+                + (parallel ? " | Parallel monster turns" : ""));
+        System.out.print(stats);
+        System.out.printf("Elapsed: %.2fs (%.0f matches/s)%n", seconds, matches / seconds);
+    }
+}
@@ -0,0 +1,129 @@
+package valor.sim;
+
+import java.util.Arrays;
+
+import character.hero.Hero;
+import character.monster.Monster;
+import valor.ValorEngine;
+import valor.ValorMap;
+
+/**
+ * Aggregated results of many simulated Valor matches.
+ * Not thread-safe: each worker fills its own instance and results are merged.
+ */
+public class BalanceStats {
+    private long matches;
+    private long heroWins;
+    private long monsterWins;
+    private long timeouts;
+    private long heroWinRounds;
+    private long monsterWinRounds;
+    private int fastestWin = Integer.MAX_VALUE;
+    private int slowestWin;
+    private long[] laneBreaches = new long[0];
+    private long[] laneVictories = new long[0];
+
+    /**
+     * Record the result of a finished (or timed out) match.
+     */
+    public void record(ValorEngine engine) {
+        matches++;
+        int rounds = engine.getCurrentRound();
+        ValorMap map = engine.getMap();
+        ensureLanes(map.getSpec().getLaneCount());
+
+        switch (engine.getOutcome()) {
+            case HEROES_WIN:
+                heroWins++;
+                heroWinRounds += rounds;
+                fastestWin = Math.min(fastestWin, rounds);
+                slowestWin = Math.max(slowestWin, rounds);
+                for (Hero h : engine.getHeroes()) {
+                    if (h.isAlive() && h.getRow() == map.getMonsterNexusRow()) {
+                        countLane(laneVictories, map.getLaneForColumn(h.getCol()));
+                    }
+                }
+                break;
+            case MONSTERS_WIN:
+                monsterWins++;
+                monsterWinRounds += rounds;
+                for (Monster m : engine.getMonsters()) {
+                    if (m.isAlive() && m.getRow() == map.getHeroNexusRow()) {
+                        countLane(laneBreaches, map.getLaneForColumn(m.getCol()));
+                    }
+                }
+                break;
+            default:
+                timeouts++;
+                break;
+        }
+    }
+
+    private void ensureLanes(int lanes) {
+        if (laneBreaches.length < lanes) {
+            laneBreaches = Arrays.copyOf(laneBreaches, lanes);
+            laneVictories = Arrays.copyOf(laneVictories, lanes);
+        }
+    }
+
+    private static void countLane(long[] counts, int lane) {
+        if (lane >= 0 && lane < counts.length) counts[lane]++;
+    }
+
+    /**
+     * Add another worker's results into this one.
+     */
+    public BalanceStats merge(BalanceStats other) {
+        matches += other.matches;
+        heroWins += other.heroWins;
+        monsterWins += other.monsterWins;
+        timeouts += other.timeouts;
+        heroWinRounds += other.heroWinRounds;
+        monsterWinRounds += other.monsterWinRounds;
+        fastestWin = Math.min(fastestWin, other.fastestWin);
+        slowestWin = Math.max(slowestWin, other.slowestWin);
+        ensureLanes(other.laneBreaches.length);
+        for (int i = 0; i < other.laneBreaches.length; i++) {
+            laneBreaches[i] += other.laneBreaches[i];
+            laneVictories[i] += other.laneVictories[i];
+        }
+        return this;
+    }
+
+    public long getMatches() { return matches; }
+    public long getHeroWins() { return heroWins; }
+    public long getMonsterWins() { return monsterWins; }
+    public long getTimeouts() { return timeouts; }
+    public int getLaneCount() { return laneBreaches.length; }
+    public long getLaneBreaches(int lane) { return laneBreaches[lane]; }
+    public long getLaneVictories(int lane) { return laneVictories[lane]; }
+
+    public double getHeroWinRate() {
+        return matches == 0 ? 0 : (double) heroWins / matches;
+    }
+
+    public double getAverageRoundsToWin() {
+        return heroWins == 0 ? 0 : (double) heroWinRounds / heroWins;
+    }
+
+    public double getAverageRoundsToLose() {
+        return monsterWins == 0 ? 0 : (double) monsterWinRounds / monsterWins;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Matches: ").append(matches).append('\n');
+        sb.append(String.format("Hero win rate: %.2f%% (%d wins, %d losses, %d timeouts)%n",
+                getHeroWinRate() * 100, heroWins, monsterWins, timeouts));
+        sb.append(String.format("Rounds to win: avg %.2f, min %d, max %d%n",
+                getAverageRoundsToWin(), heroWins == 0 ? 0 : fastestWin, slowestWin));
+        sb.append(String.format("Rounds to lose: avg %.2f%n", getAverageRoundsToLose()));
+        for (int i = 0; i < laneBreaches.length; i++) {
+            sb.append("Lane ").append(i + 1)
+                    .append(": breaches ").append(laneBreaches[i])
+                    .append(", hero victories ").append(laneVictories[i]).append('\n');
+        }
+        return sb.toString();
+    }
+}
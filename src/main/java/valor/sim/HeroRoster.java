@@ -0,0 +1,86 @@
+package valor.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import character.hero.Hero;
+import character.hero.Paladin;
+import character.hero.Sorcerer;
+import character.hero.Warrior;
+import util.Dice;
+import util.FileLoader;
+
+/**
+ * Hero data loaded once for a simulation run.
+ * Builds fresh hero lineups per match without touching the data files again.
+ */
+public class HeroRoster {
+    private final List<String[]> rows = new ArrayList<>();
+    private final List<String> classes = new ArrayList<>();
+
+    public HeroRoster(String dataDir) {
+        add(dataDir + "/Warriors.txt", "Warrior");
+        add(dataDir + "/Paladins.txt", "Paladin");
+        add(dataDir + "/Sorcerers.txt", "Sorcerer");
+    }
+
+    private void add(String path, String heroClass) {
+        for (String[] row : FileLoader.loadFile(path)) {
+            rows.add(row);
+            classes.add(heroClass);
+        }
+    }
+
+    /**
+     * Number of heroes available.
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Build three distinct random heroes, one per lane of the standard map.
+     */
+    public List<Hero> randomLineup(Dice dice) {
+        return randomLineup(dice, 3);
+    }
+
+    /**
+     * Build one random hero per lane, distinct while the roster allows it.
+     */
+    public List<Hero> randomLineup(Dice dice, int lanes) {
+        List<Hero> lineup = new ArrayList<>(lanes);
+        int[] picked = new int[lanes];
+        while (lineup.size() < lanes) {
+            int index = dice.nextInt(rows.size());
+            boolean duplicate = false;
+            for (int i = 0; i < lineup.size(); i++) {
+                if (picked[i] == index) duplicate = true;
+            }
+            if (duplicate && rows.size() >= lanes) continue;
+            picked[lineup.size()] = index;
+            lineup.add(create(index));
+        }
+        return lineup;
+    }
+
+    /**
+     * Create a fresh hero from the given roster entry.
+     */
+    public Hero create(int index) {
+        String[] row = rows.get(index);
+        String name = row[0];
+        int mana = Integer.parseInt(row[1]);
+        int strength = Integer.parseInt(row[2]);
+        int agility = Integer.parseInt(row[3]);
+        int dexterity = Integer.parseInt(row[4]);
+        int money = Integer.parseInt(row[5]);
+        int experience = Integer.parseInt(row[6]);
+
+        switch (classes.get(index)) {
+            case "Warrior": return new Warrior(name, mana, strength, agility, dexterity, money, experience);
+            case "Paladin": return new Paladin(name, mana, strength, agility, dexterity, money, experience);
+            default: return new Sorcerer(name, mana, strength, agility, dexterity, money, experience);
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package valor.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import character.hero.Hero;
+import character.monster.Monster;
+import item.Potion;
+import item.Spell;
+import util.Dice;
+import util.TranspositionTable;
+import valor.HeroController;
+import valor.ValorActions;
+import valor.ValorCommand;
+import valor.ValorEngine;
+import valor.ValorMap;
+import valor.ValorSnapshot;
+import valor.Zobrist;
+
+/**
+ * Monte Carlo tree search hero policy.
+ *
+ * Each turn the match is forked once per worker ({@link ValorEngine#fork()}),
+ * and every worker grows its own tree from the same position (root
+ * parallelism). A tree node is one hero's decision; its children are that
+ * hero's candidate actions: moves, attacks and spells on monsters in range,
+ * potions, teleports and recall. An iteration restores the worker's fork to the
+ * root snapshot with fresh dice, walks down the tree by UCB1 and adds one
+ * node. It then plays out a few rounds with {@link ScriptedPolicy} heroes
+ * against the engine's own monsters' turn. The search is open loop: a node
+ * stands for a sequence of actions, and an action that is illegal in a sampled
+ * state is played as a pass.
+ *
+ * The workers' root visit counts are summed and the most visited action is
+ * played. The search stops at the time budget or the iteration budget,
+ * whichever comes first. With an iteration budget and no time budget, the
+ * choices depend only on the seed, so matches can be replayed.
+ *
+ * With a {@link TranspositionTable}, leaf positions are keyed by their Zobrist
+ * key and the hero to move. Positions reached often enough, by any path, worker
+ * or earlier turn, reuse their average playout score instead of playing out
+ * again. The key covers positions and HP buckets, not mana or items, so this
+ * trades some accuracy for more iterations.
+ */
+public class MctsPolicy implements HeroController {
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final int DEFAULT_HORIZON = 4; // rounds played out past the root
+
+    private static final char[] DIRECTIONS = {'W', 'A', 'S', 'D'};
+
+    // Table entries: playouts behind the score (15 bits) | score sum in 1/65536ths (32 bits)
+    private static final int REUSE_SAMPLES = 16;      // playouts a leaf needs before its score is reused
+    private static final int MAX_SAMPLES = (1 << 15) - 1;
+    private static final double SCORE_SCALE = 1 << 16;
+
+    private final Dice dice;
+    private final int workers;
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final int horizon;
+    private final HeroController rollout = new ScriptedPolicy();
+    private TranspositionTable table; // null: always play out
+
+    private long turns;
+    private long iterations;
+
+    /**
+     * Single-threaded search of a fixed number of iterations per turn;
+     * reproducible from the dice seed.
+     */
+    public MctsPolicy(Dice dice, int iterations) {
+        this(dice, 1, null, 0, iterations, DEFAULT_HORIZON);
+    }
+
+    /**
+     * Root-parallel search for a fixed time per turn.
+     *
+     * @param workers independent trees, each on its own copy of the match
+     * @param pool    runs the workers (ignored when already on a fork/join worker)
+     */
+    public MctsPolicy(Dice dice, long budgetMillis, int workers, ForkJoinPool pool) {
+        this(dice, workers, pool, budgetMillis * 1_000_000L, 0, DEFAULT_HORIZON);
+    }
+
+    /**
+     * @param budgetNanos   time per turn, or 0 for none
+     * @param maxIterations iterations per turn over all workers, or 0 for none
+     * @param horizon       rounds played past the root before a position is scored
+     */
+    public MctsPolicy(Dice dice, int workers, ForkJoinPool pool, long budgetNanos, int maxIterations, int horizon) {
+        if (budgetNanos <= 0 && maxIterations <= 0) {
+            throw new IllegalArgumentException("Need a time or iteration budget");
+        }
+        if (workers < 1 || (workers > 1 && pool == null)) {
+            throw new IllegalArgumentException("Need at least one worker, and a pool for more");
+        }
+        this.dice = dice;
+        this.workers = workers;
+        this.pool = pool;
+        this.budgetNanos = budgetNanos;
+        this.maxIterations = maxIterations;
+        this.horizon = Math.max(1, horizon);
+    }
+
+    @Override
+    public void takeTurn(ValorEngine engine, Hero hero) {
+        int heroIndex = engine.getHeroes().indexOf(hero);
+        List<ValorCommand> commands = candidates(engine, hero);
+        ValorCommand choice = commands.size() == 1 ? commands.get(0) : search(engine, heroIndex, commands.size());
+        if (choice == null || !engine.apply(hero, choice)) {
+            rollout.takeTurn(engine, hero);
+        }
+        turns++;
+    }
+
+    /**
+     * Share playout scores of leaf positions through the given table (null to stop).
+     * One table can serve several policies and threads at once.
+     */
+    public void setTranspositionTable(TranspositionTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Turns searched so far.
+     */
+    public long getTurns() {
+        return turns;
+    }
+
+    /**
+     * Iterations (playouts) run so far, over all workers.
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    private ValorCommand search(ValorEngine engine, int heroIndex, int choices) {
+        if (table != null) {
+            table.newGeneration(); // entries from earlier turns go first
+        }
+        long deadline = budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        int perWorker = maxIterations > 0 ? (maxIterations + workers - 1) / workers : Integer.MAX_VALUE;
+
+        Worker[] tasks = new Worker[workers];
+        for (int w = 0; w < workers; w++) {
+            tasks[w] = new Worker(engine.fork(), heroIndex, dice.split(), deadline, perWorker);
+        }
+        if (workers == 1) {
+            tasks[0].compute();
+        } else if (ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+
+        // Root parallelism: add up every worker's visits per root action
+        long[] visits = new long[choices];
+        double[] value = new double[choices];
+        for (Worker task : tasks) {
+            iterations += task.iterations;
+            Node[] children = task.root.children;
+            if (children == null) continue;
+            for (int k = 0; k < choices; k++) {
+                if (children[k] != null) {
+                    visits[k] += children[k].visits;
+                    value[k] += children[k].value;
+                }
+            }
+        }
+        int best = -1;
+        for (int k = 0; k < choices; k++) {
+            if (visits[k] == 0) continue;
+            if (best < 0 || visits[k] > visits[best]
+                    || (visits[k] == visits[best] && value[k] > value[best])) {
+                best = k;
+            }
+        }
+        return best < 0 ? null : tasks[0].root.commands[best];
+    }
+
+    /**
+     * Actions worth trying for a hero, in a fixed order so every worker's
+     * root has the same children.
+     */
+    static List<ValorCommand> candidates(ValorEngine engine, Hero hero) {
+        List<ValorCommand> commands = new ArrayList<>();
+        ValorMap map = engine.getMap();
+        for (char dir : DIRECTIONS) {
+            int row = hero.getRow() + (dir == 'S' ? 1 : dir == 'W' ? -1 : 0);
+            int col = hero.getCol() + (dir == 'D' ? 1 : dir == 'A' ? -1 : 0);
+            if (map.inBounds(row, col) && map.getCell(row, col).isPassableForHero()) {
+                commands.add(ValorCommand.move(dir));
+            }
+        }
+
+        List<Monster> monsters = engine.getMonsters();
+        List<Spell> spells = hero.getInventory().getSpells();
+        for (Monster m : ValorActions.getMonstersInAttackRange(hero, monsters)) {
+            int index = monsters.indexOf(m);
+            commands.add(ValorCommand.attack(index));
+            Spell previous = null;
+            for (Spell spell : spells) { // one entry per copy; copies are adjacent
+                if (spell != previous && hero.getMana() >= spell.getManaCost()) {
+                    commands.add(ValorCommand.castSpell(spell, index));
+                }
+                previous = spell;
+            }
+        }
+
+        Potion previous = null;
+        for (Potion potion : hero.getInventory().getPotions()) {
+            if (potion != previous) commands.add(ValorCommand.usePotion(potion));
+            previous = potion;
+        }
+
+        List<Hero> heroes = engine.getHeroes();
+        for (Hero target : ValorActions.getTeleportTargets(hero, heroes)) {
+            commands.add(ValorCommand.teleport(heroes.indexOf(target)));
+        }
+        if (hero.getRow() != map.getHeroNexusRow()) {
+            commands.add(ValorCommand.recall());
+        }
+        if (commands.isEmpty()) {
+            commands.add(ValorCommand.pass());
+        }
+        return commands;
+    }
+
+    /**
+     * One hero's decision in the tree. value is the sum of playout scores.
+     */
+    private static final class Node {
+        ValorCommand[] commands; // set when the node is first reached
+        Node[] children;
+        int expanded;            // children[0 .. expanded) exist
+        int visits;
+        double value;
+
+        void expand(List<ValorCommand> candidates) {
+            commands = candidates.toArray(new ValorCommand[0]);
+            children = new Node[commands.length];
+        }
+
+        int select() {
+            double logVisits = Math.log(visits);
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int k = 0; k < children.length; k++) {
+                Node child = children[k];
+                double score = child.value / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = k;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * One tree, grown on a private copy of the match.
+     */
+    @SuppressWarnings("serial") // never serialized
+    private final class Worker extends RecursiveAction {
+        private final ValorEngine sim;
+        private final ValorSnapshot start;
+        private final int rootHero;
+        private final Dice rng;
+        private final long deadline;
+        private final int maxIterations;
+        private final int lastRound;
+        private final Node root = new Node();
+        private final List<Node> path = new ArrayList<>();
+        private int iterations;
+
+        Worker(ValorEngine sim, int rootHero, Dice rng, long deadline, int maxIterations) {
+            this.sim = sim;
+            this.start = sim.snapshot();
+            this.rootHero = rootHero;
+            this.rng = rng;
+            this.deadline = deadline;
+            this.maxIterations = maxIterations;
+            this.lastRound = sim.getCurrentRound() + horizon;
+        }
+
+        @Override
+        protected void compute() {
+            while (iterations < maxIterations && (iterations == 0 || System.nanoTime() < deadline)) {
+                iterate();
+                iterations++;
+            }
+        }
+
+        private void iterate() {
+            sim.restore(start);
+            sim.getDice().setState(rng.nextLong()); // a different sample of dodges and spawns each time
+
+            path.clear();
+            path.add(root);
+            Node node = root;
+            int heroIndex = rootHero;
+            boolean added = false;
+            while (true) {
+                Hero hero = sim.getHeroes().get(heroIndex);
+                if (node.commands == null) node.expand(candidates(sim, hero));
+
+                int k;
+                if (node.expanded < node.children.length) {
+                    k = node.expanded++;
+                    node.children[k] = new Node();
+                    added = true;
+                } else {
+                    k = node.select();
+                }
+                if (!sim.apply(hero, node.commands[k])) {
+                    sim.apply(hero, ValorCommand.pass());
+                }
+                node = node.children[k];
+                path.add(node);
+
+                heroIndex = nextDecision(heroIndex);
+                if (heroIndex < 0 || added) break;
+            }
+
+            double score = heroIndex < 0 ? score() : evaluate(heroIndex);
+            for (Node n : path) {
+                n.visits++;
+                n.value += score;
+            }
+        }
+
+        /**
+         * Index of the next living hero to act after the given one, finishing
+         * rounds as needed, or -1 once the match is over or past the horizon.
+         */
+        private int nextDecision(int after) {
+            List<Hero> heroes = sim.getHeroes();
+            while (true) {
+                for (int i = after + 1; i < heroes.size(); i++) {
+                    if (heroes.get(i).isAlive()) return i;
+                }
+                if (sim.finishRound() != ValorEngine.Outcome.IN_PROGRESS || sim.getCurrentRound() >= lastRound) {
+                    return -1;
+                }
+                sim.beginRound();
+                after = -1;
+            }
+        }
+
+        /**
+         * Score of the position with the given hero to move: a playout, or
+         * the average of earlier playouts from the same position.
+         */
+        private double evaluate(int heroIndex) {
+            TranspositionTable tt = table;
+            if (tt == null) return playout(heroIndex);
+
+            long key = sim.positionKey() ^ Zobrist.toMove(heroIndex);
+            long entry = tt.get(key);
+            int samples = entry == TranspositionTable.MISSING ? 0 : (int) (entry >>> 32);
+            long sum = entry == TranspositionTable.MISSING ? 0 : entry & 0xFFFFFFFFL;
+            if (samples >= REUSE_SAMPLES) {
+                return sum / SCORE_SCALE / samples;
+            }
+            double score = playout(heroIndex);
+            samples++;
+            sum += Math.round(score * SCORE_SCALE);
+            if (samples <= MAX_SAMPLES) {
+                tt.put(key, (long) samples << 32 | sum, Math.min(samples, 255));
+            }
+            return score;
+        }
+
+        /**
+         * Finish the round from the given hero with the rollout policy, then
+         * play whole rounds up to the horizon.
+         */
+        private double playout(int heroIndex) {
+            List<Hero> heroes = sim.getHeroes();
+            for (int i = heroIndex; i < heroes.size(); i++) {
+                Hero hero = heroes.get(i);
+                if (hero.isAlive()) rollout.takeTurn(sim, hero);
+            }
+            sim.finishRound();
+            while (!sim.isOver() && sim.getCurrentRound() < lastRound) {
+                sim.playRound(rollout);
+            }
+            return score();
+        }
+
+        /**
+         * 1 for a win, 0 for a loss; otherwise between, rewarding the heroes'
+         * best push north, penalizing the monsters' best push south, and
+         * counting the heroes' remaining health.
+         */
+        private double score() {
+            switch (sim.getOutcome()) {
+                case HEROES_WIN: return 1;
+                case MONSTERS_WIN: return 0;
+                default: break;
+            }
+            ValorMap map = sim.getMap();
+            int heroNexus = map.getHeroNexusRow();
+            double length = Math.abs(map.getMonsterNexusRow() - heroNexus);
+
+            double heroAdvance = 0;
+            double health = 0;
+            for (Hero h : sim.getHeroes()) {
+                if (h.isAlive()) heroAdvance = Math.max(heroAdvance, Math.abs(h.getRow() - heroNexus) / length);
+                health += (double) h.getHP() / h.getMaxHP();
+            }
+            health /= sim.getHeroes().size();
+
+            double monsterAdvance = 0;
+            for (Monster m : sim.getMonsters()) {
+                if (m.isAlive()) monsterAdvance = Math.max(monsterAdvance, 1 - Math.abs(m.getRow() - heroNexus) / length);
+            }
+            return 0.5 + 0.3 * (heroAdvance - monsterAdvance) + 0.2 * (health - 0.5);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package valor.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import character.hero.Hero;
+import character.monster.Monster;
+import item.Potion;
+import item.Spell;
+import util.Dice;
+import valor.HeroController;
+import valor.ValorActions;
+import valor.ValorCommand;
+import valor.ValorEngine;
+
+/**
+ * Uniformly random hero policy over the actions that make sense this turn.
+ * Candidates that turn out to be illegal are discarded until one succeeds.
+ */
+public class RandomPolicy implements HeroController {
+    private static final char[] DIRECTIONS = {'W', 'A', 'S', 'D'};
+
+    private final Dice dice;
+    private final List<ValorCommand> candidates = new ArrayList<>();
+
+    public RandomPolicy(Dice dice) {
+        this.dice = dice;
+    }
+
+    @Override
+    public void takeTurn(ValorEngine engine, Hero hero) {
+        candidates.clear();
+        for (char dir : DIRECTIONS) {
+            candidates.add(ValorCommand.move(dir));
+        }
+
+        List<Monster> monsters = engine.getMonsters();
+        for (Monster m : ValorActions.getMonstersInAttackRange(hero, monsters)) {
+            int index = monsters.indexOf(m);
+            candidates.add(ValorCommand.attack(index));
+            List<Spell> spells = hero.getInventory().getSpells();
+            if (!spells.isEmpty()) {
+                candidates.add(ValorCommand.castSpell(spells.get(dice.nextInt(spells.size())), index));
+            }
+        }
+
+        List<Potion> potions = hero.getInventory().getPotions();
+        if (!potions.isEmpty() && hero.getHP() < hero.getMaxHP()) {
+            candidates.add(ValorCommand.usePotion(potions.get(dice.nextInt(potions.size()))));
+        }
+
+        while (!candidates.isEmpty()) {
+            ValorCommand command = candidates.remove(dice.nextInt(candidates.size()));
+            if (engine.apply(hero, command)) return;
+        }
+        engine.apply(hero, ValorCommand.pass());
+    }
+}
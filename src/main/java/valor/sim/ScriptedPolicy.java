@@ -0,0 +1,51 @@
+package valor.sim;
+
+import java.util.List;
+
+import character.hero.Hero;
+import character.monster.Monster;
+import item.Potion;
+import valor.HeroController;
+import valor.ValorActions;
+import valor.ValorCommand;
+import valor.ValorEngine;
+
+/**
+ * Simple greedy hero policy: heal when low, attack the weakest monster in range,
+ * otherwise push north, sidestepping when blocked.
+ */
+public class ScriptedPolicy implements HeroController {
+    private static final double HEAL_THRESHOLD = 0.3;
+
+    @Override
+    public void takeTurn(ValorEngine engine, Hero hero) {
+        if (hero.getHP() < hero.getMaxHP() * HEAL_THRESHOLD) {
+            Potion healing = findHealingPotion(hero);
+            if (healing != null && engine.apply(hero, ValorCommand.usePotion(healing))) return;
+        }
+
+        List<Monster> inRange = ValorActions.getMonstersInAttackRange(hero, engine.getMonsters());
+        if (!inRange.isEmpty()) {
+            Monster weakest = inRange.get(0);
+            for (Monster m : inRange) {
+                if (m.getCurrentHP() < weakest.getCurrentHP()) weakest = m;
+            }
+            if (engine.apply(hero, ValorCommand.attack(engine.getMonsters().indexOf(weakest)))) return;
+        }
+
+        // Follow the lane's shortest path north, then fall back to any open step
+        char step = engine.getMap().getPathing().nextHeroStep(hero.getRow(), hero.getCol());
+        if (step != 0 && step != 'W' && engine.apply(hero, ValorCommand.move(step))) return;
+        if (engine.apply(hero, ValorCommand.move('W'))) return;
+        if (engine.apply(hero, ValorCommand.move('A'))) return;
+        if (engine.apply(hero, ValorCommand.move('D'))) return;
+        engine.apply(hero, ValorCommand.pass());
+    }
+
+    private static Potion findHealingPotion(Hero hero) {
+        for (Potion p : hero.getInventory().getPotions()) {
+            if (p.getAffectedAttributes().contains("Health")) return p;
+        }
+        return null;
+    }
+}